@@ -0,0 +1,527 @@
+package api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import common.*;
+import exceptions.ServiceException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import staff.InternshipReportService;
+import staff.StaffReviewFilters;
+import staff.StaffReviewService;
+
+/**
+ * HTTP/JSON front end over the same services the console controllers use, served on
+ * the loopback interface by a fixed pool of {@value #WORKER_THREADS} daemon worker
+ * threads. Parameters are read from the query string and, for {@code POST}, from a
+ * form-encoded body. The last column names the token a route needs.
+ *
+ * <pre>
+ * GET    /api/internships?level=&amp;company=&amp;status=&amp;major=&amp;sort=Soonest|Latest
+ * GET    /api/students/{studentId}/applications                           student or staff
+ * POST   /api/applications                     [studentId], internshipId  student
+ * POST   /api/applications/{id}/withdrawal     [studentId]                student
+ * POST   /api/applications/{id}/accept         [studentId]                student
+ * POST   /api/applications/{id}/approve|reject [crId]                     representative
+ * POST   /api/sessions                         username, password
+ * DELETE /api/sessions
+ * GET    /api/review/{queue}                                              staff
+ * POST   /api/review/{queue}/{id}/approve|reject                          staff
+ *        where {queue} is internships, withdrawals or registrations
+ * GET    /api/report                                                      staff
+ *        filtered by status, major, level, company and placement=Any|Filled|Unfilled
+ * GET    /api/metrics/demand                                              staff
+ * GET    /api/metrics/admission                                           staff
+ * GET    /api/metrics/logins                                              staff
+ * </pre>
+ *
+ * <p>Every operation on applications, the review queues, the report and the metrics
+ * needs the token returned by {@code POST /api/sessions}, sent as
+ * {@code Authorization: Bearer}. Student and representative operations act for the
+ * token's account; a {@code studentId} or {@code crId} parameter is optional and must
+ * name that same account. The review queues, the report and the metrics need a staff
+ * token. A missing or expired token gets 401 and a token for the wrong account or role
+ * 403.</p>
+ */
+public final class ApiServer {
+
+    /** Port used when none is supplied. */
+    public static final int DEFAULT_PORT = 8080;
+
+    private static final int TOP_K = 10;
+    /** Requests mostly wait on file I/O, so the pool is sized well above the core count. */
+    private static final int WORKER_THREADS = 32;
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final EntityStore entityStore;
+    private final ApplicationService applications;
+    private final StaffReviewService reviews;
+    private final InternshipReportService reports;
+    private final ApiSessions sessions;
+
+    /**
+     * Binds the server to a loopback port without starting it.
+     *
+     * @param port        local port to listen on
+     * @param entityStore store shared by every request
+     * @throws IOException when the port cannot be opened
+     */
+    public ApiServer(int port, EntityStore entityStore) throws IOException {
+        this.entityStore = entityStore;
+        this.applications = new ApplicationService(entityStore);
+        this.reviews = new StaffReviewService(entityStore);
+        this.reports = new InternshipReportService(entityStore);
+        this.sessions = new ApiSessions(entityStore);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.createContext("/api/", this::handle);
+        this.workers = Executors.newFixedThreadPool(WORKER_THREADS, task -> {
+            Thread worker = new Thread(task, "api-worker");
+            worker.setDaemon(true);
+            return worker;
+        });
+        this.server.setExecutor(workers);
+    }
+
+    /**
+     * Starts serving requests in the background.
+     */
+    public void start() {
+        server.start();
+        System.out.println("HTTP API listening on http://" + server.getAddress().getHostString()
+                + ":" + server.getAddress().getPort() + "/api/");
+    }
+
+    /**
+     * Stops the server, waiting up to the given delay for exchanges in progress.
+     *
+     * @param delaySeconds maximum wait in seconds
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        workers.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Response response;
+        try {
+            List<String> path = segments(exchange.getRequestURI().getRawPath());
+            Map<String, String> params = parameters(exchange);
+            response = route(exchange.getRequestMethod(), path, params,
+                    exchange.getRequestHeaders().getFirst("Authorization"));
+        } catch (ServiceException ex) {
+            int status = switch (ex.getReason()) {
+                case NOT_FOUND -> 404;
+                case CONFLICT -> 409;
+                case INVALID -> 400;
+                case BUSY -> 429;
+                case UNAUTHENTICATED -> 401;
+                case FORBIDDEN -> 403;
+            };
+            response = error(status, ex.getMessage());
+        } catch (RuntimeException ex) {
+            System.err.println("API request failed: " + ex);
+            response = error(500, "Internal server error");
+        }
+        byte[] body = Json.write(response.body()).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status(), body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private Response route(String method, List<String> path, Map<String, String> params, String authorization)
+            throws ServiceException {
+        String resource = path.isEmpty() ? "" : path.get(0);
+        boolean get = "GET".equals(method);
+        boolean post = "POST".equals(method);
+        switch (resource) {
+            case "internships" -> {
+                if (get && path.size() == 1) {
+                    return ok(listInternships(params));
+                }
+            }
+            case "students" -> {
+                if (get && path.size() == 3 && "applications".equals(path.get(2))) {
+                    sessions.requireAccountOrStaff(authorization, ApiSessions.STUDENT_ROLE, path.get(1));
+                    return ok(toJson(applications.listForStudent(path.get(1), params.get("status"))));
+                }
+            }
+            case "applications" -> {
+                if (post && path.size() == 1) {
+                    String studentId = sessions.requireAccount(authorization, ApiSessions.STUDENT_ROLE, params.get("studentId"));
+                    ApplicationEntity created = applications.apply(studentId, required(params, "internshipId"));
+                    return new Response(201, applicationJson(created));
+                }
+                if (post && path.size() == 3) {
+                    return ok(applicationAction(path.get(1), path.get(2), params, authorization));
+                }
+            }
+            case "sessions" -> {
+                if (post && path.size() == 1) {
+                    Map<String, Object> session = new LinkedHashMap<>();
+                    session.put("token", sessions.open(required(params, "username"), required(params, "password")));
+                    session.put("expiresAfterIdleSeconds", ApiSessions.IDLE_TIMEOUT_MILLIS / 1000);
+                    return new Response(201, session);
+                }
+                if ("DELETE".equals(method) && path.size() == 1) {
+                    sessions.close(authorization);
+                    return ok(result("session", "close"));
+                }
+            }
+            case "review" -> {
+                sessions.requireStaff(authorization);
+                if (get && path.size() == 2) {
+                    return ok(reviewQueue(path.get(1)));
+                }
+                if (post && path.size() == 4) {
+                    return ok(reviewDecision(path.get(1), path.get(2), decision(path.get(3))));
+                }
+            }
+            case "metrics" -> {
+                sessions.requireStaff(authorization);
+                if (get && path.size() == 2 && "demand".equals(path.get(1))) {
+                    return ok(demandMetrics());
+                }
+                if (get && path.size() == 2 && "admission".equals(path.get(1))) {
+                    return ok(admissionMetrics());
+                }
+                if (get && path.size() == 2 && "logins".equals(path.get(1))) {
+                    return ok(loginMetrics());
+                }
+            }
+            case "report" -> {
+                if (get && path.size() == 1) {
+                    sessions.requireStaff(authorization);
+                    return ok(report(params));
+                }
+            }
+            default -> {
+                return error(404, "Unknown resource: /" + String.join("/", path));
+            }
+        }
+        return error(get || post || "DELETE".equals(method) ? 404 : 405, "Unsupported " + method + " /api/" + String.join("/", path));
+    }
+
+    private List<Map<String, Object>> listInternships(Map<String, String> params) {
+        StudentFilterService.StudentFilters filters = new StudentFilterService.StudentFilters(
+                filterValue(params.get("level")),
+                filterValue(params.get("company")),
+                filterValue(params.get("status")),
+                filterValue(params.get("major")),
+                filterValue(params.get("sort")));
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (InternshipEntity internship : StudentFilterService.findInternships(entityStore, filters)) {
+            result.add(internshipJson(internship));
+        }
+        return result;
+    }
+
+    private Map<String, Object> applicationAction(String applicationId, String action, Map<String, String> params,
+                                                  String authorization) throws ServiceException {
+        switch (action) {
+            case "withdrawal" -> applications.requestWithdrawal(student(authorization, params), applicationId);
+            case "accept" -> applications.acceptOffer(student(authorization, params), applicationId);
+            case "approve" -> applications.approve(applications.companyOf(representative(authorization, params)), applicationId);
+            case "reject" -> applications.reject(applications.companyOf(representative(authorization, params)), applicationId);
+            default -> throw new ServiceException(ServiceException.Reason.INVALID, "Unknown action: " + action);
+        }
+        return result(applicationId, action);
+    }
+
+    private String student(String authorization, Map<String, String> params) throws ServiceException {
+        return sessions.requireAccount(authorization, ApiSessions.STUDENT_ROLE, params.get("studentId"));
+    }
+
+    private String representative(String authorization, Map<String, String> params) throws ServiceException {
+        return sessions.requireAccount(authorization, ApiSessions.CR_ROLE, params.get("crId"));
+    }
+
+    private List<Map<String, Object>> reviewQueue(String queue) throws ServiceException {
+        StaffReviewFilters filters = new StaffReviewFilters();
+        List<Map<String, Object>> result = new ArrayList<>();
+        switch (queue) {
+            case "internships" -> reviews.pendingInternships(filters).forEach(item -> result.add(internshipJson(item)));
+            case "withdrawals" -> reviews.pendingWithdrawals(filters).forEach(item -> result.add(applicationJson(item)));
+            case "registrations" -> reviews.pendingRegistrations(filters).forEach(item -> result.add(registrationJson(item)));
+            default -> throw new ServiceException(ServiceException.Reason.NOT_FOUND, "Unknown review queue: " + queue);
+        }
+        return result;
+    }
+
+    private Map<String, Object> reviewDecision(String queue, String id, boolean approve) throws ServiceException {
+        switch (queue) {
+            case "internships" -> reviews.decideInternship(id, approve);
+            case "withdrawals" -> reviews.decideWithdrawal(id, approve);
+            case "registrations" -> reviews.decideRegistration(id, approve);
+            default -> throw new ServiceException(ServiceException.Reason.NOT_FOUND, "Unknown review queue: " + queue);
+        }
+        return result(id, approve ? "approve" : "reject");
+    }
+
+    private Map<String, Object> report(Map<String, String> params) throws ServiceException {
+        StaffReviewFilters filters = new StaffReviewFilters();
+        addFilterValues(filters.statuses(), params.get("status"));
+        addFilterValues(filters.majors(), params.get("major"));
+        addFilterValues(filters.levels(), params.get("level"));
+        addFilterValues(filters.companies(), params.get("company"));
+        String placement = params.get("placement");
+        if (placement != null && !placement.isBlank()) {
+            try {
+                filters.placementStatus(StaffReviewFilters.PlacementStatus.valueOf(placement.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                throw new ServiceException(ServiceException.Reason.INVALID, "Unknown placement status: " + placement);
+            }
+        }
+        InternshipReportService.ReportSummary summary = reports.summarize(filters);
+        InternshipReportService.DateStats dates = summary.dateStats();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("matchedInternships", summary.matchedInternships());
+        report.put("totalApplications", summary.totalApplications());
+        report.put("acceptedApplications", summary.acceptedApplications());
+        report.put("internshipsWithApplications", summary.internshipsWithApplications());
+        report.put("uniqueApplicants", summary.uniqueApplicants());
+        report.put("byStatus", summary.statusCounts());
+        report.put("byMajor", summary.majorCounts());
+        report.put("byLevel", summary.levelCounts());
+        report.put("byCompany", summary.companyCounts());
+        report.put("byPlacement", summary.placementCounts());
+        report.put("applicantsByMajor", summary.majorApplicants());
+        report.put("applicantsByCompany", summary.companyApplicants());
+        report.put("earliestOpen", dateText(dates.earliestOpen()));
+        report.put("latestOpen", dateText(dates.latestOpen()));
+        report.put("earliestClose", dateText(dates.earliestClose()));
+        report.put("latestClose", dateText(dates.latestClose()));
+        return report;
+    }
+
+    private static void addFilterValues(Set<String> target, String value) {
+        if (value == null) {
+            return;
+        }
+        for (String part : value.split(",")) {
+            if (!part.isBlank()) {
+                target.add(part.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+    }
+
+    private static String dateText(LocalDate date) {
+        return date == null ? null : date.toString();
+    }
+
+    private Map<String, Object> demandMetrics() {
+        ApplicationFunnel funnel = ApplicationFunnel.of(entityStore);
+        DemandLeaderboard leaderboard = DemandLeaderboard.of(entityStore);
+        Map<String, Object> demand = new LinkedHashMap<>();
+        demand.put("overall", snapshotJson(funnel.overall()));
+        demand.put("byCompany", breakdownJson(funnel.breakdown(ApplicationFunnel.Dimension.COMPANY)));
+        demand.put("byLevel", breakdownJson(funnel.breakdown(ApplicationFunnel.Dimension.LEVEL)));
+        demand.put("byMajor", breakdownJson(funnel.breakdown(ApplicationFunnel.Dimension.MAJOR)));
+        List<Map<String, Object>> topInternships = new ArrayList<>();
+        for (DemandLeaderboard.Entry entry : leaderboard.topInternships(TOP_K)) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("internshipId", entry.key());
+            row.put("title", entry.title());
+            row.put("applications", entry.applications());
+            topInternships.add(row);
+        }
+        demand.put("topInternships", topInternships);
+        List<Map<String, Object>> topCompanies = new ArrayList<>();
+        for (DemandLeaderboard.Entry entry : leaderboard.topCompanies(TOP_K)) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("company", entry.key());
+            row.put("applications", entry.applications());
+            topCompanies.add(row);
+        }
+        demand.put("topCompanies", topCompanies);
+        return demand;
+    }
+
+    private Map<String, Object> admissionMetrics() {
+        SubmissionGate.Metrics metrics = SubmissionGate.of(entityStore).metrics();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("admitted", metrics.admitted());
+        result.put("admittedAfterWait", metrics.admittedAfterWait());
+        result.put("rateLimited", metrics.rateLimited());
+        result.put("queueFull", metrics.queueFull());
+        result.put("timedOut", metrics.timedOut());
+        result.put("inFlight", metrics.inFlight());
+        result.put("queued", metrics.queued());
+        result.put("averageWaitMillis", metrics.averageWaitMillis());
+        return result;
+    }
+
+    private Map<String, Object> loginMetrics() {
+        LoginThrottle.Metrics metrics = LoginThrottle.of(entityStore).metrics();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("attempts", metrics.attempts());
+        result.put("failures", metrics.failures());
+        result.put("rejectedUser", metrics.rejectedUser());
+        result.put("rejectedGlobal", metrics.rejectedGlobal());
+        result.put("lockedStripes", metrics.lockedStripes());
+        result.put("globalFailures", metrics.globalFailures());
+        return result;
+    }
+
+    private static Map<String, Object> breakdownJson(Map<String, ApplicationFunnel.Snapshot> breakdown) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        breakdown.forEach((group, snapshot) -> result.put(group, snapshotJson(snapshot)));
+        return result;
+    }
+
+    private static Map<String, Object> snapshotJson(ApplicationFunnel.Snapshot snapshot) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("applied", snapshot.applied());
+        result.put("pending", snapshot.pending());
+        result.put("approved", snapshot.approved());
+        result.put("accepted", snapshot.accepted());
+        result.put("rejected", snapshot.rejected());
+        result.put("withdrawn", snapshot.withdrawn());
+        result.put("approvalRate", snapshot.approvalRate());
+        result.put("acceptanceRate", snapshot.acceptanceRate());
+        return result;
+    }
+
+    private static List<Map<String, Object>> toJson(List<ApplicationEntity> items) {
+        List<Map<String, Object>> result = new ArrayList<>(items.size());
+        items.forEach(item -> result.add(applicationJson(item)));
+        return result;
+    }
+
+    private static Map<String, Object> internshipJson(InternshipEntity internship) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (InternshipEntity.InternshipField field : InternshipEntity.InternshipField.values()) {
+            result.put(camelCase(field.name()), internship.get(field));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> applicationJson(ApplicationEntity application) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (ApplicationEntity.ApplicationField field : ApplicationEntity.ApplicationField.values()) {
+            result.put(camelCase(field.name()), application.get(field));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> registrationJson(CREntity registration) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (CREntity.CRField field : CREntity.CRField.values()) {
+            if (field != CREntity.CRField.originalPassword) {
+                result.put(camelCase(field.name()), registration.get(field));
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Object> result(String id, String action) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("id", id);
+        result.put("action", action);
+        result.put("ok", true);
+        return result;
+    }
+
+    private static Response ok(Object body) {
+        return new Response(200, body);
+    }
+
+    private static Response error(int status, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", message);
+        return new Response(status, body);
+    }
+
+    private static boolean decision(String action) throws ServiceException {
+        return switch (action) {
+            case "approve" -> true;
+            case "reject" -> false;
+            default -> throw new ServiceException(ServiceException.Reason.INVALID, "Expected approve or reject, got " + action);
+        };
+    }
+
+    private static String required(Map<String, String> params, String name) throws ServiceException {
+        String value = params.get(name);
+        if (value == null || value.isBlank()) {
+            throw new ServiceException(ServiceException.Reason.INVALID, "Missing parameter: " + name);
+        }
+        return value.trim();
+    }
+
+    private static String filterValue(String value) {
+        return value == null || value.isBlank() ? StudentEntity.NO_FILTER_VALUE : value.trim();
+    }
+
+    /**
+     * Lower-cases the leading capitals of a field name: {@code CRID} becomes {@code crid},
+     * {@code InternshipID} becomes {@code internshipID}.
+     */
+    private static String camelCase(String name) {
+        int upper = 0;
+        while (upper < name.length() && Character.isUpperCase(name.charAt(upper))) {
+            upper++;
+        }
+        int split = upper == name.length() || upper <= 1 ? upper : upper - 1;
+        return name.substring(0, split).toLowerCase(Locale.ROOT) + name.substring(split);
+    }
+
+    private static List<String> segments(String rawPath) {
+        String trimmed = rawPath.replaceFirst("^/api/?", "");
+        List<String> result = new ArrayList<>();
+        for (String segment : trimmed.split("/")) {
+            if (!segment.isEmpty()) {
+                result.add(URLDecoder.decode(segment, StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, String> parameters(HttpExchange exchange) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        parseForm(exchange.getRequestURI().getRawQuery(), params);
+        if ("POST".equals(exchange.getRequestMethod())) {
+            try (InputStream in = exchange.getRequestBody()) {
+                parseForm(new String(in.readAllBytes(), StandardCharsets.UTF_8), params);
+            }
+        }
+        return params;
+    }
+
+    private static void parseForm(String encoded, Map<String, String> params) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        Arrays.stream(encoded.split("&")).filter(pair -> !pair.isEmpty()).forEach(pair -> {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.put(key, value);
+        });
+    }
+
+    /**
+     * Status code and JSON body of one response.
+     *
+     * @param status HTTP status code
+     * @param body   value serialised with {@link Json}
+     */
+    private record Response(int status, Object body) { }
+}
@@ -0,0 +1,176 @@
+package api;
+
+import common.EntityStore;
+import common.LoginThrottle;
+import common.Session;
+import common.UserDirectory;
+import common.UserEntity;
+import exceptions.ServiceException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bearer tokens handed out by {@code POST /api/sessions}. Each token maps to the
+ * {@link Session} of the account that signed in and expires after
+ * {@value #IDLE_TIMEOUT_MILLIS} ms without use, matching the console server's idle timeout.
+ * Sign-ins go through the same {@link LoginThrottle} as console logins.
+ */
+final class ApiSessions {
+
+    static final long IDLE_TIMEOUT_MILLIS = 30L * 60 * 1000;
+
+    private static final int TOKEN_BYTES = 32;
+    static final String STUDENT_ROLE = "student";
+    static final String CR_ROLE = "cr";
+    private static final String STAFF_ROLE = "staff";
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final EntityStore entityStore;
+
+    ApiSessions(EntityStore entityStore) {
+        this.entityStore = entityStore;
+    }
+
+    /**
+     * Checks credentials and issues a token for the account.
+     *
+     * @param username login identifier
+     * @param password password as entered
+     * @return new token
+     * @throws ServiceException when the credentials are wrong or the username is throttled
+     */
+    String open(String username, String password) throws ServiceException {
+        LoginThrottle throttle = LoginThrottle.of(entityStore);
+        if (!throttle.permits(username)) {
+            throw new ServiceException(ServiceException.Reason.BUSY,
+                    "Too many failed attempts. Please wait a minute and try again.");
+        }
+        UserEntity user = UserDirectory.of(entityStore).authenticate(username, password);
+        if (user == null) {
+            throttle.recordFailure(username);
+            throw new ServiceException(ServiceException.Reason.UNAUTHENTICATED, "Invalid username or password.");
+        }
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(entry -> entry.expired(now));
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tokens.put(token, new Entry(Session.open(entityStore, user), now));
+        return token;
+    }
+
+    /**
+     * Ends the session behind a token. Unknown tokens are ignored.
+     *
+     * @param authorization value of the {@code Authorization} header
+     */
+    void close(String authorization) {
+        String token = bearer(authorization);
+        if (token != null) {
+            tokens.remove(token);
+        }
+    }
+
+    /**
+     * Resolves the session behind an {@code Authorization: Bearer} header.
+     *
+     * @param authorization value of the {@code Authorization} header, may be {@code null}
+     * @return session of the caller
+     * @throws ServiceException when the header is missing or the token unknown or expired
+     */
+    Session require(String authorization) throws ServiceException {
+        String token = bearer(authorization);
+        Entry entry = token == null ? null : tokens.get(token);
+        long now = System.currentTimeMillis();
+        if (entry == null || entry.expired(now)) {
+            if (entry != null) {
+                tokens.remove(token, entry);
+            }
+            throw new ServiceException(ServiceException.Reason.UNAUTHENTICATED,
+                    "Sign in with POST /api/sessions and send the token as a Bearer credential.");
+        }
+        entry.lastUsed = now;
+        return entry.session;
+    }
+
+    /**
+     * Resolves the caller's session and checks that it belongs to staff.
+     *
+     * @param authorization value of the {@code Authorization} header, may be {@code null}
+     * @return staff session of the caller
+     * @throws ServiceException when the caller is not signed in or is not staff
+     */
+    Session requireStaff(String authorization) throws ServiceException {
+        Session session = require(authorization);
+        if (!STAFF_ROLE.equals(session.role())) {
+            throw new ServiceException(ServiceException.Reason.FORBIDDEN, "Only staff may use this endpoint.");
+        }
+        return session;
+    }
+
+    /**
+     * Resolves the caller's session and checks that it is the account the request names,
+     * so a client cannot act for another student or representative.
+     *
+     * @param authorization value of the {@code Authorization} header, may be {@code null}
+     * @param role          role the account must have
+     * @param claimedId     account named by the request; blank means the caller's own
+     * @return username of the caller
+     * @throws ServiceException when the caller is not signed in, has another role, or is not {@code claimedId}
+     */
+    String requireAccount(String authorization, String role, String claimedId) throws ServiceException {
+        Session session = require(authorization);
+        if (!role.equals(session.role())) {
+            throw new ServiceException(ServiceException.Reason.FORBIDDEN, "This endpoint is not available to your account.");
+        }
+        if (claimedId != null && !claimedId.isBlank() && !session.isFor(claimedId.trim())) {
+            throw new ServiceException(ServiceException.Reason.FORBIDDEN, "The token does not belong to " + claimedId.trim() + ".");
+        }
+        return session.userId();
+    }
+
+    /**
+     * Like {@link #requireAccount(String, String, String)}, but also lets staff through.
+     *
+     * @param authorization value of the {@code Authorization} header, may be {@code null}
+     * @param role          role the account must have when it is not staff
+     * @param claimedId     account named by the request
+     * @throws ServiceException when the caller is neither staff nor {@code claimedId}
+     */
+    void requireAccountOrStaff(String authorization, String role, String claimedId) throws ServiceException {
+        if (!STAFF_ROLE.equals(require(authorization).role())) {
+            requireAccount(authorization, role, claimedId);
+        }
+    }
+
+    private static String bearer(String authorization) {
+        if (authorization == null) {
+            return null;
+        }
+        String value = authorization.trim();
+        if (value.length() <= 7 || !value.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return null;
+        }
+        return value.substring(7).trim();
+    }
+
+    /**
+     * Session behind one token and when it was last presented.
+     */
+    private static final class Entry {
+        private final Session session;
+        private volatile long lastUsed;
+
+        Entry(Session session, long lastUsed) {
+            this.session = session;
+            this.lastUsed = lastUsed;
+        }
+
+        boolean expired(long now) {
+            return now - lastUsed > IDLE_TIMEOUT_MILLIS;
+        }
+    }
+}
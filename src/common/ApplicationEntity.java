@@ -1,5 +1,7 @@
 package common;
 
+import java.time.LocalDate;
+
 /**
  * Represents a single internship application persisted in the CSV backing store.
  */
@@ -12,13 +14,18 @@ public class ApplicationEntity extends Entity {
         ApplicationID, StudentID, InternshipID, Status, SubmissionDate
     }
 
+    private ValueCache.ParsedDate submissionDate;
+
     /**
-     * Creates an entity from a raw CSV entry.
+     * Creates an entity from a raw CSV entry. The status and submission date columns
+     * share one instance per value through {@link ValueCache}.
      *
      * @param csvLine persisted application values
      */
     public ApplicationEntity(String csvLine) {
         values = csvLine.split(",", -1);
+        intern(ApplicationField.Status);
+        intern(ApplicationField.SubmissionDate);
     }
 
     /**
@@ -55,6 +62,17 @@ public class ApplicationEntity extends Entity {
         values[f.ordinal()] = v;
     }
 
+    /**
+     * Returns the parsed submission date, cached until the field changes.
+     *
+     * @return submission date, or {@code null} when blank or invalid
+     */
+    public LocalDate submissionDate() {
+        ValueCache.ParsedDate parsed = ValueCache.parsed(submissionDate, get(ApplicationField.SubmissionDate));
+        submissionDate = parsed;
+        return parsed.date();
+    }
+
     /**
      * Serializes the entity back to CSV format.
      *
@@ -68,4 +86,11 @@ public class ApplicationEntity extends Entity {
     public String toString() {
         return toCSV();
     }
+
+    private void intern(ApplicationField field) {
+        int index = field.ordinal();
+        if (index < values.length) {
+            values[index] = ValueCache.intern(values[index]);
+        }
+    }
 }
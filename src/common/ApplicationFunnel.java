@@ -0,0 +1,292 @@
+package common;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Application funnel counters (applied, approved, accepted, withdrawn, rejected) broken
+ * down by internship, company, level and preferred major.
+ *
+ * <p>The counters are built in one streaming pass over the internship and application
+ * files and then kept current from store notifications: each status transition moves
+ * one application between stages. Memory grows with the number of internships and
+ * groups, never with the number of applications.</p>
+ */
+public final class ApplicationFunnel {
+
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String APPLICATION_FILE = PathResolver.resource("internship_applications.csv");
+    private static final String UNKNOWN = "Unknown";
+
+    /**
+     * Dimensions the funnel can be broken down by.
+     */
+    public enum Dimension {
+        INTERNSHIP, COMPANY, LEVEL, MAJOR
+    }
+
+    /**
+     * Current stage of an application, derived from its stored status.
+     */
+    private enum Stage {
+        PENDING, APPROVED, ACCEPTED, REJECTED, WITHDRAWN, OTHER;
+
+        static Stage of(String status) {
+            if (status == null) {
+                return OTHER;
+            }
+            return switch (status.trim().toUpperCase(Locale.ROOT)) {
+                case "PENDING" -> PENDING;
+                case "APPROVED", "SUCCESSFUL" -> APPROVED;
+                case "ACCEPTED" -> ACCEPTED;
+                case "REJECTED", "UNSUCCESSFUL" -> REJECTED;
+                case "WITHDRAWN" -> WITHDRAWN;
+                default -> OTHER;
+            };
+        }
+    }
+
+    private final EntityStore store;
+    private final boolean incremental;
+    private final Map<String, Attributes> attributes = new HashMap<>();
+    private final Map<Dimension, Map<String, StageCounts>> groups = new EnumMap<>(Dimension.class);
+    private final ConsistentLoad load;
+
+    private ApplicationFunnel(EntityStore store) {
+        this.store = store;
+        this.load = new ConsistentLoad(store, INTERNSHIP_FILE, APPLICATION_FILE);
+        for (Dimension dimension : Dimension.values()) {
+            groups.put(dimension, new HashMap<>());
+        }
+        this.incremental = store.addListener(this::onChange);
+    }
+
+    /**
+     * Returns the funnel maintained for the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared funnel for the store
+     */
+    public static ApplicationFunnel of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(ApplicationFunnel.class, ApplicationFunnel::new);
+    }
+
+    /**
+     * Returns a snapshot of the funnel per group of the requested dimension.
+     *
+     * @param dimension breakdown dimension
+     * @return funnel per group, sorted by group name
+     */
+    public synchronized Map<String, Snapshot> breakdown(Dimension dimension) {
+        ensureLoaded();
+        Map<String, Snapshot> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        groups.get(dimension).forEach((group, counts) -> {
+            if (counts.applied() > 0) {
+                result.put(group, counts.snapshot());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the funnel of every internship belonging to a company, including internships
+     * without applications.
+     *
+     * @param companyName company whose internships to report
+     * @return funnel per internship ID, sorted by ID
+     */
+    public synchronized Map<String, Snapshot> forCompany(String companyName) {
+        ensureLoaded();
+        Map<String, Snapshot> result = new TreeMap<>();
+        Map<String, StageCounts> byInternship = groups.get(Dimension.INTERNSHIP);
+        attributes.forEach((internshipId, attrs) -> {
+            if (attrs.company().equalsIgnoreCase(companyName == null ? "" : companyName.trim())) {
+                StageCounts counts = byInternship.get(internshipId);
+                result.put(internshipId, counts == null ? new StageCounts().snapshot() : counts.snapshot());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the funnel over every application.
+     *
+     * @return overall funnel
+     */
+    public synchronized Snapshot overall() {
+        ensureLoaded();
+        StageCounts total = new StageCounts();
+        groups.get(Dimension.COMPANY).values().forEach(total::add);
+        return total.snapshot();
+    }
+
+    private void ensureLoaded() {
+        if (load.isLoaded() && incremental) {
+            return;
+        }
+        load.load(() -> {
+            attributes.clear();
+            groups.values().forEach(Map::clear);
+            store.forEach(INTERNSHIP_FILE, "Internship", entity -> {
+                InternshipEntity internship = (InternshipEntity) entity;
+                attributes.put(internship.get(InternshipEntity.InternshipField.InternshipID), Attributes.of(internship));
+            });
+            store.forEach(APPLICATION_FILE, "Application", entity -> apply((ApplicationEntity) entity, 1));
+        });
+    }
+
+    private synchronized void onChange(String filePath, Entity before, Entity after) {
+        if (!load.applies(filePath)) {
+            return;
+        }
+        if (APPLICATION_FILE.equals(filePath)) {
+            if (before instanceof ApplicationEntity previous) {
+                apply(previous, -1);
+            }
+            if (after instanceof ApplicationEntity current) {
+                apply(current, 1);
+            }
+        } else if (INTERNSHIP_FILE.equals(filePath) && after instanceof InternshipEntity internship) {
+            regroup(internship);
+        }
+    }
+
+    /**
+     * Moves an internship's counters to new groups when its company, level or major changes.
+     */
+    private void regroup(InternshipEntity internship) {
+        String internshipId = internship.get(InternshipEntity.InternshipField.InternshipID);
+        Attributes updated = Attributes.of(internship);
+        Attributes previous = attributes.put(internshipId, updated);
+        if (previous == null) {
+            previous = Attributes.UNKNOWN_ATTRIBUTES;
+        }
+        StageCounts counts = groups.get(Dimension.INTERNSHIP).get(internshipId);
+        if (previous.equals(updated) || counts == null) {
+            return;
+        }
+        StageCounts moved = new StageCounts();
+        moved.add(counts);
+        addToGroups(previous, moved, -1);
+        addToGroups(updated, moved, 1);
+    }
+
+    private void apply(ApplicationEntity application, int delta) {
+        String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
+        Stage stage = Stage.of(application.get(ApplicationEntity.ApplicationField.Status));
+        Attributes attrs = attributes.getOrDefault(internshipId, Attributes.UNKNOWN_ATTRIBUTES);
+        bump(Dimension.INTERNSHIP, internshipId == null ? UNKNOWN : internshipId, stage, delta);
+        bump(Dimension.COMPANY, attrs.company(), stage, delta);
+        bump(Dimension.LEVEL, attrs.level(), stage, delta);
+        bump(Dimension.MAJOR, attrs.major(), stage, delta);
+    }
+
+    private void addToGroups(Attributes attrs, StageCounts counts, int sign) {
+        for (Stage stage : Stage.values()) {
+            long amount = counts.counts[stage.ordinal()] * sign;
+            if (amount != 0) {
+                bump(Dimension.COMPANY, attrs.company(), stage, amount);
+                bump(Dimension.LEVEL, attrs.level(), stage, amount);
+                bump(Dimension.MAJOR, attrs.major(), stage, amount);
+            }
+        }
+    }
+
+    private void bump(Dimension dimension, String group, Stage stage, long delta) {
+        Map<String, StageCounts> byGroup = groups.get(dimension);
+        StageCounts counts = byGroup.computeIfAbsent(group, ignored -> new StageCounts());
+        counts.counts[stage.ordinal()] += delta;
+        if (counts.applied() <= 0) {
+            byGroup.remove(group);
+        }
+    }
+
+    /**
+     * Immutable funnel figures for one group.
+     *
+     * @param applied   applications submitted
+     * @param pending   applications awaiting a decision
+     * @param approved  applications that reached approval, including accepted ones
+     * @param accepted  offers accepted by the student
+     * @param rejected  applications rejected
+     * @param withdrawn applications withdrawn
+     */
+    public record Snapshot(long applied, long pending, long approved, long accepted, long rejected, long withdrawn) {
+
+        /**
+         * @return share of applications that reached approval, between 0 and 1
+         */
+        public double approvalRate() {
+            return applied == 0 ? 0.0 : (double) approved / applied;
+        }
+
+        /**
+         * @return share of approved applications that were accepted, between 0 and 1
+         */
+        public double acceptanceRate() {
+            return approved == 0 ? 0.0 : (double) accepted / approved;
+        }
+
+        /**
+         * @return share of applications that were withdrawn, between 0 and 1
+         */
+        public double withdrawalRate() {
+            return applied == 0 ? 0.0 : (double) withdrawn / applied;
+        }
+    }
+
+    /**
+     * Grouping attributes of one internship.
+     */
+    private record Attributes(String company, String level, String major) {
+        static final Attributes UNKNOWN_ATTRIBUTES = new Attributes(UNKNOWN, UNKNOWN, UNKNOWN);
+
+        static Attributes of(InternshipEntity internship) {
+            return new Attributes(
+                    valueOrUnknown(internship.get(InternshipEntity.InternshipField.CompanyName)),
+                    valueOrUnknown(internship.get(InternshipEntity.InternshipField.Level)),
+                    valueOrUnknown(internship.get(InternshipEntity.InternshipField.PreferredMajor)));
+        }
+
+        private static String valueOrUnknown(String value) {
+            return value == null || value.isBlank() ? UNKNOWN : ValueCache.canonical(value);
+        }
+    }
+
+    /**
+     * Mutable count of applications currently in each stage.
+     */
+    private static final class StageCounts {
+        private final long[] counts = new long[Stage.values().length];
+
+        long applied() {
+            long sum = 0;
+            for (long count : counts) {
+                sum += count;
+            }
+            return sum;
+        }
+
+        void add(StageCounts other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+        }
+
+        Snapshot snapshot() {
+            long accepted = counts[Stage.ACCEPTED.ordinal()];
+            return new Snapshot(applied(),
+                    counts[Stage.PENDING.ordinal()],
+                    counts[Stage.APPROVED.ordinal()] + accepted,
+                    accepted,
+                    counts[Stage.REJECTED.ordinal()],
+                    counts[Stage.WITHDRAWN.ordinal()]);
+        }
+    }
+}
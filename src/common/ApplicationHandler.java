@@ -21,68 +21,105 @@ public class ApplicationHandler {
                              String status, String submissionDate
      */
     /**
-     * Marks the specified application as withdrawn and frees any reserved slot.
+     * Marks the specified application as withdrawn and frees any reserved slot. The status
+     * is changed with a compare-and-update, so a withdrawal racing an approval either sees
+     * the approval and returns its slot or lands first and makes the approval fail.
      *
      * @param applicationId identifier of the application to withdraw
+     * @return {@code true} when the application is withdrawn, including when it already was
      */
-    public void withdrawApplication(String applicationId){
+    public boolean withdrawApplication(String applicationId){
         try {
             Entity applicationToWithdraw = entityStore.findById(APPLICATION_FILE, applicationId, "Application");
             String internshipId = applicationToWithdraw.getArrayValueByIndex(2);
-            Entity internshipToChange = entityStore.findById(INTERNSHIP_FILE, internshipId, "Internship");
-            String internshipSlots = internshipToChange.getArrayValueByIndex(10);
 
             String applicationStatus = applicationToWithdraw.getArrayValueByIndex(3);
-            switch(applicationStatus) {
-                case "Accepted":
-                case "Approved":
-                    internshipToChange.setArrayValueByIndex(10,modifySlots(internshipSlots, 1));
-                    entityStore.update(INTERNSHIP_FILE, internshipId, internshipToChange, "Internship");
-                    internshipToChange.setArrayValueByIndex(7, "Pending");
-                default:
-                    applicationToWithdraw.setArrayValueByIndex(3,"WITHDRAWN");
-                    entityStore.update(APPLICATION_FILE, applicationId, applicationToWithdraw, "Application");
-
-
-
+            if (applicationStatus.equals("WITHDRAWN")) {
+                return true;
+            }
+            applicationToWithdraw.setArrayValueByIndex(3,"WITHDRAWN");
+            boolean withdrawn = entityStore.updateIf(APPLICATION_FILE, applicationId, applicationToWithdraw, "Application",
+                    current -> applicationStatus.equals(current.getArrayValueByIndex(3)));
+            if (!withdrawn) {
+                System.err.println("APPLICATION CHANGED WHILE WITHDRAWING; PLEASE TRY AGAIN");
+                return false;
+            }
+            if (applicationStatus.equals("Accepted") || applicationStatus.equals("Approved")) {
+                SlotLedger.of(entityStore).release(internshipId);
             }
+            return true;
 
         } catch (Exception e) {
             System.err.println("ERROR IN WITHDRAWING APPLICATION");
+            return false;
         }
     }
 
     /**
-     * Approves the specified application and decrements the available internship slots.
+     * Approves the specified application if its internship still has a slot. The
+     * application is claimed first with a status compare-and-update, so two reviewers
+     * approving it at once cannot both succeed; only the winner then takes a slot from
+     * the {@link SlotLedger}. When no slot is left, or anything fails after the claim, the
+     * application returns to its previous status and any slot taken is given back.
      *
      * @param applicationId identifier of the application to approve
+     * @return {@code true} when the application was approved
      */
-    public void approveApplication(String applicationId){
+    public boolean approveApplication(String applicationId){
+        SlotLedger ledger = SlotLedger.of(entityStore);
+        Entity applicationToApprove = null;
+        String internshipId = null;
+        String applicationStatus = null;
+        boolean claimed = false;
+        boolean reserved = false;
         try {
 
-            Entity applicationToApprove = entityStore.findById(APPLICATION_FILE, applicationId, "Application");
-            String internshipId = applicationToApprove.getArrayValueByIndex(2);
-            Entity internshipToChange = entityStore.findById(INTERNSHIP_FILE, internshipId, "Internship");
-            String internshipSlots = internshipToChange.getArrayValueByIndex(10);
+            applicationToApprove = entityStore.findById(APPLICATION_FILE, applicationId, "Application");
+            internshipId = applicationToApprove.getArrayValueByIndex(2);
 
-            String applicationStatus = applicationToApprove.getArrayValueByIndex(3);
-
-            if (!applicationStatus.equals("WITHDRAWN") && !applicationStatus.equals("Accepted") && !internshipSlots.equals("0")) {
-                applicationToApprove.setArrayValueByIndex(3, "Approved");
-                internshipToChange.setArrayValueByIndex(10, modifySlots(internshipSlots, -1));
-                if(modifySlots(internshipSlots, -1).equals("0")){
-                    internshipToChange.setArrayValueByIndex(7, "FILLED");
-                }
+            applicationStatus = applicationToApprove.getArrayValueByIndex(3);
+            if (applicationStatus.equals("WITHDRAWN") || applicationStatus.equals("Accepted")
+                    || applicationStatus.equals("Approved") || ledger.remaining(internshipId) <= 0) {
+                return false;
+            }
 
-                entityStore.update(INTERNSHIP_FILE, internshipId, internshipToChange, "Internship");
-                entityStore.update(APPLICATION_FILE, applicationId, applicationToApprove, "Application");
+            String expectedStatus = applicationStatus;
+            applicationToApprove.setArrayValueByIndex(3, "Approved");
+            claimed = entityStore.updateIf(APPLICATION_FILE, applicationId, applicationToApprove, "Application",
+                    current -> expectedStatus.equals(current.getArrayValueByIndex(3)));
+            if (!claimed) {
+                return false; // another reviewer or the student changed it first
             }
+            reserved = ledger.tryReserve(internshipId);
+            if (!reserved) {
+                undoApproval(applicationToApprove, applicationId, applicationStatus);
+                return false;
+            }
+            ledger.flush(internshipId);
+            return true;
 
         } catch (Exception e) {
             System.err.println("ERROR IN APPROVING APPLICATION");
+            try {
+                if (reserved) {
+                    ledger.release(internshipId);
+                }
+                if (claimed) {
+                    undoApproval(applicationToApprove, applicationId, applicationStatus);
+                }
+            } catch (Exception rollback) {
+                System.err.println("ERROR IN ROLLING BACK APPLICATION APPROVAL");
+            }
+            return false;
         }
     }
 
+    private void undoApproval(Entity application, String applicationId, String previousStatus) {
+        application.setArrayValueByIndex(3, previousStatus);
+        entityStore.updateIf(APPLICATION_FILE, applicationId, application, "Application",
+                current -> "Approved".equals(current.getArrayValueByIndex(3)));
+    }
+
     /**
      * Records a student's acceptance of an approved application and stores the company on the student profile.
      *
@@ -109,17 +146,4 @@ public class ApplicationHandler {
             System.err.println("ERROR IN ACCEPTING APPLICATION");
         }
     }
-    /**
-     * Computes the updated slot count for an internship.
-     *
-     * @param value original slot count
-     * @param numberToAdd delta to apply
-     * @return new slot count as a string
-     */
-    private static String modifySlots(String value, int numberToAdd){
-        int valueToChange = Integer.parseInt(value);
-        valueToChange += numberToAdd;
-        return Integer.toString(valueToChange);
-    }
-
 }
@@ -0,0 +1,505 @@
+package common;
+
+import exceptions.ServiceException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Application lifecycle operations shared by the console controllers and the HTTP API:
+ * applying, requesting a withdrawal, accepting an offer and the company
+ * representative's approve/reject decision. Each operation validates ownership and
+ * state and reports refusals as {@link ServiceException}s, leaving presentation to
+ * the caller.
+ */
+public class ApplicationService {
+
+    private static final String APPLICATION_FILE = PathResolver.resource("internship_applications.csv");
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String STUDENT_FILE = PathResolver.resource("student.csv");
+    private static final String WITHDRAWAL_FILE = PathResolver.resource("pending_withdrawal.csv");
+    private static final String CR_FILE = PathResolver.resource("cr.csv");
+
+    /** Status of a submitted application awaiting a decision. */
+    public static final String STATUS_PENDING = "Pending";
+    /** Status of an application approved by the company representative. */
+    public static final String STATUS_APPROVED = "Approved";
+    /** Status of an approved application the student accepted. */
+    public static final String STATUS_ACCEPTED = "Accepted";
+    /** Status of an application rejected by the company representative. */
+    public static final String STATUS_REJECTED = "Rejected";
+
+    private final EntityStore entityStore;
+    private final ApplicationHandler handler;
+
+    /**
+     * Creates the service over the supplied store.
+     *
+     * @param entityStore persistence gateway
+     */
+    public ApplicationService(EntityStore entityStore) {
+        if (entityStore == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        this.entityStore = entityStore;
+        this.handler = new ApplicationHandler(entityStore);
+    }
+
+    /**
+     * Indicates whether students can currently see and apply to an internship.
+     *
+     * @param internship internship to check, may be {@code null}
+     * @return {@code true} when the internship is neither closed nor hidden
+     */
+    public static boolean isOpenForApplications(InternshipEntity internship) {
+        if (internship == null || internship.isClosed()) {
+            return false;
+        }
+        String visibility = internship.get(InternshipEntity.InternshipField.Visibility);
+        return visibility == null || !"Hidden".equalsIgnoreCase(visibility.trim());
+    }
+
+    /**
+     * Lists internships that students can currently apply to, in file order.
+     *
+     * @return open, visible internships
+     */
+    public List<InternshipEntity> listOpenInternships() {
+        List<InternshipEntity> result = new ArrayList<>();
+        entityStore.forEach(INTERNSHIP_FILE, "Internship", entity -> {
+            InternshipEntity internship = (InternshipEntity) entity;
+            if (isOpenForApplications(internship)) {
+                result.add(internship);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Lists a student's applications, optionally limited to one status.
+     *
+     * @param studentId student identifier
+     * @param status    status to keep, or {@code null} for every application
+     * @return matching applications in file order
+     */
+    public List<ApplicationEntity> listForStudent(String studentId, String status) {
+        List<ApplicationEntity> result = new ArrayList<>();
+        entityStore.forEach(APPLICATION_FILE, "Application", entity -> {
+            ApplicationEntity application = (ApplicationEntity) entity;
+            if (application.get(ApplicationEntity.ApplicationField.StudentID).equals(studentId)
+                    && (status == null || status.equalsIgnoreCase(application.get(ApplicationEntity.ApplicationField.Status)))) {
+                result.add(application);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Submits a new pending application after checking visibility, the closing date
+     * and the student's year against the internship level. Submissions pass through the
+     * {@link SubmissionGate} first.
+     *
+     * @param studentId    applying student
+     * @param internshipId internship to apply to
+     * @return the stored application
+     * @throws ServiceException when the internship is unavailable, the student is
+     *                          ineligible, or the submission is refused as {@code BUSY}
+     */
+    public ApplicationEntity apply(String studentId, String internshipId) throws ServiceException {
+        SubmissionGate.Permit permit = SubmissionGate.of(entityStore).admit(studentId);
+        try {
+            return submit(studentId, internshipId);
+        } finally {
+            permit.close();
+        }
+    }
+
+    private ApplicationEntity submit(String studentId, String internshipId) throws ServiceException {
+        String trimmedId = internshipId == null ? "" : internshipId.trim();
+        InternshipEntity internship = (InternshipEntity) entityStore.findById(INTERNSHIP_FILE, trimmedId, "Internship");
+        if (!isOpenForApplications(internship)) {
+            throw new ServiceException(ServiceException.Reason.NOT_FOUND, "Invalid or unavailable Internship ID.");
+        }
+        LocalDate closeDate = internship.closeDate();
+        if (closeDate == null) {
+            throw new ServiceException(ServiceException.Reason.CONFLICT, "Invalid internship close date format.");
+        }
+        Entity student = entityStore.findById(STUDENT_FILE, studentId, "Student");
+        if (student == null) {
+            throw new ServiceException(ServiceException.Reason.NOT_FOUND, "This student not found in database.");
+        }
+
+        LocalDate today = LocalDate.now();
+        if (!today.isBefore(closeDate)) {
+            throw new ServiceException(ServiceException.Reason.CONFLICT, "Passed application deadline.");
+        }
+        String studentYear = optionalTrim(student.getArrayValueByIndex(3));
+        String internshipLevel = optionalTrim(internship.get(InternshipEntity.InternshipField.Level));
+        if (!YearChecker.checkYear(studentYear, internshipLevel)) {
+            String displayLevel = internshipLevel.isEmpty() ? "this internship" : "the " + internshipLevel + " internship";
+            String message = studentYear.isEmpty()
+                    ? String.format("Your current year allows applications only to Basic internships; %s requires a higher level.", displayLevel)
+                    : String.format("Students in Year %s may only apply to Basic internships; %s requires a higher level.", studentYear, displayLevel);
+            throw new ServiceException(ServiceException.Reason.CONFLICT, message);
+        }
+
+        ApplicationEntity application = new ApplicationEntity(
+                UUID.randomUUID().toString(), studentId, trimmedId, STATUS_PENDING, today.toString());
+        entityStore.append(APPLICATION_FILE, application);
+        return application;
+    }
+
+    /**
+     * Queues a withdrawal request for staff review.
+     *
+     * @param studentId     student who owns the application
+     * @param applicationId application to withdraw
+     * @throws ServiceException when the application is not the student's or a request is already queued
+     */
+    public void requestWithdrawal(String studentId, String applicationId) throws ServiceException {
+        ApplicationEntity application = ownedApplication(studentId, applicationId);
+        String id = application.get(ApplicationEntity.ApplicationField.ApplicationID);
+        if (entityStore.findById(WITHDRAWAL_FILE, id, "Application") != null) {
+            throw new ServiceException(ServiceException.Reason.CONFLICT, "A withdrawal request for this application is already pending.");
+        }
+        entityStore.append(WITHDRAWAL_FILE, application);
+    }
+
+    /**
+     * Accepts an approved offer and records the internship on the student's profile.
+     *
+     * @param studentId     student who owns the offer
+     * @param applicationId approved application to accept
+     * @return the accepted application
+     * @throws ServiceException when the application is not the student's or not approved
+     */
+    public ApplicationEntity acceptOffer(String studentId, String applicationId) throws ServiceException {
+        ApplicationEntity offer = ownedApplication(studentId, applicationId);
+        if (!STATUS_APPROVED.equalsIgnoreCase(offer.get(ApplicationEntity.ApplicationField.Status))) {
+            throw new ServiceException(ServiceException.Reason.CONFLICT, "Only approved offers can be accepted.");
+        }
+        StudentEntity student = StudentFilterService.loadStudent(entityStore, studentId);
+        if (student == null) {
+            throw new ServiceException(ServiceException.Reason.NOT_FOUND, "This student does not exist");
+        }
+        String id = offer.get(ApplicationEntity.ApplicationField.ApplicationID);
+        offer.set(ApplicationEntity.ApplicationField.Status, STATUS_ACCEPTED);
+        entityStore.update(APPLICATION_FILE, id, offer, "Application");
+        student.set(StudentEntity.StudentField.AcceptedInternshipID, offer.get(ApplicationEntity.ApplicationField.InternshipID));
+        StudentFilterService.saveStudent(entityStore, student);
+        return offer;
+    }
+
+    /**
+     * Resolves the company a representative belongs to.
+     *
+     * @param crId company representative identifier
+     * @return company name
+     * @throws ServiceException when the representative is unknown
+     */
+    public String companyOf(String crId) throws ServiceException {
+        Entity cr = crId == null ? null : entityStore.findById(CR_FILE, crId.trim(), "CR");
+        if (!(cr instanceof CREntity representative)) {
+            throw new ServiceException(ServiceException.Reason.NOT_FOUND, "Unknown company representative: " + crId);
+        }
+        return representative.get(CREntity.CRField.CompanyName);
+    }
+
+    /**
+     * Lists applications to a company's internships that pass the representative's filters.
+     *
+     * @param companyName company whose internships to include
+     * @param filters     representative filters on internship attributes
+     * @return matching applications in file order
+     */
+    public List<ApplicationEntity> listForCompany(String companyName, CRFilterService.CRFilters filters) {
+        Set<String> internshipIds = new HashSet<>();
+        entityStore.forEach(INTERNSHIP_FILE, "Internship", entity -> {
+            InternshipEntity internship = (InternshipEntity) entity;
+            if (CRFilterService.belongsToCompany(internship, companyName)
+                    && CRFilterService.matchesInternship(internship, filters)) {
+                internshipIds.add(internship.get(InternshipEntity.InternshipField.InternshipID));
+            }
+        });
+        List<ApplicationEntity> result = new ArrayList<>();
+        entityStore.forEach(APPLICATION_FILE, "Application", entity -> {
+            ApplicationEntity application = (ApplicationEntity) entity;
+            if (internshipIds.contains(application.get(ApplicationEntity.ApplicationField.InternshipID))) {
+                result.add(application);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Approves an application to one of the company's internships and takes a slot.
+     *
+     * @param companyName   company of the deciding representative
+     * @param applicationId application to approve
+     * @throws ServiceException when the application is not the company's or cannot be approved
+     */
+    public void approve(String companyName, String applicationId) throws ServiceException {
+        ApplicationEntity application = companyApplication(companyName, applicationId);
+        String status = application.get(ApplicationEntity.ApplicationField.Status);
+        if ("WITHDRAWN".equalsIgnoreCase(status) || STATUS_ACCEPTED.equalsIgnoreCase(status)) {
+            throw new ServiceException(ServiceException.Reason.CONFLICT, "Application is already " + status + ".");
+        }
+        if (STATUS_APPROVED.equalsIgnoreCase(status)) {
+            return;
+        }
+        if (SlotLedger.of(entityStore).remaining(application.get(ApplicationEntity.ApplicationField.InternshipID)) <= 0) {
+            throw new ServiceException(ServiceException.Reason.CONFLICT, "No slots remain for this internship.");
+        }
+        if (!handler.approveApplication(application.get(ApplicationEntity.ApplicationField.ApplicationID))) {
+            throw new ServiceException(ServiceException.Reason.CONFLICT,
+                    "Application could not be approved; it changed or the last slot was taken.");
+        }
+    }
+
+    /**
+     * Rejects a pending or approved application to one of the company's internships.
+     * The status is changed with a compare-and-update, and rejecting an approved
+     * application gives its slot back to the {@link SlotLedger}.
+     *
+     * @param companyName   company of the deciding representative
+     * @param applicationId application to reject
+     * @throws ServiceException when the application is not the company's, is already
+     *                          accepted or withdrawn, or changed while being rejected
+     */
+    public void reject(String companyName, String applicationId) throws ServiceException {
+        ApplicationEntity application = companyApplication(companyName, applicationId);
+        String id = application.get(ApplicationEntity.ApplicationField.ApplicationID);
+        String status = application.get(ApplicationEntity.ApplicationField.Status);
+        if (STATUS_REJECTED.equalsIgnoreCase(status)) {
+            return;
+        }
+        boolean approved = STATUS_APPROVED.equalsIgnoreCase(status);
+        if (!approved && !STATUS_PENDING.equalsIgnoreCase(status)) {
+            throw new ServiceException(ServiceException.Reason.CONFLICT, "Application is already " + status + ".");
+        }
+        application.set(ApplicationEntity.ApplicationField.Status, STATUS_REJECTED);
+        if (!entityStore.updateIf(APPLICATION_FILE, id, application, "Application",
+                current -> status.equals(current.getArrayValueByIndex(3)))) {
+            throw new ServiceException(ServiceException.Reason.CONFLICT,
+                    "Application changed while it was being rejected; please try again.");
+        }
+        if (approved) {
+            SlotLedger.of(entityStore).release(application.get(ApplicationEntity.ApplicationField.InternshipID));
+        }
+    }
+
+    /**
+     * Lists the pending applications a batch decision would cover, in the order they
+     * would be processed: earliest submission first, then by application ID.
+     *
+     * @param companyName company whose internships are covered
+     * @param filters     the representative's internship filters
+     * @param criteria    applicant criteria
+     * @return matching pending applications in processing order
+     */
+    public List<ApplicationEntity> batchCandidates(String companyName, CRFilterService.CRFilters filters,
+                                                   BatchCriteria criteria) {
+        return collectBatch(companyName, filters, criteria);
+    }
+
+    /**
+     * Approves or rejects every pending application matching the criteria in one pass.
+     * Approvals walk the candidates in {@link #batchCandidates} order and take slots from
+     * the {@link SlotLedger}, so an internship never goes below zero slots even while
+     * other approvals run; candidates left without a slot stay pending. Applications are
+     * persisted with a single conditional write that only replaces rows still pending, so a
+     * withdrawal or acceptance made meanwhile is kept and the slot reserved for that row is
+     * given back. Each affected internship's count is then written once.
+     *
+     * @param companyName company whose internships are covered
+     * @param filters     the representative's internship filters
+     * @param criteria    applicant criteria
+     * @param approve     {@code true} to approve, {@code false} to reject
+     * @return counts and timing of the batch
+     */
+    public BatchResult decideBatch(String companyName, CRFilterService.CRFilters filters,
+                                   BatchCriteria criteria, boolean approve) {
+        long start = System.nanoTime();
+        SlotLedger ledger = SlotLedger.of(entityStore);
+        List<ApplicationEntity> candidates = collectBatch(companyName, filters, criteria);
+        Map<String, Entity> changedApplications = new LinkedHashMap<>();
+        Map<String, String> reservations = new HashMap<>();
+        int withoutSlot = 0;
+        for (ApplicationEntity application : candidates) {
+            String applicationId = application.get(ApplicationEntity.ApplicationField.ApplicationID);
+            if (approve) {
+                String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
+                if (!ledger.tryReserve(internshipId)) {
+                    withoutSlot++;
+                    continue;
+                }
+                reservations.put(applicationId, internshipId);
+            }
+            application.set(ApplicationEntity.ApplicationField.Status, approve ? STATUS_APPROVED : STATUS_REJECTED);
+            changedApplications.put(applicationId, application);
+        }
+        Set<String> decided = Set.of();
+        try {
+            decided = entityStore.updateAllIf(APPLICATION_FILE, changedApplications, "Application",
+                    current -> STATUS_PENDING.equalsIgnoreCase(current.getArrayValueByIndex(3)));
+        } finally {
+            // rows withdrawn or decided elsewhere since they were read keep their status and give back their slot
+            for (Map.Entry<String, String> reservation : reservations.entrySet()) {
+                if (!decided.contains(reservation.getKey())) {
+                    ledger.unreserve(reservation.getValue());
+                }
+            }
+            new LinkedHashSet<>(reservations.values()).forEach(ledger::flush);
+        }
+        return new BatchResult(candidates.size(), decided.size(), withoutSlot,
+                changedApplications.size() - decided.size(), System.nanoTime() - start);
+    }
+
+    private List<ApplicationEntity> collectBatch(String companyName, CRFilterService.CRFilters filters,
+                                                 BatchCriteria criteria) {
+        Set<String> internships = new HashSet<>();
+        entityStore.forEach(INTERNSHIP_FILE, "Internship", entity -> {
+            InternshipEntity internship = (InternshipEntity) entity;
+            if (CRFilterService.belongsToCompany(internship, companyName)
+                    && CRFilterService.matchesInternship(internship, filters)) {
+                internships.add(internship.get(InternshipEntity.InternshipField.InternshipID));
+            }
+        });
+        Map<String, StudentEntity> students = new HashMap<>();
+        if (criteria.needsStudents()) {
+            entityStore.forEach(STUDENT_FILE, "Student", entity -> {
+                StudentEntity student = (StudentEntity) entity;
+                students.put(student.get(StudentEntity.StudentField.StudentID), student);
+            });
+        }
+        List<ApplicationEntity> candidates = new ArrayList<>();
+        entityStore.forEach(APPLICATION_FILE, "Application", entity -> {
+            ApplicationEntity application = (ApplicationEntity) entity;
+            if (internships.contains(application.get(ApplicationEntity.ApplicationField.InternshipID))
+                    && STATUS_PENDING.equalsIgnoreCase(application.get(ApplicationEntity.ApplicationField.Status))
+                    && criteria.matches(application,
+                            students.get(application.get(ApplicationEntity.ApplicationField.StudentID)))) {
+                candidates.add(application);
+            }
+        });
+        candidates.sort(Comparator
+                .comparing(ApplicationEntity::submissionDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(application -> application.get(ApplicationEntity.ApplicationField.ApplicationID)));
+        return candidates;
+    }
+
+    private ApplicationEntity ownedApplication(String studentId, String applicationId) throws ServiceException {
+        String id = applicationId == null ? "" : applicationId.trim();
+        Entity entity = entityStore.findById(APPLICATION_FILE, id, "Application");
+        if (!(entity instanceof ApplicationEntity application)
+                || !application.get(ApplicationEntity.ApplicationField.StudentID).equals(studentId)) {
+            throw new ServiceException(ServiceException.Reason.NOT_FOUND, "Invalid application ID.");
+        }
+        return application;
+    }
+
+    private ApplicationEntity companyApplication(String companyName, String applicationId) throws ServiceException {
+        String id = applicationId == null ? "" : applicationId.trim();
+        Entity entity = entityStore.findById(APPLICATION_FILE, id, "Application");
+        if (entity instanceof ApplicationEntity application) {
+            Entity internship = entityStore.findById(INTERNSHIP_FILE,
+                    application.get(ApplicationEntity.ApplicationField.InternshipID), "Internship");
+            if (internship instanceof InternshipEntity owned && CRFilterService.belongsToCompany(owned, companyName)) {
+                return application;
+            }
+        }
+        throw new ServiceException(ServiceException.Reason.NOT_FOUND, "Invalid Application ID.");
+    }
+
+    private static String optionalTrim(String value) {
+        return value == null ? "" : value.trim();
+    }
+
+    /**
+     * Applicant criteria for a batch decision. {@code null} fields match everything.
+     *
+     * @param major         applicant major, compared case-insensitively
+     * @param year          applicant year of study
+     * @param submittedFrom earliest submission date, inclusive
+     * @param submittedTo   latest submission date, inclusive
+     */
+    public record BatchCriteria(String major, Integer year, LocalDate submittedFrom, LocalDate submittedTo) {
+
+        /**
+         * @return criteria matching every pending application
+         */
+        public static BatchCriteria any() {
+            return new BatchCriteria(null, null, null, null);
+        }
+
+        boolean needsStudents() {
+            return major != null || year != null;
+        }
+
+        boolean matches(ApplicationEntity application, StudentEntity student) {
+            LocalDate submitted = application.submissionDate();
+            if (submittedFrom != null && (submitted == null || submitted.isBefore(submittedFrom))) {
+                return false;
+            }
+            if (submittedTo != null && (submitted == null || submitted.isAfter(submittedTo))) {
+                return false;
+            }
+            if (!needsStudents()) {
+                return true;
+            }
+            if (student == null) {
+                return false;
+            }
+            if (major != null && !major.equalsIgnoreCase(optionalTrim(student.get(StudentEntity.StudentField.Major)))) {
+                return false;
+            }
+            return year == null || year.toString().equals(optionalTrim(student.get(StudentEntity.StudentField.Year)));
+        }
+
+        /**
+         * @return human-readable description of the active criteria
+         */
+        public String summary() {
+            List<String> parts = new ArrayList<>();
+            if (major != null) {
+                parts.add("major " + major);
+            }
+            if (year != null) {
+                parts.add("year " + year);
+            }
+            if (submittedFrom != null || submittedTo != null) {
+                parts.add("submitted " + (submittedFrom == null ? "any" : submittedFrom)
+                        + " to " + (submittedTo == null ? "any" : submittedTo));
+            }
+            return parts.isEmpty() ? "all applicants" : String.join(", ", parts);
+        }
+    }
+
+    /**
+     * Outcome of a batch decision.
+     *
+     * @param candidates   pending applications that matched
+     * @param decided      applications approved or rejected
+     * @param withoutSlot  approvals skipped because the internship had no slot left
+     * @param changed      applications skipped because they stopped being pending
+     *                     before the batch was written
+     * @param elapsedNanos wall-clock time of the batch
+     */
+    public record BatchResult(int candidates, int decided, int withoutSlot, int changed, long elapsedNanos) {
+
+        /**
+         * @return elapsed time in milliseconds
+         */
+        public double elapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+    }
+}
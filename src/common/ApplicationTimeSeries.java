@@ -0,0 +1,222 @@
+package common;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Counts applications per submission day, broken down by status and company. Buckets
+ * are keyed by epoch day in a sorted map, so a range query or a weekly rollup touches
+ * only the buckets inside the range instead of rescanning every application.
+ *
+ * <p>The counters are bootstrapped once per store and then maintained from store write
+ * notifications: an appended application adds to its day, a status change moves one
+ * count between statuses and a delete subtracts it. An application is attributed to
+ * the company its internship belonged to when the application was recorded.</p>
+ */
+public final class ApplicationTimeSeries {
+
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String APPLICATION_FILE = PathResolver.resource("internship_applications.csv");
+    private static final String UNKNOWN_COMPANY = "Unknown";
+
+    private final EntityStore store;
+    private final boolean incremental;
+    private final NavigableMap<Long, Counts> days = new TreeMap<>();
+    private final Map<String, String> companyByInternship = new HashMap<>();
+    private final ConsistentLoad load;
+
+    private ApplicationTimeSeries(EntityStore store) {
+        this.store = store;
+        this.load = new ConsistentLoad(store, INTERNSHIP_FILE, APPLICATION_FILE);
+        this.incremental = store.addListener(this::onChange);
+    }
+
+    /**
+     * Returns the time series maintained for the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared time series for the store
+     */
+    public static ApplicationTimeSeries of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(ApplicationTimeSeries.class, ApplicationTimeSeries::new);
+    }
+
+    /**
+     * Returns the earliest and latest submission days that have applications.
+     *
+     * @return two-element array {@code [first, last]}, or {@code null} when empty
+     */
+    public synchronized LocalDate[] span() {
+        ensureLoaded();
+        if (days.isEmpty()) {
+            return null;
+        }
+        return new LocalDate[]{LocalDate.ofEpochDay(days.firstKey()), LocalDate.ofEpochDay(days.lastKey())};
+    }
+
+    /**
+     * Lists the non-empty daily buckets inside the inclusive range.
+     *
+     * @param from first day, or {@code null} for no lower bound
+     * @param to   last day, or {@code null} for no upper bound
+     * @return buckets in chronological order
+     */
+    public synchronized List<Bucket> daily(LocalDate from, LocalDate to) {
+        ensureLoaded();
+        List<Bucket> result = new ArrayList<>();
+        for (Map.Entry<Long, Counts> entry : range(from, to).entrySet()) {
+            result.add(entry.getValue().toBucket(LocalDate.ofEpochDay(entry.getKey())));
+        }
+        return result;
+    }
+
+    /**
+     * Rolls the daily buckets inside the inclusive range up into ISO weeks starting on Monday.
+     *
+     * @param from first day, or {@code null} for no lower bound
+     * @param to   last day, or {@code null} for no upper bound
+     * @return weekly buckets in chronological order, labelled by their Monday
+     */
+    public synchronized List<Bucket> weekly(LocalDate from, LocalDate to) {
+        ensureLoaded();
+        Map<LocalDate, Counts> weeks = new TreeMap<>();
+        for (Map.Entry<Long, Counts> entry : range(from, to).entrySet()) {
+            LocalDate monday = LocalDate.ofEpochDay(entry.getKey())
+                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            weeks.computeIfAbsent(monday, ignored -> new Counts()).add(entry.getValue());
+        }
+        List<Bucket> result = new ArrayList<>(weeks.size());
+        weeks.forEach((monday, counts) -> result.add(counts.toBucket(monday)));
+        return result;
+    }
+
+    /**
+     * Sums every bucket inside the inclusive range.
+     *
+     * @param from first day, or {@code null} for no lower bound
+     * @param to   last day, or {@code null} for no upper bound
+     * @return combined bucket labelled with {@code from}
+     */
+    public synchronized Bucket total(LocalDate from, LocalDate to) {
+        ensureLoaded();
+        Counts sum = new Counts();
+        range(from, to).values().forEach(sum::add);
+        return sum.toBucket(from);
+    }
+
+    private NavigableMap<Long, Counts> range(LocalDate from, LocalDate to) {
+        long start = from == null ? Long.MIN_VALUE : from.toEpochDay();
+        long end = to == null ? Long.MAX_VALUE : to.toEpochDay();
+        if (start > end) {
+            return Collections.emptyNavigableMap();
+        }
+        return days.subMap(start, true, end, true);
+    }
+
+    private void ensureLoaded() {
+        if (load.isLoaded() && incremental) {
+            return;
+        }
+        load.load(() -> {
+            days.clear();
+            companyByInternship.clear();
+            store.forEach(INTERNSHIP_FILE, "Internship", entity -> trackInternship((InternshipEntity) entity));
+            store.forEach(APPLICATION_FILE, "Application", entity -> adjust((ApplicationEntity) entity, 1));
+        });
+    }
+
+    private synchronized void onChange(String filePath, Entity before, Entity after) {
+        if (!load.applies(filePath)) {
+            return;
+        }
+        if (INTERNSHIP_FILE.equals(filePath)) {
+            if (after instanceof InternshipEntity internship) {
+                trackInternship(internship);
+            } else if (before instanceof InternshipEntity internship) {
+                companyByInternship.remove(internship.get(InternshipEntity.InternshipField.InternshipID));
+            }
+        } else if (APPLICATION_FILE.equals(filePath)) {
+            if (before instanceof ApplicationEntity previous) {
+                adjust(previous, -1);
+            }
+            if (after instanceof ApplicationEntity current) {
+                adjust(current, 1);
+            }
+        }
+    }
+
+    private void trackInternship(InternshipEntity internship) {
+        String company = internship.get(InternshipEntity.InternshipField.CompanyName);
+        companyByInternship.put(internship.get(InternshipEntity.InternshipField.InternshipID),
+                company == null || company.isBlank() ? UNKNOWN_COMPANY : ValueCache.canonical(company));
+    }
+
+    private void adjust(ApplicationEntity application, int delta) {
+        LocalDate submitted = application.submissionDate();
+        if (submitted == null) {
+            return;
+        }
+        long day = submitted.toEpochDay();
+        String status = application.get(ApplicationEntity.ApplicationField.Status);
+        String company = companyByInternship.getOrDefault(
+                application.get(ApplicationEntity.ApplicationField.InternshipID), UNKNOWN_COMPANY);
+        Counts counts = days.computeIfAbsent(day, ignored -> new Counts());
+        counts.total += delta;
+        Counts.bump(counts.byStatus, status == null || status.isBlank() ? "Unknown" : status.trim(), delta);
+        Counts.bump(counts.byCompany, company, delta);
+        if (counts.total <= 0) {
+            days.remove(day);
+        }
+    }
+
+    /**
+     * Application counts for one period.
+     *
+     * @param start     first day of the period
+     * @param total     applications submitted in the period
+     * @param byStatus  applications per current status
+     * @param byCompany applications per company
+     */
+    public record Bucket(LocalDate start, long total, Map<String, Long> byStatus, Map<String, Long> byCompany) { }
+
+    /**
+     * Mutable counters stored for one day or accumulated for a rollup.
+     */
+    private static final class Counts {
+        private long total;
+        private final Map<String, Long> byStatus = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final Map<String, Long> byCompany = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        void add(Counts other) {
+            total += other.total;
+            other.byStatus.forEach((key, value) -> bump(byStatus, key, value));
+            other.byCompany.forEach((key, value) -> bump(byCompany, key, value));
+        }
+
+        Bucket toBucket(LocalDate start) {
+            return new Bucket(start, total,
+                    Collections.unmodifiableMap(new TreeMap<>(byStatus)),
+                    Collections.unmodifiableMap(new TreeMap<>(byCompany)));
+        }
+
+        static void bump(Map<String, Long> counts, String key, long delta) {
+            long updated = counts.getOrDefault(key, 0L) + delta;
+            if (updated <= 0) {
+                counts.remove(key);
+            } else {
+                counts.put(key, updated);
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package common;
 
-import exceptions.*;
 import java.util.Scanner;
 
 
@@ -15,30 +14,47 @@ public abstract class CRController extends UserController {
     protected String department;
     protected String position;
     protected String email;
+    private CREntity profile;
 
     /**
-     * Loads company representative metadata for the active session.
+     * Binds the controller to a company representative; the profile is loaded when the
+     * controller is entered.
      *
      * @param router navigation coordinator
      * @param scanner shared console reader
      * @param companyRepID identifier of the logged-in company representative
-     * @throws InvalidCompanyRepIDException when the identifier cannot be found or the data file is missing
      */
-    public CRController(Router router, Scanner scanner, EntityStore entityStore, String companyRepID) throws InvalidCompanyRepIDException {
+    public CRController(Router router, Scanner scanner, EntityStore entityStore, String companyRepID) {
         super(router, scanner, entityStore, companyRepID);
         this.companyRepID = companyRepID;
+    }
 
-        Entity entity = entityStore.findById(PathResolver.resource("cr.csv"), companyRepID, "CR");
-        if (entity == null) {
-            throw new InvalidCompanyRepIDException("Invalid company representative ID: " + companyRepID);
+    /**
+     * Loads company representative metadata for the active session, re-reading the
+     * fields only when the profile has changed since the previous visit.
+     */
+    @Override
+    protected boolean onEnter() {
+        if (!super.onEnter()) {
+            return false;
         }
-
-        CREntity crEntity = (CREntity) entity;
-        this.name = requiredValue(crEntity.get(CREntity.CRField.Name), companyRepID);
-        this.companyName = requiredValue(crEntity.get(CREntity.CRField.CompanyName), "");
-        this.department = requiredValue(crEntity.get(CREntity.CRField.Department), "");
-        this.position = requiredValue(crEntity.get(CREntity.CRField.Position), "");
-        this.email = requiredValue(crEntity.get(CREntity.CRField.Email), "");
+        Session session = router.session();
+        CREntity crEntity = session != null && session.isFor(companyRepID)
+                ? session.companyRep()
+                : UserDirectory.of(entityStore).companyRep(companyRepID);
+        if (crEntity == null) {
+            System.out.println("Invalid company representative ID: " + companyRepID);
+            return false;
+        }
+        if (crEntity != profile) {
+            this.name = requiredValue(crEntity.get(CREntity.CRField.Name), companyRepID);
+            this.companyName = requiredValue(crEntity.get(CREntity.CRField.CompanyName), "");
+            this.department = requiredValue(crEntity.get(CREntity.CRField.Department), "");
+            this.position = requiredValue(crEntity.get(CREntity.CRField.Position), "");
+            this.email = requiredValue(crEntity.get(CREntity.CRField.Email), "");
+            this.profile = crEntity;
+        }
+        return true;
     }
 
     @Override
@@ -19,7 +19,8 @@ public final class CRFilterService {
         "pending", "Pending",
         "approved", "Approved",
         "rejected", "Rejected",
-        "filled", "Filled"
+        "filled", "Filled",
+        "closed", InternshipEntity.STATUS_CLOSED
     );
     private static final Map<String, String> VISIBILITY_CANONICAL = Map.of(
         "on", "Visible",
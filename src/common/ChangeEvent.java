@@ -0,0 +1,33 @@
+package common;
+
+import java.time.Instant;
+
+/**
+ * One committed write to an {@link EntityStore}, as published on a {@link ChangeStream}.
+ *
+ * @param sequence  position in the stream, starting at 1 and increasing by one per event
+ * @param timestamp time the write was published
+ * @param table     resource name without directory or extension, e.g. {@code internship_applications}
+ * @param op        kind of write
+ * @param before    previous record, or {@code null} for an insert
+ * @param after     new record, or {@code null} for a delete
+ * @param version   {@link EntityStore#version(String)} of the resource after the write
+ */
+public record ChangeEvent(long sequence, Instant timestamp, String table, Op op,
+                          Entity before, Entity after, long version) {
+
+    /**
+     * Kind of write that produced an event.
+     */
+    public enum Op {
+        INSERT, UPDATE, DELETE
+    }
+
+    /**
+     * @return ID of the affected record, taken from the new record when present
+     */
+    public String id() {
+        Entity source = after != null ? after : before;
+        return source == null ? null : source.values[0];
+    }
+}
@@ -0,0 +1,305 @@
+package common;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Change-data-capture stream of every write made through an {@link EntityStore}. Writes
+ * are published as {@link ChangeEvent}s into a bounded ring buffer; each subscriber reads
+ * from its own cursor on a dedicated daemon thread, so subscribers run asynchronously
+ * and in commit order without keeping the process alive.
+ *
+ * <p>Backpressure: when the slowest subscriber is a full buffer behind, the writer waits
+ * for it to catch up. The wait is bounded because writers hold the store's file lock
+ * while publishing; a subscriber still lagging after the timeout is skipped forward and
+ * told how many events it missed through {@link ChangeSubscriber#onOverrun(long)}.</p>
+ *
+ * <p>Views that must be current when the write returns (listing indexes, funnels) keep
+ * using {@link StoreListener}; the stream is for work that may trail the write, such as
+ * notifications or external sinks. An optional durable log records every event as a
+ * tab-separated line.</p>
+ */
+public final class ChangeStream {
+
+    /** Ring buffer capacity used by {@link #of(EntityStore)}. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final long PUBLISH_TIMEOUT_MILLIS = 2_000;
+
+    private final EntityStore store;
+    private final boolean enabled;
+    private final ChangeEvent[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final Condition consumed = lock.newCondition();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private long nextSequence = 1;
+    private BufferedWriter log;
+
+    private ChangeStream(EntityStore store, int capacity) {
+        this.store = store;
+        this.ring = new ChangeEvent[capacity];
+        this.enabled = store.addListener(this::publish);
+    }
+
+    /**
+     * Returns the stream attached to the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared stream for the store
+     */
+    public static ChangeStream of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(ChangeStream.class, key -> new ChangeStream(key, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * @return {@code true} when the store reports its writes, {@code false} when the
+     *         stream will stay empty
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registers a subscriber that receives every event published from now on.
+     *
+     * @param name       label used for the delivery thread
+     * @param subscriber callback run on the subscription's thread
+     * @return handle used to inspect lag or cancel the subscription
+     */
+    public Subscription subscribe(String name, ChangeSubscriber subscriber) {
+        if (subscriber == null) {
+            throw new IllegalArgumentException("Subscriber is required");
+        }
+        Subscription subscription;
+        lock.lock();
+        try {
+            subscription = new Subscription(name, subscriber, nextSequence);
+            subscriptions.add(subscription);
+        } finally {
+            lock.unlock();
+        }
+        Thread delivery = new Thread(subscription::deliver, "change-" + name);
+        delivery.setDaemon(true);
+        delivery.start();
+        return subscription;
+    }
+
+    /**
+     * Appends every subsequent event to a durable log file, creating it when missing.
+     * Each line holds the sequence, timestamp, table, operation, version and the CSV
+     * form of the before and after records, separated by tabs.
+     *
+     * @param file log file to append to
+     * @throws IOException when the file cannot be opened
+     */
+    public void enableLog(Path file) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        lock.lock();
+        try {
+            if (log != null) {
+                log.close();
+            }
+            log = writer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return sequence number the next event will receive
+     */
+    public long nextSequence() {
+        lock.lock();
+        try {
+            return nextSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publish(String filePath, Entity before, Entity after) {
+        ChangeEvent.Op op = before == null ? ChangeEvent.Op.INSERT
+                : after == null ? ChangeEvent.Op.DELETE : ChangeEvent.Op.UPDATE;
+        long version = store.version(filePath);
+        lock.lock();
+        try {
+            awaitCapacity();
+            ChangeEvent event = new ChangeEvent(nextSequence, Instant.now(), tableOf(filePath),
+                    op, before, after, version);
+            ring[slot(nextSequence)] = event;
+            nextSequence++;
+            writeLog(event);
+            published.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the oldest slot is no longer needed by any subscriber, skipping
+     * subscribers that are still behind when the timeout expires.
+     */
+    private void awaitCapacity() {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(PUBLISH_TIMEOUT_MILLIS);
+        long oldestKept = nextSequence - ring.length;
+        while (slowestCursor() <= oldestKept) {
+            if (remaining <= 0) {
+                for (Subscription subscription : subscriptions) {
+                    if (subscription.cursor <= oldestKept) {
+                        subscription.missed += oldestKept + 1 - subscription.cursor;
+                        subscription.cursor = oldestKept + 1;
+                    }
+                }
+                return;
+            }
+            try {
+                remaining = consumed.awaitNanos(remaining);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                remaining = 0;
+            }
+        }
+    }
+
+    private long slowestCursor() {
+        long slowest = Long.MAX_VALUE;
+        for (Subscription subscription : subscriptions) {
+            slowest = Math.min(slowest, subscription.cursor);
+        }
+        return slowest;
+    }
+
+    private void writeLog(ChangeEvent event) {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.write(event.sequence() + "\t" + event.timestamp() + "\t" + event.table() + "\t"
+                    + event.op() + "\t" + event.version() + "\t"
+                    + (event.before() == null ? "" : event.before().toCSVFormat()) + "\t"
+                    + (event.after() == null ? "" : event.after().toCSVFormat()));
+            log.newLine();
+            log.flush();
+        } catch (IOException ex) {
+            System.err.println("Change log disabled after write failure: " + ex.getMessage());
+            log = null;
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+
+    private static String tableOf(String filePath) {
+        String name = Path.of(filePath).getFileName().toString();
+        return name.endsWith(".csv") ? name.substring(0, name.length() - 4) : name;
+    }
+
+    /**
+     * Handle for one subscriber's position in the stream.
+     */
+    public final class Subscription implements AutoCloseable {
+        private final String name;
+        private final ChangeSubscriber subscriber;
+        private long cursor;
+        private long missed;
+        private boolean active = true;
+
+        private Subscription(String name, ChangeSubscriber subscriber, long cursor) {
+            this.name = name;
+            this.subscriber = subscriber;
+            this.cursor = cursor;
+        }
+
+        /**
+         * @return subscriber label
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return number of published events not yet handed to the subscriber
+         */
+        public long lag() {
+            lock.lock();
+            try {
+                return nextSequence - cursor;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Stops delivery; events already handed to the subscriber still complete.
+         */
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                active = false;
+                subscriptions.remove(this);
+                published.signalAll();
+                consumed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void deliver() {
+            List<ChangeEvent> batch = new ArrayList<>();
+            while (true) {
+                long skipped;
+                lock.lock();
+                try {
+                    while (active && cursor == nextSequence) {
+                        published.awaitUninterruptibly();
+                    }
+                    if (!active) {
+                        return;
+                    }
+                    skipped = missed;
+                    missed = 0;
+                    for (long sequence = cursor; sequence < nextSequence; sequence++) {
+                        batch.add(ring[slot(sequence)]);
+                    }
+                    cursor = nextSequence;
+                    consumed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                if (skipped > 0) {
+                    run(() -> subscriber.onOverrun(skipped));
+                }
+                for (ChangeEvent event : batch) {
+                    run(() -> subscriber.onEvent(event));
+                }
+                batch.clear();
+            }
+        }
+
+        private void run(Runnable callback) {
+            try {
+                callback.run();
+            } catch (RuntimeException ex) {
+                System.err.println("Change subscriber '" + name + "' failed: " + ex.getMessage());
+            }
+        }
+    }
+}
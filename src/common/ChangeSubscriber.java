@@ -0,0 +1,26 @@
+package common;
+
+/**
+ * Consumer of a {@link ChangeStream}. Events are delivered in commit order on the
+ * subscription's own thread, so a slow subscriber never delays the writer unless the
+ * stream's buffer fills up.
+ */
+@FunctionalInterface
+public interface ChangeSubscriber {
+    /**
+     * Invoked once per change, in sequence order.
+     *
+     * @param event committed change
+     */
+    void onEvent(ChangeEvent event);
+
+    /**
+     * Invoked when the subscriber fell so far behind that events were dropped. Derived
+     * state should be rebuilt from the store before relying on further events.
+     *
+     * @param missed number of events skipped
+     */
+    default void onOverrun(long missed) {
+        System.err.println("Change subscriber missed " + missed + " event(s).");
+    }
+}
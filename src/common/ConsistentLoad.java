@@ -0,0 +1,92 @@
+package common;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loads a derived view from store files without taking their write locks, and tells the
+ * view's listener which change notifications that load already includes.
+ *
+ * <p>A scan counts only when every file showed the same even {@link EntityStore#version}
+ * before and after it, i.e. no write was in progress or completed meanwhile; otherwise it
+ * is run again. Listeners are notified under the file lock once the write's version is
+ * final, so a notification whose version is not above the loaded one describes a row the
+ * scan has already counted and must not be applied a second time.</p>
+ *
+ * <p>Not thread-safe: callers guard it with the same monitor as the view it loads.</p>
+ */
+public final class ConsistentLoad {
+
+    private final EntityStore store;
+    private final List<String> files;
+    private long[] versions;
+
+    /**
+     * @param store backing entity store
+     * @param files resources the view is built from
+     */
+    public ConsistentLoad(EntityStore store, String... files) {
+        this.store = store;
+        this.files = List.of(files);
+    }
+
+    /**
+     * Runs {@code scan} until one run saw none of the files change. The scan must reset the
+     * view's state before reading, since it may run more than once.
+     *
+     * @param scan rebuilds the view from the files
+     */
+    public void load(Runnable scan) {
+        while (true) {
+            long[] before = versions();
+            if (writing(before)) {
+                Thread.onSpinWait();
+                continue;
+            }
+            scan.run();
+            if (Arrays.equals(before, versions())) {
+                versions = before;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return whether {@link #load(Runnable)} has completed at least once
+     */
+    public boolean isLoaded() {
+        return versions != null;
+    }
+
+    /**
+     * Decides whether a change notification still has to be applied to the view. Must be
+     * called from the listener, while the store holds the file's write lock.
+     *
+     * @param filePath resource that was written
+     * @return {@code false} before the first load and for writes the load already saw
+     */
+    public boolean applies(String filePath) {
+        if (versions == null) {
+            return false;
+        }
+        int index = files.indexOf(filePath);
+        return index < 0 || versions[index] < 0 || store.version(filePath) > versions[index];
+    }
+
+    private long[] versions() {
+        long[] current = new long[files.size()];
+        for (int i = 0; i < current.length; i++) {
+            current[i] = store.version(files.get(i));
+        }
+        return current;
+    }
+
+    private static boolean writing(long[] versions) {
+        for (long version : versions) {
+            if (version >= 0 && (version & 1) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -29,4 +29,22 @@ public abstract class Controller {
      * Entry point invoked when the controller becomes active.
      */
     public abstract void initialize();
+
+    /**
+     * Called by the router each time this controller is pushed, before {@link #initialize()}
+     * first runs for that visit. Controllers are reused across visits within a session, so
+     * state that must be current for a visit is refreshed here rather than in the
+     * constructor, which should do no I/O.
+     *
+     * @return {@code false} to leave straight away without initialising
+     */
+    protected boolean onEnter() {
+        return true;
+    }
+
+    /**
+     * Called by the router when this controller is removed from the stack.
+     */
+    protected void onLeave() {
+    }
 }
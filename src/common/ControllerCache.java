@@ -0,0 +1,47 @@
+package common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Controllers of one session, built the first time their key is selected and reused on
+ * every later selection. Registries are created once per signed-in home page, so each
+ * cache lives exactly as long as the session that owns it. Reuse relies on controllers
+ * refreshing per-visit state in {@link Controller#onEnter()} rather than in their
+ * constructors.
+ */
+public final class ControllerCache {
+    private final Map<String, Supplier<? extends Controller>> factories = new HashMap<>();
+    private final Map<String, Controller> controllers = new HashMap<>();
+
+    /**
+     * Maps a key to the factory that builds its controller on first use.
+     *
+     * @param key     menu option or role
+     * @param factory constructor of the controller
+     */
+    public void register(String key, Supplier<? extends Controller> factory) {
+        factories.put(key, factory);
+    }
+
+    /**
+     * Returns the controller for a key, building it on first use.
+     *
+     * @param key menu option or role
+     * @return controller bound to the key
+     * @throws IllegalArgumentException when the key is not registered
+     */
+    public Controller get(String key) {
+        Controller controller = controllers.get(key);
+        if (controller == null) {
+            Supplier<? extends Controller> factory = factories.get(key);
+            if (factory == null) {
+                throw new IllegalArgumentException("No controller mapped for key: " + key);
+            }
+            controller = factory.get();
+            controllers.put(key, controller);
+        }
+        return controller;
+    }
+}
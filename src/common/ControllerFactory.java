@@ -7,7 +7,7 @@ package common;
 public interface ControllerFactory {
 
     /**
-     * Builds and optionally activates the controller bound to the supplied key.
+     * Activates the controller bound to the supplied key, building it on first use.
      *
      * @param key lookup token, typically a menu selection or user role
      * @throws IllegalArgumentException if the key is unmapped by an implementation
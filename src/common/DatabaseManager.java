@@ -1,7 +1,19 @@
 package common;
 
 import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 // Interface for entity creation (Factory pattern + OCP)
 /**
@@ -124,6 +136,20 @@ class BookmarkEntityFactory implements EntityFactory {
     }
 }
 
+/**
+ * Factory for creating {@link NotificationEntity} instances.
+ */
+class NotificationEntityFactory implements EntityFactory {
+    @Override
+    public Entity createEntity(String csvLine) {
+        return new NotificationEntity(csvLine);
+    }
+    @Override
+    public boolean canHandle(String entityType) {
+        return "Notification".equals(entityType);
+    }
+}
+
 // Registry for entity factories (OCP compliant)
 /**
  * Maintains the list of entity factories and routes creation requests.
@@ -140,6 +166,7 @@ class EntityFactoryRegistry {
         factories.add(new ApplicationEntityFactory());
         factories.add(new UserEntityFactory());
         factories.add(new BookmarkEntityFactory());
+        factories.add(new NotificationEntityFactory());
     }
 
     /**
@@ -182,6 +209,22 @@ interface FileOperations {
      */
     List<String> readLines(String filePath);
 
+    /**
+     * Streams non-empty lines from the supplied file without buffering the whole file.
+     *
+     * @param filePath path to the CSV file
+     * @param consumer callback invoked once per data line
+     */
+    void forEachLine(String filePath, Consumer<String> consumer);
+
+    /**
+     * Streams non-empty lines from the supplied file until the visitor asks to stop.
+     *
+     * @param filePath path to the CSV file
+     * @param visitor  callback invoked once per data line; returning {@code false} stops the scan
+     */
+    void scanLines(String filePath, Predicate<String> visitor);
+
     /**
      * Writes lines to the supplied file path.
      *
@@ -200,6 +243,20 @@ class StandardFileOperations implements FileOperations {
     @Override
     public List<String> readLines(String filePath) {
         List<String> lines = new ArrayList<>();
+        forEachLine(filePath, lines::add);
+        return lines;
+    }
+
+    @Override
+    public void forEachLine(String filePath, Consumer<String> consumer) {
+        scanLines(filePath, line -> {
+            consumer.accept(line);
+            return true;
+        });
+    }
+
+    @Override
+    public void scanLines(String filePath, Predicate<String> visitor) {
         try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
             String line;
             boolean isFirstLine = true;
@@ -211,12 +268,13 @@ class StandardFileOperations implements FileOperations {
                     continue;
                 }
                 isFirstLine = false;
-                lines.add(line);
+                if (!visitor.test(line)) {
+                    return;
+                }
             }
         } catch (IOException ex) {
             System.err.println("Failed to read file " + filePath + ": " + ex.getMessage());
         }
-        return lines;
     }
 
     private boolean looksLikeHeader(String line) {
@@ -232,15 +290,48 @@ class StandardFileOperations implements FileOperations {
                 || upper.startsWith("CRID,");
     }
 
+    /**
+     * Appends in place; full rewrites go to a temporary file that then replaces the
+     * original, so concurrent readers see either the old or the new contents.
+     */
     @Override
     public void writeLines(String filePath, List<String> lines, boolean append) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(filePath, append))) {
-            for (String line : lines) {
-                bw.write(line);
-                bw.newLine();
+        if (append) {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(filePath, true))) {
+                write(bw, lines);
+            } catch (IOException ex) {
+                System.err.println("Failed to write file " + filePath + ": " + ex.getMessage());
+            }
+            return;
+        }
+        Path target = Paths.get(filePath).toAbsolutePath();
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try (BufferedWriter bw = Files.newBufferedWriter(temp)) {
+                write(bw, lines);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
             }
         } catch (IOException ex) {
             System.err.println("Failed to write file " + filePath + ": " + ex.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // best effort cleanup
+                }
+            }
+        }
+    }
+
+    private static void write(BufferedWriter bw, List<String> lines) throws IOException {
+        for (String line : lines) {
+            bw.write(line);
+            bw.newLine();
         }
     }
 }
@@ -275,6 +366,28 @@ class EntityRepository {
         return entities;
     }
 
+    /**
+     * Hydrates entities one line at a time and hands each to the consumer.
+     */
+    public void forEachEntity(String filePath, String entityType, Consumer<Entity> consumer) {
+        fileOps.forEachLine(filePath, line -> {
+            Entity entity = EntityFactoryRegistry.createEntity(entityType, line);
+            if (entity != null) {
+                consumer.accept(entity);
+            }
+        });
+    }
+
+    /**
+     * Hydrates entities one line at a time until the visitor returns {@code false}.
+     */
+    public void scanEntities(String filePath, String entityType, Predicate<Entity> visitor) {
+        fileOps.scanLines(filePath, line -> {
+            Entity entity = EntityFactoryRegistry.createEntity(entityType, line);
+            return entity == null || visitor.test(entity);
+        });
+    }
+
     /**
      * Writes the supplied entities to disk, replacing existing contents.
      */
@@ -294,6 +407,17 @@ class EntityRepository {
         fileOps.writeLines(filePath, lines, true);
     }
 
+    /**
+     * Appends several entities to the backing file with a single open.
+     */
+    public void appendEntities(String filePath, List<? extends Entity> entities) {
+        List<String> lines = new ArrayList<>(entities.size());
+        for (Entity entity : entities) {
+            lines.add(entity.toCSVFormat());
+        }
+        fileOps.writeLines(filePath, lines, true);
+    }
+
     /**
      * Searches the in-memory list for an entity with the requested identifier.
      */
@@ -336,9 +460,18 @@ class EntityRepository {
 // Main DatabaseManager
 /**
  * Facade providing CSV-backed persistence operations for domain entities.
+ *
+ * <p>Safe to share between concurrent sessions: writes to one file are serialised by a
+ * per-file lock (covering the read-modify-write and the listener notifications, so
+ * listeners see changes in commit order), while reads take no lock because rewrites
+ * replace files atomically.</p>
  */
 public class DatabaseManager implements EntityStore {
     private final EntityRepository repository;
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> fileLocks = new ConcurrentHashMap<>();
+    private final List<StoreListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, Object> views = new HashMap<>();
 
     /**
      * Builds a database manager backed by the default file operations.
@@ -356,6 +489,37 @@ public class DatabaseManager implements EntityStore {
         return repository.loadEntities(filePath, entityType);
     }
 
+    @Override
+    public void forEach(String filePath, String entityType, Consumer<Entity> consumer) {
+        repository.forEachEntity(filePath, entityType, consumer);
+    }
+
+    /**
+     * Stops reading the file as soon as the window and one look-ahead match are found.
+     */
+    @Override
+    public Page<Entity> page(String filePath, String entityType, Predicate<? super Entity> filter,
+                             int offset, int limit) {
+        List<Entity> rows = new ArrayList<>(limit);
+        int[] matched = {0};
+        boolean[] more = {false};
+        repository.scanEntities(filePath, entityType, entity -> {
+            if (!filter.test(entity)) {
+                return true;
+            }
+            int position = matched[0]++;
+            if (position >= offset + limit) {
+                more[0] = true;
+                return false;
+            }
+            if (position >= offset) {
+                rows.add(entity);
+            }
+            return true;
+        });
+        return new Page<>(rows, offset, more[0]);
+    }
+
     /**
      * Populates the provided list with the entities stored in {@code filePath}.
      */
@@ -367,20 +531,201 @@ public class DatabaseManager implements EntityStore {
 
     @Override
     public void append(String filePath, Entity entity) {
-        repository.appendEntity(filePath, entity);
+        ReentrantLock lock = lockFor(filePath);
+        lock.lock();
+        try {
+            write(filePath, () -> repository.appendEntity(filePath, entity));
+            notifyListeners(filePath, null, entity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void appendAll(String filePath, List<? extends Entity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        ReentrantLock lock = lockFor(filePath);
+        lock.lock();
+        try {
+            write(filePath, () -> repository.appendEntities(filePath, entities));
+            for (Entity entity : entities) {
+                notifyListeners(filePath, null, entity);
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public void update(String filePath, String id, Entity entity, String entityType) {
-        List<Entity> list = loadAll(filePath, entityType);
-        list = repository.replaceById(list, id, entity);
-        repository.saveEntities(filePath, list);
+        ReentrantLock lock = lockFor(filePath);
+        lock.lock();
+        try {
+            List<Entity> list = loadAll(filePath, entityType);
+            Entity before = repository.findById(list, id);
+            List<Entity> updated = repository.replaceById(list, id, entity);
+            write(filePath, () -> repository.saveEntities(filePath, updated));
+            if (before != null) {
+                notifyListeners(filePath, before, entity);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAll(String filePath, Map<String, Entity> replacements, String entityType) {
+        if (replacements.isEmpty()) {
+            return;
+        }
+        ReentrantLock lock = lockFor(filePath);
+        lock.lock();
+        try {
+            List<Entity> list = loadAll(filePath, entityType);
+            List<Entity[]> changes = new ArrayList<>();
+            for (int i = 0; i < list.size(); i++) {
+                Entity before = list.get(i);
+                Entity after = replacements.get(before.values[0]);
+                if (after != null) {
+                    list.set(i, after);
+                    changes.add(new Entity[]{before, after});
+                }
+            }
+            write(filePath, () -> repository.saveEntities(filePath, list));
+            for (Entity[] change : changes) {
+                notifyListeners(filePath, change[0], change[1]);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<String> updateAllIf(String filePath, Map<String, Entity> replacements, String entityType,
+                                   Predicate<? super Entity> expected) {
+        if (replacements.isEmpty()) {
+            return Set.of();
+        }
+        ReentrantLock lock = lockFor(filePath);
+        lock.lock();
+        try {
+            List<Entity> list = loadAll(filePath, entityType);
+            List<Entity[]> changes = new ArrayList<>();
+            Set<String> replaced = new LinkedHashSet<>();
+            for (int i = 0; i < list.size(); i++) {
+                Entity before = list.get(i);
+                Entity after = replacements.get(before.values[0]);
+                if (after != null && expected.test(before)) {
+                    list.set(i, after);
+                    changes.add(new Entity[]{before, after});
+                    replaced.add(before.values[0]);
+                }
+            }
+            if (changes.isEmpty()) {
+                return replaced;
+            }
+            write(filePath, () -> repository.saveEntities(filePath, list));
+            for (Entity[] change : changes) {
+                notifyListeners(filePath, change[0], change[1]);
+            }
+            return replaced;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public void delete(String filePath, String id, String entityType) {
-        List<Entity> list = loadAll(filePath, entityType);
-        list = repository.removeById(list, id);
-        repository.saveEntities(filePath, list);
+        ReentrantLock lock = lockFor(filePath);
+        lock.lock();
+        try {
+            List<Entity> list = loadAll(filePath, entityType);
+            Entity before = repository.findById(list, id);
+            List<Entity> remaining = repository.removeById(list, id);
+            write(filePath, () -> repository.saveEntities(filePath, remaining));
+            if (before != null) {
+                notifyListeners(filePath, before, null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll(String filePath, Collection<String> ids, String entityType) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Set<String> targets = ids instanceof Set<String> set ? set : new HashSet<>(ids);
+        ReentrantLock lock = lockFor(filePath);
+        lock.lock();
+        try {
+            List<Entity> kept = new ArrayList<>();
+            List<Entity> removed = new ArrayList<>();
+            for (Entity entity : loadAll(filePath, entityType)) {
+                (targets.contains(entity.values[0]) ? removed : kept).add(entity);
+            }
+            if (removed.isEmpty()) {
+                return;
+            }
+            write(filePath, () -> repository.saveEntities(filePath, kept));
+            for (Entity entity : removed) {
+                notifyListeners(filePath, entity, null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long version(String filePath) {
+        return versions.computeIfAbsent(filePath, key -> new AtomicLong()).get();
+    }
+
+    @Override
+    public boolean addListener(StoreListener listener) {
+        listeners.add(listener);
+        return true;
+    }
+
+    /**
+     * Creation runs under the registry's monitor rather than inside {@code computeIfAbsent},
+     * because a view's constructor may ask for the views it builds on.
+     */
+    @Override
+    public <V> V view(Class<V> type, Function<? super EntityStore, ? extends V> factory) {
+        synchronized (views) {
+            Object view = views.get(type);
+            if (view == null) {
+                view = factory.apply(this);
+                views.put(type, view);
+            }
+            return type.cast(view);
+        }
+    }
+
+    private void notifyListeners(String filePath, Entity before, Entity after) {
+        for (StoreListener listener : listeners) {
+            listener.onChange(filePath, before, after);
+        }
+    }
+
+    private ReentrantLock lockFor(String filePath) {
+        return fileLocks.computeIfAbsent(filePath, key -> new ReentrantLock());
+    }
+
+    /**
+     * Runs a file write between two version bumps, leaving the version odd while it runs.
+     */
+    private void write(String filePath, Runnable write) {
+        AtomicLong version = versions.computeIfAbsent(filePath, key -> new AtomicLong());
+        version.incrementAndGet();
+        try {
+            write.run();
+        } finally {
+            version.incrementAndGet();
+        }
     }
 }
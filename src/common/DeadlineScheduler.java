@@ -0,0 +1,221 @@
+package common;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background job that closes internships once their closing date has passed. Approved
+ * internships are queued by closing day; each sweep pops only the expired entries,
+ * marks them {@link InternshipEntity#STATUS_CLOSED} in a single batched write and lets
+ * the store notifications drop them from the listing indexes. Read paths therefore skip
+ * expired rows by status instead of comparing dates per row. Pending, filled and
+ * rejected internships are left alone, so placement state survives the deadline.
+ *
+ * <p>A sweep runs when the scheduler starts and again shortly after every midnight.
+ * Queue entries are invalidated lazily: when an internship's closing date changes a new
+ * entry is queued and the outdated one is ignored when it reaches the head. The write
+ * only replaces rows that are unchanged since the sweep read them; a row changed in
+ * between is queued again by its store notification and retried.</p>
+ */
+public final class DeadlineScheduler {
+
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String STATUS_APPROVED = "Approved";
+    /** Rounds per sweep for rows that changed between the read and the write. */
+    private static final int MAX_ROUNDS = 3;
+
+    private final EntityStore store;
+    private final boolean incremental;
+    private final PriorityQueue<Deadline> queue = new PriorityQueue<>(Comparator.comparingLong(Deadline::closeDay));
+    private final Map<String, Long> scheduledDays = new HashMap<>();
+    private final ScheduledExecutorService executor;
+    private final Object startLock = new Object();
+    private boolean started;
+
+    private DeadlineScheduler(EntityStore store) {
+        this.store = store;
+        this.incremental = store.addListener(this::onChange);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "deadline-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reload();
+    }
+
+    /**
+     * Starts the scheduler for the supplied store, closing already expired internships
+     * before returning. Calling it again for the same store returns the running instance.
+     *
+     * @param store backing entity store
+     * @return running scheduler
+     */
+    public static DeadlineScheduler start(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        DeadlineScheduler scheduler = store.view(DeadlineScheduler.class, DeadlineScheduler::new);
+        // the first sweep writes to the store, so it runs outside the store's view registry
+        synchronized (scheduler.startLock) {
+            if (!scheduler.started) {
+                scheduler.started = true;
+                scheduler.sweep();
+                scheduler.scheduleNextSweep();
+            }
+        }
+        return scheduler;
+    }
+
+    /**
+     * Stops the background sweeps. The scheduler stays attached to its store, so a later
+     * {@link #start(EntityStore)} returns this stopped instance.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Closes every internship whose closing date is before today.
+     *
+     * @return number of internships closed by this sweep
+     */
+    public int sweep() {
+        int closed = 0;
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            Set<String> expired = takeExpired();
+            if (expired.isEmpty()) {
+                break;
+            }
+            closed += close(expired);
+        }
+        return closed;
+    }
+
+    /**
+     * Closes the expired internships that are still approved and unchanged since they
+     * were read. The write happens outside this scheduler's monitor: the store notifies
+     * onChange while holding its file lock, so holding both here could deadlock.
+     */
+    private int close(Set<String> expired) {
+        long today = LocalDate.now().toEpochDay();
+        Map<String, Entity> replacements = new LinkedHashMap<>();
+        Map<String, String[]> snapshots = new HashMap<>();
+        store.forEach(INTERNSHIP_FILE, "Internship", entity -> {
+            InternshipEntity internship = (InternshipEntity) entity;
+            String id = internship.get(InternshipEntity.InternshipField.InternshipID);
+            if (expired.contains(id) && expiredOn(internship, today)) {
+                snapshots.put(id, internship.values.clone());
+                internship.set(InternshipEntity.InternshipField.Status, InternshipEntity.STATUS_CLOSED);
+                replacements.put(id, internship);
+            }
+        });
+        if (replacements.isEmpty()) {
+            return 0;
+        }
+        return store.updateAllIf(INTERNSHIP_FILE, replacements, "Internship", current ->
+                current instanceof InternshipEntity internship
+                        && expiredOn(internship, today)
+                        && Arrays.equals(internship.values, snapshots.get(internship.values[0]))).size();
+    }
+
+    private synchronized Set<String> takeExpired() {
+        if (!incremental) {
+            reload();
+        }
+        long today = LocalDate.now().toEpochDay();
+        Set<String> expired = new HashSet<>();
+        while (!queue.isEmpty() && queue.peek().closeDay() < today) {
+            Deadline deadline = queue.poll();
+            Long current = scheduledDays.get(deadline.id());
+            if (current != null && current == deadline.closeDay()) {
+                // untracked while in flight, so a concurrent change queues the row again
+                scheduledDays.remove(deadline.id());
+                expired.add(deadline.id());
+            }
+        }
+        return expired;
+    }
+
+    private void scheduleNextSweep() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextRun = now.toLocalDate().plusDays(1).atStartOfDay().plusMinutes(1);
+        long delayMillis = Duration.between(now, nextRun).toMillis();
+        executor.schedule(() -> {
+            try {
+                int closed = sweep();
+                if (closed > 0) {
+                    // stdout belongs to whichever menu is open; keep the sweep log out of it
+                    System.err.println("Deadline sweep closed " + closed + " internship(s) past their closing date.");
+                }
+            } catch (RuntimeException ex) {
+                System.err.println("Deadline sweep failed: " + ex.getMessage());
+            } finally {
+                scheduleNextSweep();
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void reload() {
+        queue.clear();
+        scheduledDays.clear();
+        store.forEach(INTERNSHIP_FILE, "Internship", entity -> track((InternshipEntity) entity));
+    }
+
+    private synchronized void onChange(String filePath, Entity before, Entity after) {
+        if (!INTERNSHIP_FILE.equals(filePath)) {
+            return;
+        }
+        if (after instanceof InternshipEntity current) {
+            track(current);
+        } else if (before instanceof InternshipEntity previous) {
+            scheduledDays.remove(previous.get(InternshipEntity.InternshipField.InternshipID));
+        }
+    }
+
+    /**
+     * Queues an approved internship by closing day. Updates that keep the closing day,
+     * such as slot flushes and visibility toggles, do not add another queue entry.
+     */
+    private void track(InternshipEntity internship) {
+        String id = internship.get(InternshipEntity.InternshipField.InternshipID);
+        LocalDate closeDate = internship.closeDate();
+        if (closeDate == null || !isApproved(internship)) {
+            scheduledDays.remove(id);
+            return;
+        }
+        long closeDay = closeDate.toEpochDay();
+        Long previous = scheduledDays.put(id, closeDay);
+        if (previous == null || previous != closeDay) {
+            queue.add(new Deadline(closeDay, id));
+        }
+    }
+
+    private static boolean isApproved(InternshipEntity internship) {
+        return STATUS_APPROVED.equalsIgnoreCase(internship.get(InternshipEntity.InternshipField.Status));
+    }
+
+    private static boolean expiredOn(InternshipEntity internship, long today) {
+        LocalDate closeDate = internship.closeDate();
+        return isApproved(internship) && closeDate != null && closeDate.toEpochDay() < today;
+    }
+
+    /**
+     * Queued closing day of one internship.
+     *
+     * @param closeDay closing date as epoch day
+     * @param id       internship identifier
+     */
+    private record Deadline(long closeDay, String id) { }
+}
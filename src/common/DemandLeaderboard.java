@@ -0,0 +1,203 @@
+package common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Continuously maintained leaderboards of the most-applied internships and companies.
+ *
+ * <p>The counts are bootstrapped once per store and then fed by store notifications: a
+ * new application adds one to its internship, its company and the company's internship
+ * board, and a deleted application subtracts one. Status changes leave the counts
+ * alone, since they measure demand rather than outcomes. Each board keeps its keys in
+ * count order, so reading the top {@code k} is {@code O(k)}.</p>
+ */
+public final class DemandLeaderboard {
+
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String APPLICATION_FILE = PathResolver.resource("internship_applications.csv");
+    private static final String UNKNOWN_COMPANY = "Unknown";
+
+    private final EntityStore store;
+    private final boolean incremental;
+    private final RankedCounter internships = new RankedCounter();
+    private final RankedCounter companies = new RankedCounter();
+    private final Map<String, RankedCounter> internshipsByCompany = new HashMap<>();
+    private final Map<String, String> companyByInternship = new HashMap<>();
+    private final Map<String, String> titleByInternship = new HashMap<>();
+    private final Map<String, String> companyNames = new HashMap<>();
+    private final ConsistentLoad load;
+
+    private DemandLeaderboard(EntityStore store) {
+        this.store = store;
+        this.load = new ConsistentLoad(store, INTERNSHIP_FILE, APPLICATION_FILE);
+        this.incremental = store.addListener(this::onChange);
+    }
+
+    /**
+     * Returns the leaderboard maintained for the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared leaderboard for the store
+     */
+    public static DemandLeaderboard of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(DemandLeaderboard.class, DemandLeaderboard::new);
+    }
+
+    /**
+     * Lists the internships with the most applications.
+     *
+     * @param k maximum number of entries
+     * @return entries in descending order of applications
+     */
+    public synchronized List<Entry> topInternships(int k) {
+        ensureLoaded();
+        return describe(internships.top(k));
+    }
+
+    /**
+     * Lists the companies with the most applications across their internships.
+     *
+     * @param k maximum number of entries
+     * @return entries in descending order of applications
+     */
+    public synchronized List<Entry> topCompanies(int k) {
+        ensureLoaded();
+        List<Entry> result = new ArrayList<>();
+        for (RankedCounter.Ranked entry : companies.top(k)) {
+            result.add(new Entry(companyNames.getOrDefault(entry.key(), entry.key()), "", entry.count()));
+        }
+        return result;
+    }
+
+    /**
+     * Lists a company's internships with the most applications.
+     *
+     * @param companyName company to report
+     * @param k           maximum number of entries
+     * @return entries in descending order of applications
+     */
+    public synchronized List<Entry> topInternshipsForCompany(String companyName, int k) {
+        ensureLoaded();
+        RankedCounter board = internshipsByCompany.get(companyKey(companyName));
+        return board == null ? List.of() : describe(board.top(k));
+    }
+
+    /**
+     * Returns where a company ranks among all companies by applications received.
+     *
+     * @param companyName company to look up
+     * @return one-based rank, or zero when the company has no applications
+     */
+    public synchronized int companyRank(String companyName) {
+        ensureLoaded();
+        return companies.rankOf(companyKey(companyName));
+    }
+
+    /**
+     * @return number of companies that have received at least one application
+     */
+    public synchronized int companyCount() {
+        ensureLoaded();
+        return companies.size();
+    }
+
+    private List<Entry> describe(List<RankedCounter.Ranked> ranked) {
+        List<Entry> result = new ArrayList<>(ranked.size());
+        for (RankedCounter.Ranked entry : ranked) {
+            result.add(new Entry(entry.key(), titleByInternship.getOrDefault(entry.key(), ""), entry.count()));
+        }
+        return result;
+    }
+
+    private void ensureLoaded() {
+        if (load.isLoaded() && incremental) {
+            return;
+        }
+        load.load(() -> {
+            internships.clear();
+            companies.clear();
+            internshipsByCompany.clear();
+            companyByInternship.clear();
+            titleByInternship.clear();
+            companyNames.clear();
+            store.forEach(INTERNSHIP_FILE, "Internship", entity -> trackInternship((InternshipEntity) entity));
+            store.forEach(APPLICATION_FILE, "Application", entity -> count((ApplicationEntity) entity, 1));
+        });
+    }
+
+    private synchronized void onChange(String filePath, Entity before, Entity after) {
+        if (!load.applies(filePath)) {
+            return;
+        }
+        if (APPLICATION_FILE.equals(filePath)) {
+            if (before == null && after instanceof ApplicationEntity application) {
+                count(application, 1);
+            } else if (after == null && before instanceof ApplicationEntity application) {
+                count(application, -1);
+            }
+        } else if (INTERNSHIP_FILE.equals(filePath) && after instanceof InternshipEntity internship) {
+            trackInternship(internship);
+        }
+    }
+
+    /**
+     * Records an internship's company and title, moving its applications to the new
+     * company's boards if the company changed.
+     */
+    private void trackInternship(InternshipEntity internship) {
+        String internshipId = internship.get(InternshipEntity.InternshipField.InternshipID);
+        String companyName = internship.get(InternshipEntity.InternshipField.CompanyName);
+        String company = companyKey(companyName);
+        if (companyName != null && !companyName.isBlank()) {
+            companyNames.putIfAbsent(company, ValueCache.canonical(companyName.trim()));
+        }
+        String title = internship.get(InternshipEntity.InternshipField.Title);
+        titleByInternship.put(internshipId, title == null ? "" : ValueCache.canonical(title));
+        String previous = companyByInternship.put(internshipId, company);
+        long applications = internships.count(internshipId);
+        if (previous != null && !previous.equals(company) && applications > 0) {
+            moveCompany(internshipId, previous, -applications);
+            moveCompany(internshipId, company, applications);
+        }
+    }
+
+    private void count(ApplicationEntity application, int delta) {
+        String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
+        if (internshipId == null || internshipId.isBlank()) {
+            return;
+        }
+        internships.add(internshipId, delta);
+        moveCompany(internshipId, companyByInternship.getOrDefault(internshipId, UNKNOWN_COMPANY), delta);
+    }
+
+    private void moveCompany(String internshipId, String company, long delta) {
+        companies.add(company, delta);
+        RankedCounter board = internshipsByCompany.computeIfAbsent(company, ignored -> new RankedCounter());
+        board.add(internshipId, delta);
+        if (board.size() == 0) {
+            internshipsByCompany.remove(company);
+        }
+    }
+
+    /**
+     * Company names are matched case-insensitively, as in {@link CRFilterService}.
+     */
+    private static String companyKey(String companyName) {
+        return companyName == null || companyName.isBlank() ? UNKNOWN_COMPANY : ValueCache.upper(companyName);
+    }
+
+    /**
+     * One leaderboard row.
+     *
+     * @param key          internship ID or company name
+     * @param title        internship title, empty for company rows
+     * @param applications applications received
+     */
+    public record Entry(String key, String title, long applications) { }
+}
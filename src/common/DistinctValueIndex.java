@@ -0,0 +1,137 @@
+package common;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Maintains the distinct companies, preferred majors and levels found in the internship
+ * file so filter menus can list them without rescanning every internship. Each value is
+ * reference counted and kept in a case-insensitive sorted map; store write notifications
+ * adjust the counts, so a sorted listing costs only the number of distinct values.
+ * Closed internships are not counted.
+ */
+public final class DistinctValueIndex {
+
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+
+    /**
+     * Internship columns tracked by the index.
+     */
+    public enum Column {
+        COMPANY(internship -> new String[]{internship.get(InternshipEntity.InternshipField.CompanyName)}),
+        MAJOR(internship -> splitTokens(internship.get(InternshipEntity.InternshipField.PreferredMajor))),
+        LEVEL(internship -> new String[]{internship.get(InternshipEntity.InternshipField.Level)});
+
+        private final Function<InternshipEntity, String[]> extractor;
+
+        Column(Function<InternshipEntity, String[]> extractor) {
+            this.extractor = extractor;
+        }
+    }
+
+    private final EntityStore store;
+    private final Map<Column, TreeMap<String, Counted>> values = new EnumMap<>(Column.class);
+    private final boolean incremental;
+    private final ConsistentLoad load;
+
+    private DistinctValueIndex(EntityStore store) {
+        this.store = store;
+        this.load = new ConsistentLoad(store, INTERNSHIP_FILE);
+        for (Column column : Column.values()) {
+            values.put(column, new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        }
+        this.incremental = store.addListener(this::onChange);
+    }
+
+    /**
+     * Returns the index maintained for the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared index for the store
+     */
+    public static DistinctValueIndex of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(DistinctValueIndex.class, DistinctValueIndex::new);
+    }
+
+    /**
+     * Lists the distinct values of a column in case-insensitive alphabetical order,
+     * using the casing of the first occurrence seen.
+     *
+     * @param column column to list
+     * @return sorted distinct values, never {@code null}
+     */
+    public synchronized List<String> values(Column column) {
+        if (!load.isLoaded() || !incremental) {
+            rebuild();
+        }
+        TreeMap<String, Counted> entries = values.get(column);
+        List<String> result = new ArrayList<>(entries.size());
+        for (Counted counted : entries.values()) {
+            result.add(counted.display);
+        }
+        return result;
+    }
+
+    private void rebuild() {
+        load.load(() -> {
+            for (TreeMap<String, Counted> entries : values.values()) {
+                entries.clear();
+            }
+            store.forEach(INTERNSHIP_FILE, "Internship", entity -> adjust(entity, 1));
+        });
+    }
+
+    private synchronized void onChange(String filePath, Entity before, Entity after) {
+        if (!INTERNSHIP_FILE.equals(filePath) || !load.applies(filePath)) {
+            return;
+        }
+        adjust(before, -1);
+        adjust(after, 1);
+    }
+
+    private void adjust(Entity entity, int delta) {
+        if (!(entity instanceof InternshipEntity internship) || internship.isClosed()) {
+            return;
+        }
+        for (Column column : Column.values()) {
+            TreeMap<String, Counted> entries = values.get(column);
+            for (String raw : column.extractor.apply(internship)) {
+                String value = raw == null ? "" : raw.trim();
+                if (value.isEmpty() || value.equalsIgnoreCase(StudentEntity.NO_FILTER_VALUE)) {
+                    continue;
+                }
+                if (delta > 0) {
+                    entries.computeIfAbsent(value, Counted::new).references += delta;
+                } else {
+                    Counted counted = entries.get(value);
+                    if (counted != null && (counted.references += delta) <= 0) {
+                        entries.remove(value);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String[] splitTokens(String value) {
+        return value == null ? new String[0] : value.split("[;|/\\\\]+");
+    }
+
+    /**
+     * Display value of a distinct entry and the number of rows referencing it.
+     */
+    private static final class Counted {
+        private final String display;
+        private int references;
+
+        Counted(String display) {
+            this.display = ValueCache.canonical(display);
+        }
+    }
+}
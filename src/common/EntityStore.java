@@ -1,6 +1,14 @@
 package common;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Minimal persistence abstraction that hides the concrete CSV-backed storage from high-level code.
@@ -15,6 +23,50 @@ public interface EntityStore {
      */
     List<Entity> loadAll(String filePath, String entityType);
 
+    /**
+     * Streams the entities contained in the target resource one at a time, so callers
+     * that only need a single pass do not hold the whole file in memory.
+     *
+     * @param filePath resource resolved via {@link PathResolver#resource(String)}
+     * @param entityType logical discriminator used by {@link EntityFactoryRegistry}
+     * @param consumer callback receiving each hydrated entity in file order
+     */
+    default void forEach(String filePath, String entityType, Consumer<Entity> consumer) {
+        loadAll(filePath, entityType).forEach(consumer);
+    }
+
+    /**
+     * Reads one window of the entities that satisfy {@code filter}, in file order. Only the
+     * entities inside the window are kept, so a listing screen materialises one page however
+     * large the resource is. Each call scans from the start of the file, which keeps the
+     * cursor valid across writes made between pages.
+     *
+     * @param filePath   resource resolved via {@link PathResolver#resource(String)}
+     * @param entityType logical discriminator used by {@link EntityFactoryRegistry}
+     * @param filter     selects the entities that belong to the listing
+     * @param offset     number of matching entities to skip
+     * @param limit      maximum number of entities to return
+     * @return the requested window
+     */
+    default Page<Entity> page(String filePath, String entityType, Predicate<? super Entity> filter,
+                              int offset, int limit) {
+        List<Entity> rows = new ArrayList<>(limit);
+        int[] matched = {0};
+        boolean[] more = {false};
+        forEach(filePath, entityType, entity -> {
+            if (!filter.test(entity)) {
+                return;
+            }
+            int position = matched[0]++;
+            if (position >= offset + limit) {
+                more[0] = true;
+            } else if (position >= offset) {
+                rows.add(entity);
+            }
+        });
+        return new Page<>(rows, offset, more[0]);
+    }
+
     /**
      * Finds the entity identified by {@code id} inside the supplied resource.
      */
@@ -25,13 +77,123 @@ public interface EntityStore {
      */
     void append(String filePath, Entity entity);
 
+    /**
+     * Appends several entities to the backing resource in one write.
+     *
+     * @param filePath resource resolved via {@link PathResolver#resource(String)}
+     * @param entities entities to append, in order
+     */
+    default void appendAll(String filePath, List<? extends Entity> entities) {
+        entities.forEach(entity -> append(filePath, entity));
+    }
+
     /**
      * Replaces the entity that matches {@code id} inside the backing resource.
      */
     void update(String filePath, String id, Entity entity, String entityType);
 
+    /**
+     * Replaces several entities inside the backing resource in one pass.
+     *
+     * @param filePath     resource resolved via {@link PathResolver#resource(String)}
+     * @param replacements new entities keyed by the identifier they replace
+     * @param entityType   logical discriminator used by {@link EntityFactoryRegistry}
+     */
+    default void updateAll(String filePath, Map<String, Entity> replacements, String entityType) {
+        replacements.forEach((id, entity) -> update(filePath, id, entity, entityType));
+    }
+
+    /**
+     * Replaces entities only while their stored versions still satisfy {@code expected}.
+     * Stores that lock writes check and replace under the same lock, so a change made by
+     * another writer after the caller read a row is never overwritten; the default
+     * implementation checks and writes each entity separately.
+     *
+     * @param filePath     resource resolved via {@link PathResolver#resource(String)}
+     * @param replacements new entities keyed by the identifier they replace
+     * @param entityType   logical discriminator used by {@link EntityFactoryRegistry}
+     * @param expected     condition the stored entity must still meet to be replaced
+     * @return identifiers of the entities that were replaced
+     */
+    default Set<String> updateAllIf(String filePath, Map<String, Entity> replacements, String entityType,
+                                    Predicate<? super Entity> expected) {
+        Set<String> replaced = new LinkedHashSet<>();
+        replacements.forEach((id, entity) -> {
+            Entity current = findById(filePath, id, entityType);
+            if (current != null && expected.test(current)) {
+                update(filePath, id, entity, entityType);
+                replaced.add(id);
+            }
+        });
+        return replaced;
+    }
+
+    /**
+     * Replaces one entity only while its stored version still satisfies {@code expected}.
+     *
+     * @param filePath   resource resolved via {@link PathResolver#resource(String)}
+     * @param id         identifier of the entity to replace
+     * @param entity     replacement entity
+     * @param entityType logical discriminator used by {@link EntityFactoryRegistry}
+     * @param expected   condition the stored entity must still meet to be replaced
+     * @return {@code true} when the entity was replaced
+     * @see #updateAllIf(String, Map, String, Predicate)
+     */
+    default boolean updateIf(String filePath, String id, Entity entity, String entityType,
+                             Predicate<? super Entity> expected) {
+        return updateAllIf(filePath, Map.of(id, entity), entityType, expected).contains(id);
+    }
+
     /**
      * Removes the entity identified by {@code id} from the backing resource.
      */
     void delete(String filePath, String id, String entityType);
+
+    /**
+     * Removes several entities from the backing resource in one pass. Identifiers that
+     * are not present are ignored.
+     *
+     * @param filePath   resource resolved via {@link PathResolver#resource(String)}
+     * @param ids        identifiers of the entities to remove
+     * @param entityType logical discriminator used by {@link EntityFactoryRegistry}
+     */
+    default void deleteAll(String filePath, Collection<String> ids, String entityType) {
+        ids.forEach(id -> delete(filePath, id, entityType));
+    }
+
+    /**
+     * Returns a counter that changes every time the resource is written through this store.
+     * The counter is odd while a write is in progress and even once it has completed, so a
+     * derived view that reads the same even version before and after a scan knows the scan
+     * saw no partial write (see {@link ConsistentLoad}).
+     *
+     * @param filePath resource resolved via {@link PathResolver#resource(String)}
+     * @return current version, or {@code -1} when the store does not track versions
+     */
+    default long version(String filePath) {
+        return -1L;
+    }
+
+    /**
+     * Registers a listener notified after every append, update and delete performed
+     * through this store.
+     *
+     * @param listener callback to register
+     * @return {@code true} when the store delivers change notifications, {@code false}
+     *         when callers must fall back to rereading the resource
+     */
+    default boolean addListener(StoreListener listener) {
+        return false;
+    }
+
+    /**
+     * Returns the store's instance of a derived view, creating it with {@code factory} on
+     * first use. Views live on the store they derive from, so they are released with it.
+     *
+     * @param type    view class, used as the key
+     * @param factory creates the view for this store
+     * @param <V>     view type
+     * @return the single view of that type for this store
+     */
+    <V> V view(Class<V> type, Function<? super EntityStore, ? extends V> factory);
 }
@@ -0,0 +1,45 @@
+package common;
+
+import java.util.Map;
+
+/**
+ * Console table shared by the staff and company representative funnel views.
+ */
+public final class FunnelTable {
+
+    private static final String ROW_FORMAT = "%-28s %8s %8s %8s %8s %8s %8s %9s %9s%n";
+
+    private FunnelTable() {
+    }
+
+    /**
+     * Prints one row per group followed by a total row.
+     *
+     * @param groupLabel heading of the group column
+     * @param rows       funnel per group
+     * @param total      funnel over all rows
+     */
+    public static void print(String groupLabel, Map<String, ApplicationFunnel.Snapshot> rows,
+                             ApplicationFunnel.Snapshot total) {
+        System.out.printf(ROW_FORMAT, groupLabel, "Applied", "Pending", "Approved", "Accepted",
+                "Rejected", "Withdrew", "Approve%", "Accept%");
+        if (rows.isEmpty()) {
+            System.out.println("  No applications recorded.");
+        }
+        rows.forEach((group, snapshot) -> printRow(group, snapshot));
+        System.out.println("-".repeat(108));
+        printRow("Total", total);
+    }
+
+    private static void printRow(String group, ApplicationFunnel.Snapshot snapshot) {
+        String label = group.length() > 28 ? group.substring(0, 25) + "..." : group;
+        System.out.printf(ROW_FORMAT, label,
+                snapshot.applied(), snapshot.pending(), snapshot.approved(), snapshot.accepted(),
+                snapshot.rejected(), snapshot.withdrawn(),
+                percent(snapshot.approvalRate()), percent(snapshot.acceptanceRate()));
+    }
+
+    private static String percent(double rate) {
+        return String.format("%.1f%%", rate * 100.0);
+    }
+}
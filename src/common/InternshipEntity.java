@@ -1,5 +1,7 @@
 package common;
 
+import java.time.LocalDate;
+
 /**
  * Represents an internship opportunity record.
  */
@@ -14,10 +16,31 @@ public class InternshipEntity extends Entity {
     }
 
     /**
-     * Builds an entity from CSV data.
+     * Status assigned once an internship's closing date has passed.
+     */
+    public static final String STATUS_CLOSED = "Closed";
+
+    private static final InternshipField[] INTERNED_FIELDS = {
+            InternshipField.Level, InternshipField.PreferredMajor, InternshipField.OpenDate,
+            InternshipField.CloseDate, InternshipField.Status, InternshipField.CompanyName,
+            InternshipField.CRInCharge, InternshipField.Slots, InternshipField.Visibility
+    };
+
+    private ValueCache.ParsedDate openDate;
+    private ValueCache.ParsedDate closeDate;
+
+    /**
+     * Builds an entity from CSV data. Repeating columns share one instance per value
+     * through {@link ValueCache} so later normalisation and date lookups hit the cache.
      */
     public InternshipEntity(String csvLine) {
         values = csvLine.split(",", -1);
+        for (InternshipField field : INTERNED_FIELDS) {
+            int index = field.ordinal();
+            if (index < values.length) {
+                values[index] = ValueCache.intern(values[index]);
+            }
+        }
     }
 
     /**
@@ -45,6 +68,37 @@ public class InternshipEntity extends Entity {
         values[f.ordinal()] = v;
     }
 
+    /**
+     * Returns the parsed opening date, cached until the field changes.
+     *
+     * @return opening date, or {@code null} when blank or invalid
+     */
+    public LocalDate openDate() {
+        ValueCache.ParsedDate parsed = ValueCache.parsed(openDate, get(InternshipField.OpenDate));
+        openDate = parsed;
+        return parsed.date();
+    }
+
+    /**
+     * Returns the parsed closing date, cached until the field changes.
+     *
+     * @return closing date, or {@code null} when blank or invalid
+     */
+    public LocalDate closeDate() {
+        ValueCache.ParsedDate parsed = ValueCache.parsed(closeDate, get(InternshipField.CloseDate));
+        closeDate = parsed;
+        return parsed.date();
+    }
+
+    /**
+     * Indicates whether the internship has been closed by the deadline scheduler.
+     *
+     * @return {@code true} when the status is {@link #STATUS_CLOSED}
+     */
+    public boolean isClosed() {
+        return STATUS_CLOSED.equalsIgnoreCase(get(InternshipField.Status));
+    }
+
     /**
      * Serializes the entity to CSV form.
      */
@@ -0,0 +1,309 @@
+package common;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Ranks internships by how well they fit a student. The score combines a preferred
+ * major match, level eligibility from {@link YearChecker}, deadline proximity,
+ * remaining slots and popularity measured by application counts.
+ *
+ * <p>Scores depend only on the student's major and year, so candidates are kept in one
+ * ordered set per (major, year) cohort. Store write notifications rescore just the
+ * internship that changed, and a student's top matches are read from the head of the
+ * cohort set instead of scoring every internship on each view. Cohorts are rebuilt
+ * when the date changes because the deadline component is relative to today.</p>
+ */
+public final class InternshipRankingService {
+
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String APPLICATION_FILE = PathResolver.resource("internship_applications.csv");
+
+    private static final double MAJOR_WEIGHT = 40.0;
+    private static final double ELIGIBILITY_WEIGHT = 30.0;
+    private static final double DEADLINE_WEIGHT = 15.0;
+    private static final double SLOTS_WEIGHT = 10.0;
+    private static final double POPULARITY_WEIGHT = 5.0;
+    private static final int DEADLINE_HORIZON_DAYS = 60;
+    private static final int SLOT_SATURATION = 5;
+    private static final double POPULARITY_HALF_POINT = 3.0;
+
+    private static final Comparator<Ranked> ORDER = Comparator
+            .comparingDouble(Ranked::score).reversed()
+            .thenComparing(Ranked::title, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(Ranked::id);
+
+    private final EntityStore store;
+    private final boolean incremental;
+    private final Map<String, InternshipEntity> internships = new HashMap<>();
+    private final Map<String, long[]> applicationCounts = new HashMap<>();
+    private final Map<Cohort, CohortRanking> cohorts = new HashMap<>();
+    private final ConsistentLoad load;
+
+    private InternshipRankingService(EntityStore store) {
+        this.store = store;
+        this.load = new ConsistentLoad(store, INTERNSHIP_FILE, APPLICATION_FILE);
+        this.incremental = store.addListener(this::onChange);
+    }
+
+    /**
+     * Returns the ranking service maintained for the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared service for the store
+     */
+    public static InternshipRankingService of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(InternshipRankingService.class, InternshipRankingService::new);
+    }
+
+    /**
+     * Returns the best-fitting internships for a student that also pass the student's
+     * saved filters, highest score first.
+     *
+     * @param student student to rank for
+     * @param filters saved filters the results must satisfy
+     * @param limit   maximum number of internships to return
+     * @return ranked internships, never {@code null}
+     */
+    public synchronized List<InternshipEntity> topMatches(StudentEntity student,
+                                                          StudentFilterService.StudentFilters filters,
+                                                          int limit) {
+        if (!load.isLoaded() || !incremental) {
+            reload();
+        }
+        Cohort cohort = Cohort.of(student);
+        long today = LocalDate.now().toEpochDay();
+        CohortRanking ranking = cohorts.get(cohort);
+        if (ranking == null || ranking.day != today) {
+            ranking = buildCohort(cohort, today);
+            cohorts.put(cohort, ranking);
+        }
+        List<InternshipEntity> result = new ArrayList<>(Math.min(limit, ranking.ordered.size()));
+        for (Ranked ranked : ranking.ordered) {
+            if (result.size() >= limit) {
+                break;
+            }
+            InternshipEntity internship = internships.get(ranked.id());
+            if (internship != null && StudentFilterService.matchesFilters(internship, filters)) {
+                result.add(internship);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the fit score of an internship for a student.
+     *
+     * @param student    student to score for
+     * @param internship internship to score
+     * @return score between 0 and 100, or a negative value when the internship has closed
+     */
+    public synchronized double score(StudentEntity student, InternshipEntity internship) {
+        if (!load.isLoaded() || !incremental) {
+            reload();
+        }
+        return score(Cohort.of(student), internship, LocalDate.now().toEpochDay());
+    }
+
+    private void reload() {
+        load.load(() -> {
+            internships.clear();
+            applicationCounts.clear();
+            cohorts.clear();
+            store.forEach(INTERNSHIP_FILE, "Internship", entity -> {
+                InternshipEntity internship = (InternshipEntity) entity;
+                internships.put(internship.get(InternshipEntity.InternshipField.InternshipID), internship);
+            });
+            store.forEach(APPLICATION_FILE, "Application", entity -> adjustCounts((ApplicationEntity) entity, 1));
+        });
+    }
+
+    private CohortRanking buildCohort(Cohort cohort, long today) {
+        CohortRanking ranking = new CohortRanking(today);
+        for (InternshipEntity internship : internships.values()) {
+            ranking.put(internship, score(cohort, internship, today));
+        }
+        return ranking;
+    }
+
+    private synchronized void onChange(String filePath, Entity before, Entity after) {
+        if (!load.applies(filePath)) {
+            return;
+        }
+        if (INTERNSHIP_FILE.equals(filePath)) {
+            if (before instanceof InternshipEntity previous) {
+                String id = previous.get(InternshipEntity.InternshipField.InternshipID);
+                internships.remove(id);
+                cohorts.values().forEach(ranking -> ranking.remove(id));
+            }
+            if (after instanceof InternshipEntity current) {
+                internships.put(current.get(InternshipEntity.InternshipField.InternshipID), current);
+                rescore(current.get(InternshipEntity.InternshipField.InternshipID));
+            }
+        } else if (APPLICATION_FILE.equals(filePath)) {
+            if (before instanceof ApplicationEntity previous) {
+                adjustCounts(previous, -1);
+                rescore(previous.get(ApplicationEntity.ApplicationField.InternshipID));
+            }
+            if (after instanceof ApplicationEntity current) {
+                adjustCounts(current, 1);
+                rescore(current.get(ApplicationEntity.ApplicationField.InternshipID));
+            }
+        }
+    }
+
+    private void rescore(String internshipId) {
+        InternshipEntity internship = internships.get(internshipId);
+        for (Map.Entry<Cohort, CohortRanking> entry : cohorts.entrySet()) {
+            CohortRanking ranking = entry.getValue();
+            ranking.remove(internshipId);
+            if (internship != null) {
+                ranking.put(internship, score(entry.getKey(), internship, ranking.day));
+            }
+        }
+    }
+
+    private void adjustCounts(ApplicationEntity application, int delta) {
+        String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
+        if (internshipId == null) {
+            return;
+        }
+        long[] counts = applicationCounts.computeIfAbsent(internshipId, key -> new long[2]);
+        counts[0] += delta;
+        if ("Accepted".equalsIgnoreCase(application.get(ApplicationEntity.ApplicationField.Status))) {
+            counts[1] += delta;
+        }
+    }
+
+    private double score(Cohort cohort, InternshipEntity internship, long today) {
+        if (internship.isClosed()) {
+            return -1.0;
+        }
+        LocalDate closeDate = internship.closeDate();
+        long daysLeft = closeDate == null ? -1 : closeDate.toEpochDay() - today;
+        if (closeDate != null && daysLeft < 0) {
+            return -1.0;
+        }
+        double score = 0.0;
+        if (majorMatches(cohort.major(), internship.get(InternshipEntity.InternshipField.PreferredMajor))) {
+            score += MAJOR_WEIGHT;
+        }
+        if (YearChecker.checkYear(cohort.year(), trim(internship.get(InternshipEntity.InternshipField.Level)))) {
+            score += ELIGIBILITY_WEIGHT;
+        }
+        if (closeDate != null) {
+            long capped = Math.min(daysLeft, DEADLINE_HORIZON_DAYS);
+            score += DEADLINE_WEIGHT * (DEADLINE_HORIZON_DAYS - capped) / DEADLINE_HORIZON_DAYS;
+        }
+        long[] counts = applicationCounts.getOrDefault(
+                internship.get(InternshipEntity.InternshipField.InternshipID), new long[2]);
+        long remaining = parseSlots(internship.get(InternshipEntity.InternshipField.Slots)) - counts[1];
+        if (remaining > 0) {
+            score += SLOTS_WEIGHT * Math.min(remaining, SLOT_SATURATION) / SLOT_SATURATION;
+        }
+        long total = Math.max(counts[0], 0);
+        score += POPULARITY_WEIGHT * total / (total + POPULARITY_HALF_POINT);
+        return score;
+    }
+
+    /**
+     * Matches a student's major against an internship's preferred majors. Internships
+     * usually list course codes, so a token also matches when it starts with the
+     * initials of the major (e.g. {@code CSC} for "Computer Science").
+     */
+    private static boolean majorMatches(String studentMajor, String preferredMajors) {
+        if (studentMajor.isEmpty() || preferredMajors == null) {
+            return false;
+        }
+        String initials = initials(studentMajor);
+        for (String token : preferredMajors.split("[;|/\\\\]+")) {
+            String candidate = ValueCache.upper(token);
+            if (candidate.isEmpty()) {
+                continue;
+            }
+            if (candidate.equals(studentMajor) || (initials.length() >= 2 && candidate.startsWith(initials))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String initials(String major) {
+        StringBuilder builder = new StringBuilder();
+        for (String word : major.split("[^A-Z]+")) {
+            if (!word.isEmpty()) {
+                builder.append(word.charAt(0));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static long parseSlots(String value) {
+        try {
+            return Long.parseLong(trim(value));
+        } catch (NumberFormatException ex) {
+            return 0L;
+        }
+    }
+
+    private static String trim(String value) {
+        return value == null ? "" : value.trim();
+    }
+
+    /**
+     * Students sharing a major and year receive identical scores.
+     *
+     * @param major upper-cased major
+     * @param year  trimmed year of study
+     */
+    private record Cohort(String major, String year) {
+        static Cohort of(StudentEntity student) {
+            return new Cohort(ValueCache.upper(student.get(StudentEntity.StudentField.Major)),
+                    trim(student.get(StudentEntity.StudentField.Year)));
+        }
+    }
+
+    /**
+     * Scored position of one internship within a cohort.
+     */
+    private record Ranked(double score, String title, String id) { }
+
+    /**
+     * Ordered candidates of one cohort plus an index for removing stale entries.
+     */
+    private static final class CohortRanking {
+        private final long day;
+        private final TreeSet<Ranked> ordered = new TreeSet<>(ORDER);
+        private final Map<String, Ranked> byId = new HashMap<>();
+
+        CohortRanking(long day) {
+            this.day = day;
+        }
+
+        void put(InternshipEntity internship, double score) {
+            if (score < 0) {
+                return;
+            }
+            String id = internship.get(InternshipEntity.InternshipField.InternshipID);
+            remove(id);
+            Ranked ranked = new Ranked(score, trim(internship.get(InternshipEntity.InternshipField.Title)), id);
+            byId.put(id, ranked);
+            ordered.add(ranked);
+        }
+
+        void remove(String id) {
+            Ranked ranked = byId.remove(id);
+            if (ranked != null) {
+                ordered.remove(ranked);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package common;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throttles failed logins with sliding-window counters so that guessing passwords is
+ * slow and cannot be used to keep the store busy. Two limits apply:
+ * <ul>
+ *   <li>at most {@value #USER_LIMIT} failures per username within
+ *       {@value #USER_WINDOW_SECONDS} seconds;</li>
+ *   <li>at most {@value #GLOBAL_LIMIT} failures across all usernames within
+ *       {@value #GLOBAL_WINDOW_SECONDS} seconds.</li>
+ * </ul>
+ * {@link #permits(String)} runs before any credential lookup and costs one array read.
+ *
+ * <p>Per-username counters live in a fixed array of {@value #STRIPES} stripes indexed
+ * by a hash of the username, so memory stays constant however many names an attacker
+ * tries. Each stripe is one packed {@code long} (window number, previous-window count,
+ * current-window count) updated by compare-and-set, which keeps the path lock-free.
+ * The limit applies to the estimate {@code previous * (1 - elapsed) + current}, the
+ * usual approximation of a true sliding window. Two usernames that share a stripe also
+ * share a budget; with this many stripes that is rare and only ever errs towards
+ * locking out early. For the same reason a successful login does not reset its
+ * stripe, which could lift another username's lockout; failures simply age out of
+ * the window.</p>
+ */
+public final class LoginThrottle {
+
+    static final int STRIPES = 4096;
+    static final int USER_LIMIT = 5;
+    static final int USER_WINDOW_SECONDS = 60;
+    static final int GLOBAL_LIMIT = 500;
+    static final int GLOBAL_WINDOW_SECONDS = 10;
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long WINDOW_MASK = (1L << (64 - 2 * COUNT_BITS)) - 1;
+
+    private final AtomicLongArray stripes = new AtomicLongArray(STRIPES);
+    private final AtomicLong global = new AtomicLong();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejectedUser = new LongAdder();
+    private final LongAdder rejectedGlobal = new LongAdder();
+
+    private LoginThrottle() {
+    }
+
+    /**
+     * Returns the throttle guarding logins against the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared throttle for the store
+     */
+    public static LoginThrottle of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(LoginThrottle.class, ignored -> new LoginThrottle());
+    }
+
+    /**
+     * Decides whether a login attempt may proceed to credential checking.
+     *
+     * @param username login identifier as entered
+     * @return {@code true} when the attempt is allowed
+     */
+    public boolean permits(String username) {
+        attempts.increment();
+        long now = System.currentTimeMillis();
+        if (estimate(global.get(), now, GLOBAL_WINDOW_SECONDS) >= GLOBAL_LIMIT) {
+            rejectedGlobal.increment();
+            return false;
+        }
+        if (estimate(stripes.get(stripe(username)), now, USER_WINDOW_SECONDS) >= USER_LIMIT) {
+            rejectedUser.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records a failed attempt against the username and the global window.
+     *
+     * @param username login identifier as entered
+     */
+    public void recordFailure(String username) {
+        failures.increment();
+        long now = System.currentTimeMillis();
+        int index = stripe(username);
+        long current;
+        do {
+            current = stripes.get(index);
+        } while (!stripes.compareAndSet(index, current, increment(current, now, USER_WINDOW_SECONDS)));
+        global.updateAndGet(state -> increment(state, now, GLOBAL_WINDOW_SECONDS));
+    }
+
+    /**
+     * Returns the current counters. Counting locked-out stripes walks the stripe array,
+     * so this is meant for the staff metrics view rather than the login path.
+     *
+     * @return snapshot of throttle activity since start-up
+     */
+    public Metrics metrics() {
+        long now = System.currentTimeMillis();
+        int locked = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            if (estimate(stripes.get(i), now, USER_WINDOW_SECONDS) >= USER_LIMIT) {
+                locked++;
+            }
+        }
+        return new Metrics(attempts.sum(), failures.sum(), rejectedUser.sum(), rejectedGlobal.sum(), locked,
+                estimate(global.get(), now, GLOBAL_WINDOW_SECONDS));
+    }
+
+    /**
+     * Estimated failures in the sliding window ending now.
+     */
+    private static double estimate(long state, long nowMillis, int windowSeconds) {
+        long windowMillis = windowSeconds * 1000L;
+        long window = (nowMillis / windowMillis) & WINDOW_MASK;
+        long stored = state >>> (2 * COUNT_BITS);
+        long previous;
+        long current;
+        if (stored == window) {
+            previous = (state >>> COUNT_BITS) & COUNT_MASK;
+            current = state & COUNT_MASK;
+        } else if (((stored + 1) & WINDOW_MASK) == window) {
+            previous = state & COUNT_MASK;
+            current = 0;
+        } else {
+            return 0;
+        }
+        double elapsed = (nowMillis % windowMillis) / (double) windowMillis;
+        return previous * (1.0 - elapsed) + current;
+    }
+
+    /**
+     * Packed state after adding one failure at {@code nowMillis}, rolling the window if needed.
+     */
+    private static long increment(long state, long nowMillis, int windowSeconds) {
+        long window = (nowMillis / (windowSeconds * 1000L)) & WINDOW_MASK;
+        long stored = state >>> (2 * COUNT_BITS);
+        long previous;
+        long current;
+        if (stored == window) {
+            previous = (state >>> COUNT_BITS) & COUNT_MASK;
+            current = state & COUNT_MASK;
+        } else if (((stored + 1) & WINDOW_MASK) == window) {
+            previous = state & COUNT_MASK;
+            current = 0;
+        } else {
+            previous = 0;
+            current = 0;
+        }
+        current = Math.min(COUNT_MASK, current + 1);
+        return (window << (2 * COUNT_BITS)) | (previous << COUNT_BITS) | current;
+    }
+
+    private static int stripe(String username) {
+        int h = username == null ? 0 : username.trim().toLowerCase(Locale.ROOT).hashCode();
+        h ^= (h >>> 16);
+        h *= 0x45d9f3b;
+        h ^= (h >>> 16);
+        return h & (STRIPES - 1);
+    }
+
+    /**
+     * Snapshot of login throttling activity since start-up.
+     *
+     * @param attempts         login attempts checked
+     * @param failures         attempts with wrong credentials
+     * @param rejectedUser     attempts refused because the username was locked out
+     * @param rejectedGlobal   attempts refused because of the global failure rate
+     * @param lockedStripes    username stripes currently over their limit
+     * @param globalFailures   estimated failures in the current global window
+     */
+    public record Metrics(long attempts, long failures, long rejectedUser, long rejectedGlobal,
+                          int lockedStripes, double globalFailures) { }
+}
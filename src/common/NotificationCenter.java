@@ -0,0 +1,128 @@
+package common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user notification inboxes stored in {@code notifications.csv}. Unread counts are
+ * loaded once and then kept current from store notifications, so the student home page
+ * reads its badge from a map instead of rescanning applications or the inbox.
+ */
+public final class NotificationCenter {
+
+    private static final String NOTIFICATION_FILE = PathResolver.resource("notifications.csv");
+
+    private final EntityStore store;
+    private final boolean incremental;
+    private final Map<String, Integer> unread = new HashMap<>();
+    private final ConsistentLoad load;
+
+    private NotificationCenter(EntityStore store) {
+        this.store = store;
+        this.load = new ConsistentLoad(store, NOTIFICATION_FILE);
+        this.incremental = store.addListener(this::onChange);
+    }
+
+    /**
+     * Returns the notification center for the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared notification center for the store
+     */
+    public static NotificationCenter of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(NotificationCenter.class, NotificationCenter::new);
+    }
+
+    /**
+     * @return path of the inbox resource
+     */
+    static String file() {
+        return NOTIFICATION_FILE;
+    }
+
+    /**
+     * Returns how many notifications the user has not opened yet.
+     *
+     * @param userId recipient identifier
+     * @return unread notification count
+     */
+    public synchronized int unreadCount(String userId) {
+        ensureLoaded();
+        return unread.getOrDefault(userId, 0);
+    }
+
+    /**
+     * Lists a user's notifications, newest first.
+     *
+     * @param userId recipient identifier
+     * @return notifications addressed to the user
+     */
+    public List<NotificationEntity> inbox(String userId) {
+        List<NotificationEntity> result = new ArrayList<>();
+        store.forEach(NOTIFICATION_FILE, "Notification", entity -> {
+            if (entity instanceof NotificationEntity notification
+                    && userId.equals(notification.get(NotificationEntity.NotificationField.UserID))) {
+                result.add(notification);
+            }
+        });
+        result.sort(Comparator.comparing(
+                (NotificationEntity notification) -> notification.get(NotificationEntity.NotificationField.CreatedAt))
+                .reversed());
+        return result;
+    }
+
+    /**
+     * Marks the supplied notifications as read in a single write. Callers pass the
+     * notifications they displayed, so one delivered after the inbox was listed stays
+     * unread until the user has seen it.
+     *
+     * @param shown notifications that were shown to the user
+     */
+    public void markRead(List<NotificationEntity> shown) {
+        Map<String, Entity> replacements = new LinkedHashMap<>();
+        for (NotificationEntity notification : shown) {
+            if (!notification.isRead()) {
+                notification.set(NotificationEntity.NotificationField.Read, "true");
+                replacements.put(notification.get(NotificationEntity.NotificationField.NotificationID), notification);
+            }
+        }
+        if (!replacements.isEmpty()) {
+            store.updateAllIf(NOTIFICATION_FILE, replacements, "Notification",
+                    current -> current instanceof NotificationEntity notification && !notification.isRead());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (load.isLoaded() && incremental) {
+            return;
+        }
+        load.load(() -> {
+            unread.clear();
+            store.forEach(NOTIFICATION_FILE, "Notification", entity -> count(entity, 1));
+        });
+    }
+
+    private synchronized void onChange(String filePath, Entity before, Entity after) {
+        if (!NOTIFICATION_FILE.equals(filePath) || !load.applies(filePath)) {
+            return;
+        }
+        count(before, -1);
+        count(after, 1);
+    }
+
+    private void count(Entity entity, int delta) {
+        if (entity instanceof NotificationEntity notification && !notification.isRead()) {
+            unread.compute(notification.get(NotificationEntity.NotificationField.UserID), (user, current) -> {
+                int updated = (current == null ? 0 : current) + delta;
+                return updated <= 0 ? null : updated;
+            });
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package common;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Turns application status changes into inbox notifications. The dispatcher subscribes
+ * to the store's {@link ChangeStream}, so writers never wait for notifications, and fans
+ * the resulting messages out over a small pool of worker threads. Recipients are
+ * striped across workers by user ID, keeping each user's notifications in order, and
+ * every worker drains its queue into one batched append.
+ *
+ * <p>Notified events: an application moving to a new status (covers approval, rejection,
+ * acceptance and approved withdrawals) and a withdrawal request that was turned down.</p>
+ */
+public final class NotificationDispatcher {
+
+    private static final String APPLICATION_TABLE = "internship_applications";
+    private static final String WITHDRAWAL_TABLE = "pending_withdrawal";
+    private static final String APPLICATION_FILE = PathResolver.resource("internship_applications.csv");
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String STATUS_WITHDRAWN = "WITHDRAWN";
+    private static final int WORKERS = 4;
+    private static final int MAX_BATCH = 256;
+
+    private final EntityStore store;
+    private final List<BlockingQueue<NotificationEntity>> queues = new ArrayList<>(WORKERS);
+
+    private NotificationDispatcher(EntityStore store) {
+        this.store = store;
+        for (int i = 0; i < WORKERS; i++) {
+            BlockingQueue<NotificationEntity> queue = new LinkedBlockingQueue<>();
+            queues.add(queue);
+            Thread worker = new Thread(() -> drain(queue), "notification-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        ChangeStream.of(store).subscribe("notifications", this::onEvent);
+    }
+
+    /**
+     * Starts dispatching notifications for the supplied store. Calling it again for the
+     * same store returns the running instance.
+     *
+     * @param store backing entity store
+     * @return running dispatcher
+     */
+    public static NotificationDispatcher start(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(NotificationDispatcher.class, NotificationDispatcher::new);
+    }
+
+    private void onEvent(ChangeEvent event) {
+        if (APPLICATION_TABLE.equals(event.table()) && event.op() == ChangeEvent.Op.UPDATE) {
+            ApplicationEntity before = (ApplicationEntity) event.before();
+            ApplicationEntity after = (ApplicationEntity) event.after();
+            String status = after.get(ApplicationEntity.ApplicationField.Status);
+            if (!Objects.equals(before.get(ApplicationEntity.ApplicationField.Status), status)) {
+                enqueue(after, "Your application " + after.get(ApplicationEntity.ApplicationField.ApplicationID)
+                        + " for " + titleOf(after) + " is now " + status + ".");
+            }
+        } else if (WITHDRAWAL_TABLE.equals(event.table()) && event.op() == ChangeEvent.Op.DELETE) {
+            ApplicationEntity request = (ApplicationEntity) event.before();
+            String applicationId = request.get(ApplicationEntity.ApplicationField.ApplicationID);
+            Entity current = store.findById(APPLICATION_FILE, applicationId, "Application");
+            boolean withdrawn = current instanceof ApplicationEntity application
+                    && STATUS_WITHDRAWN.equalsIgnoreCase(application.get(ApplicationEntity.ApplicationField.Status));
+            if (!withdrawn) {
+                enqueue(request, "Your withdrawal request for application " + applicationId
+                        + " (" + titleOf(request) + ") was rejected.");
+            }
+        }
+    }
+
+    private void enqueue(ApplicationEntity application, String message) {
+        String studentId = application.get(ApplicationEntity.ApplicationField.StudentID);
+        NotificationEntity notification = new NotificationEntity(UUID.randomUUID().toString(), studentId,
+                LocalDateTime.now().withNano(0).toString(), message);
+        queues.get(Math.floorMod(studentId.hashCode(), WORKERS)).add(notification);
+    }
+
+    private String titleOf(ApplicationEntity application) {
+        String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
+        Entity internship = store.findById(INTERNSHIP_FILE, internshipId, "Internship");
+        return internship instanceof InternshipEntity found
+                ? found.get(InternshipEntity.InternshipField.Title)
+                : internshipId;
+    }
+
+    private void drain(BlockingQueue<NotificationEntity> queue) {
+        List<NotificationEntity> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ex) {
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            try {
+                store.appendAll(NotificationCenter.file(), batch);
+            } catch (RuntimeException ex) {
+                System.err.println("Failed to deliver " + batch.size() + " notification(s): " + ex.getMessage());
+            }
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package common;
+
+/**
+ * Entity representing one message in a user's notification inbox.
+ */
+public class NotificationEntity extends Entity {
+
+    /**
+     * Fields exposed by the notification CSV layout.
+     */
+    public enum NotificationField {
+        NotificationID, UserID, CreatedAt, Read, Message
+    }
+
+    /**
+     * Creates a notification entity by splitting an existing CSV row.
+     *
+     * @param csvLine raw CSV row
+     */
+    public NotificationEntity(String csvLine) {
+        values = csvLine.split(",", -1);
+    }
+
+    /**
+     * Creates an unread notification.
+     *
+     * @param notificationID unique notification identifier
+     * @param userID         recipient identifier
+     * @param createdAt      ISO-8601 creation timestamp
+     * @param message        text shown to the recipient; commas are replaced to keep the row intact
+     */
+    public NotificationEntity(String notificationID, String userID, String createdAt, String message) {
+        values = new String[]{notificationID, userID, createdAt, "false", message.replace(',', ';')};
+    }
+
+    /**
+     * Retrieves a value by notification field.
+     *
+     * @param f notification field to read
+     * @return value stored for the field
+     */
+    public String get(NotificationField f) {
+        return values[f.ordinal()];
+    }
+
+    /**
+     * Updates the value of a notification field.
+     *
+     * @param f notification field to update
+     * @param v new value to store
+     */
+    public void set(NotificationField f, String v) {
+        values[f.ordinal()] = v;
+    }
+
+    /**
+     * @return {@code true} once the recipient has opened the notification
+     */
+    public boolean isRead() {
+        return Boolean.parseBoolean(get(NotificationField.Read));
+    }
+
+    @Override
+    public String toString() {
+        return toCSVFormat();
+    }
+}
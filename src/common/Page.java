@@ -0,0 +1,29 @@
+package common;
+
+import java.util.List;
+
+/**
+ * One window of a longer listing.
+ *
+ * @param rows    entries in the window, in listing order
+ * @param offset  position of the first entry within the whole listing, starting at 0
+ * @param hasMore whether further entries follow this window
+ * @param <T>     entry type
+ */
+public record Page<T>(List<T> rows, int offset, boolean hasMore) {
+
+    /**
+     * Cuts a window out of a list that is already in memory.
+     *
+     * @param all    complete listing
+     * @param offset position of the first entry to include
+     * @param limit  maximum number of entries to include
+     * @param <T>    entry type
+     * @return the requested window
+     */
+    public static <T> Page<T> of(List<T> all, int offset, int limit) {
+        int from = Math.min(Math.max(0, offset), all.size());
+        int to = Math.min(all.size(), from + limit);
+        return new Page<>(all.subList(from, to), from, to < all.size());
+    }
+}
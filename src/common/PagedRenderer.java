@@ -0,0 +1,193 @@
+package common;
+
+import java.util.Formatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Renders long console listings one page at a time. Each page is formatted into a
+ * {@link StringBuilder} that the renderer keeps for its whole life and is then written with
+ * a single call, instead of one auto-flushing {@code printf} per field. Over a remote
+ * session that turns hundreds of small writes per screen into one.
+ *
+ * <p>Rows come from a {@link Source} asked for one window at a time, so a listing backed by
+ * {@link EntityStore#page} only materialises the visible page. When a listing spans more
+ * than one page, the footer offers {@code N} and {@code P} to move between pages; lists
+ * that fit on one page render exactly as before.</p>
+ *
+ * @param <T> row type
+ */
+public final class PagedRenderer<T> {
+    /** Rows per page used when a screen does not choose its own size. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /**
+     * Supplies one window of the listing.
+     *
+     * @param <T> row type
+     */
+    @FunctionalInterface
+    public interface Source<T> {
+        /**
+         * @param offset position of the first row to return
+         * @param limit  maximum number of rows to return
+         * @return the requested window
+         */
+        Page<T> fetch(int offset, int limit);
+    }
+
+    /**
+     * Formats one row into the page buffer.
+     *
+     * @param <T> row type
+     */
+    @FunctionalInterface
+    public interface RowFormatter<T> {
+        /**
+         * @param out    formatter writing into the page buffer
+         * @param number one-based position of the row within the whole listing
+         * @param row    row to format
+         */
+        void format(Formatter out, int number, T row);
+    }
+
+    private final StringBuilder buffer = new StringBuilder(4096);
+    private final Formatter formatter = new Formatter(buffer, Locale.getDefault(Locale.Category.FORMAT));
+    private final String header;
+    private final String footer;
+    private final RowFormatter<T> rowFormatter;
+    private final int pageSize;
+    private Source<T> source;
+    private Page<T> page;
+
+    /**
+     * Creates a renderer.
+     *
+     * @param header       text printed above the rows of every page (may be empty)
+     * @param footer       text printed below the rows of every page (may be empty)
+     * @param pageSize     rows per page
+     * @param rowFormatter formats each row
+     */
+    public PagedRenderer(String header, String footer, int pageSize, RowFormatter<T> rowFormatter) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        this.header = header == null ? "" : header;
+        this.footer = footer == null ? "" : footer;
+        this.pageSize = pageSize;
+        this.rowFormatter = rowFormatter;
+    }
+
+    /**
+     * Pages through a list that is already in memory.
+     *
+     * @param rows complete listing
+     * @param <T>  row type
+     * @return source over the list
+     */
+    public static <T> Source<T> fromList(List<T> rows) {
+        return (offset, limit) -> Page.of(rows, offset, limit);
+    }
+
+    /**
+     * Pages through the entities of a resource that satisfy {@code filter}, reading only as
+     * far into the file as the requested page needs.
+     *
+     * @param store      backing entity store
+     * @param filePath   resource resolved via {@link PathResolver#resource(String)}
+     * @param entityType logical discriminator used by {@link EntityFactoryRegistry}
+     * @param filter     selects the entities that belong to the listing
+     * @return source backed by {@link EntityStore#page}
+     */
+    public static Source<Entity> fromStore(EntityStore store, String filePath, String entityType,
+                                           Predicate<? super Entity> filter) {
+        return (offset, limit) -> store.page(filePath, entityType, filter, offset, limit);
+    }
+
+    /**
+     * Starts a listing at its first page and prints that page.
+     *
+     * @param source rows to list
+     * @return the first page; when the listing is empty nothing is printed and the page has
+     *         no rows, so the caller can print its own message
+     */
+    public Page<T> start(Source<T> source) {
+        this.source = source;
+        return show(0);
+    }
+
+    /**
+     * Reads answers from {@code ask} until one is not a page command, turning pages as
+     * requested in between.
+     *
+     * @param ask prompts for and reads one answer
+     * @return the first answer that is not a page command
+     */
+    public String select(Supplier<String> ask) {
+        String input = ask.get();
+        while (turnPage(input)) {
+            input = ask.get();
+        }
+        return input;
+    }
+
+    /**
+     * Handles {@code N} and {@code P} when the listing spans several pages.
+     *
+     * @param input answer entered by the user
+     * @return {@code true} when the answer was a page command and has been handled
+     */
+    public boolean turnPage(String input) {
+        if (page == null || input == null || !isPaged()) {
+            return false;
+        }
+        String command = input.trim();
+        if (command.equalsIgnoreCase("N")) {
+            if (page.hasMore()) {
+                show(page.offset() + pageSize);
+            } else {
+                System.out.println("Already on the last page.");
+            }
+            return true;
+        }
+        if (command.equalsIgnoreCase("P")) {
+            if (page.offset() > 0) {
+                show(Math.max(0, page.offset() - pageSize));
+            } else {
+                System.out.println("Already on the first page.");
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isPaged() {
+        return page.offset() > 0 || page.hasMore();
+    }
+
+    private Page<T> show(int offset) {
+        page = source.fetch(offset, pageSize);
+        if (page.rows().isEmpty() && page.offset() > 0) {
+            // rows were removed since the previous page; fall back to the last page that has any
+            page = source.fetch(Math.max(0, page.offset() - pageSize), pageSize);
+        }
+        if (page.rows().isEmpty()) {
+            return page;
+        }
+        buffer.setLength(0);
+        buffer.append(header);
+        List<T> rows = page.rows();
+        for (int i = 0; i < rows.size(); i++) {
+            rowFormatter.format(formatter, page.offset() + i + 1, rows.get(i));
+        }
+        buffer.append(footer);
+        if (isPaged()) {
+            formatter.format("Page %d (rows %d-%d). Enter N for the next page or P for the previous page.%n",
+                    page.offset() / pageSize + 1, page.offset() + 1, page.offset() + rows.size());
+        }
+        System.out.print(buffer);
+        return page;
+    }
+}
@@ -13,13 +13,12 @@ public class PasswordChanger extends Controller {
     protected final Display display; // protected, non-static
 
     /**
-     * Creates a password change controller and immediately schedules it with the router.
+     * Creates a password change controller for the given user.
      */
     public PasswordChanger(Router router, Scanner scanner, EntityStore entityStore, String username) {
         super(router, scanner, entityStore);
         this.username = username;
         this.display = new ChangePasswordDisplay(this); // tied to this instance
-        router.push(this);
     }
 
     @Override
@@ -43,7 +42,7 @@ public class PasswordChanger extends Controller {
 
     // Backend logic for changing password
     /**
-     * Persists a new password for the current user in {@code users.csv}.
+     * Persists a salted hash of the new password for the current user in {@code users.csv}.
      */
     private void changePassword(String newPassword) throws InvalidUserIDException {
         Entity entity = entityStore.findById(PathResolver.resource("users.csv"), username, "User");
@@ -51,8 +50,9 @@ public class PasswordChanger extends Controller {
             throw new InvalidUserIDException("User not found in database: " + username);
         }
 
-        user.set(UserEntity.UserField.Password, newPassword);
+        user.set(UserEntity.UserField.Password, PasswordHasher.hash(newPassword));
         entityStore.update(PathResolver.resource("users.csv"), username, user, "User");
+        UserDirectory.of(entityStore).forgetVerification(username);
     }
 
 }
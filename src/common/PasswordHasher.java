@@ -0,0 +1,125 @@
+package common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * Salted PBKDF2 password hashing. Stored values have the form
+ * {@code pbkdf2$<iterations>$<salt>$<hash>} with Base64 salt and hash, so the cost
+ * of each row is recorded alongside it and can be raised without invalidating
+ * existing passwords.
+ *
+ * <p>The cost defaults to {@value #DEFAULT_ITERATIONS} iterations and can be changed
+ * with the {@code ims.password.iterations} system property. Rows written before
+ * hashing was introduced hold the password in plain text; {@link #verify} still
+ * accepts them and {@link #needsRehash} reports them so callers can migrate.</p>
+ */
+public final class PasswordHasher {
+    /** Iteration count used when {@code ims.password.iterations} is not set. */
+    public static final int DEFAULT_ITERATIONS = 120_000;
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private PasswordHasher() {
+    }
+
+    /**
+     * Returns the iteration count applied to newly hashed passwords.
+     *
+     * @return configured cost factor
+     */
+    public static int iterations() {
+        Integer configured = Integer.getInteger("ims.password.iterations");
+        return configured == null || configured < 1 ? DEFAULT_ITERATIONS : configured;
+    }
+
+    /**
+     * Hashes a password with a fresh random salt at the configured cost.
+     *
+     * @param password password as entered
+     * @return encoded hash suitable for storing in {@code users.csv}
+     */
+    public static String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        int iterations = iterations();
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + "$" + iterations + "$" + encoder.encodeToString(salt)
+                + "$" + encoder.encodeToString(derive(password, salt, iterations));
+    }
+
+    /**
+     * Checks a password against a stored value, which may be a hash or a legacy
+     * plain-text password.
+     *
+     * @param password password as entered
+     * @param stored   value held in the password column
+     * @return {@code true} when the password matches
+     */
+    public static boolean verify(String password, String stored) {
+        if (password == null || stored == null) {
+            return false;
+        }
+        if (!isHashed(stored)) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+                    stored.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = stored.split("\\$");
+        try {
+            Base64.Decoder decoder = Base64.getDecoder();
+            byte[] salt = decoder.decode(parts[2]);
+            byte[] expected = decoder.decode(parts[3]);
+            return MessageDigest.isEqual(expected, derive(password, salt, Integer.parseInt(parts[1])));
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Reports whether a stored value is in the hashed format.
+     *
+     * @param stored value held in the password column
+     * @return {@code true} for {@code pbkdf2$...} values
+     */
+    public static boolean isHashed(String stored) {
+        return stored != null && stored.startsWith(PREFIX + "$") && stored.split("\\$").length == 4;
+    }
+
+    /**
+     * Reports whether a stored value should be rewritten, either because it is still
+     * plain text or because it was hashed at a lower cost than is now configured.
+     *
+     * @param stored value held in the password column
+     * @return {@code true} when the row should be rehashed after the next successful login
+     */
+    public static boolean needsRehash(String stored) {
+        if (!isHashed(stored)) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(stored.split("\\$")[1]) < iterations();
+        } catch (NumberFormatException ex) {
+            return true;
+        }
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Password hashing unavailable: " + ex.getMessage(), ex);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
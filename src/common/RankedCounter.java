@@ -0,0 +1,111 @@
+package common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Counter that keeps its keys ordered by count, so the top {@code k} entries are read
+ * by walking the first {@code k} nodes of a sorted set. Increments and decrements cost
+ * {@code O(log n)}; ties are broken by key so the order is stable between calls.
+ * {@link #rankOf(String)} is the exception: a {@link TreeSet} does not track subtree
+ * sizes, so it counts the entries ahead of the key in {@code O(rank)}.
+ *
+ * <p>Instances are not thread-safe; the owner synchronises access.</p>
+ */
+final class RankedCounter {
+
+    private static final Comparator<Ranked> ORDER = Comparator
+            .comparingLong(Ranked::count).reversed()
+            .thenComparing(Ranked::key, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(Ranked::key);
+
+    private final Map<String, Long> counts = new HashMap<>();
+    private final TreeSet<Ranked> ranking = new TreeSet<>(ORDER);
+
+    /**
+     * Adjusts the count of a key, dropping it once the count reaches zero.
+     *
+     * @param key   counted key
+     * @param delta amount to add, may be negative
+     */
+    void add(String key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        Long previous = counts.get(key);
+        if (previous != null) {
+            ranking.remove(new Ranked(key, previous));
+        }
+        long updated = (previous == null ? 0 : previous) + delta;
+        if (updated <= 0) {
+            counts.remove(key);
+        } else {
+            counts.put(key, updated);
+            ranking.add(new Ranked(key, updated));
+        }
+    }
+
+    /**
+     * @param key counted key
+     * @return current count, zero when absent
+     */
+    long count(String key) {
+        return counts.getOrDefault(key, 0L);
+    }
+
+    /**
+     * Counts the keys ranked ahead of this one, so the cost grows linearly with the
+     * rank. Only the per-company board is ranked, which stays small.
+     *
+     * @param key counted key
+     * @return one-based rank of the key, or zero when it has no count
+     */
+    int rankOf(String key) {
+        Long count = counts.get(key);
+        return count == null ? 0 : ranking.headSet(new Ranked(key, count)).size() + 1;
+    }
+
+    /**
+     * @return number of keys with a positive count
+     */
+    int size() {
+        return counts.size();
+    }
+
+    /**
+     * Returns the highest counts in descending order.
+     *
+     * @param k maximum number of entries
+     * @return at most {@code k} entries, empty when {@code k} is not positive
+     */
+    List<Ranked> top(int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        List<Ranked> result = new ArrayList<>(Math.min(k, ranking.size()));
+        for (Ranked entry : ranking) {
+            if (result.size() >= k) {
+                break;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    void clear() {
+        counts.clear();
+        ranking.clear();
+    }
+
+    /**
+     * One key with its count.
+     *
+     * @param key   counted key
+     * @param count current count
+     */
+    record Ranked(String key, long count) { }
+}
@@ -1,6 +1,11 @@
 package common;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 //PUSH IS FOR ADDING A NEW SERVICE OR A PAGE. USED IF NEED TO BACKTRACK
 //REPLACE IS FOR SWAPPING THE CURRENT ROLE OF THE APP TO A NEW ROLE LIKE FROM GUEST TO STAFF
@@ -8,85 +13,150 @@ import java.util.Stack;
 
 /**
  * Manages a stack of controllers representing the current navigation history.
+ *
+ * <p>Navigation runs as a flat loop: the controller on top of the stack is initialised,
+ * and the push, pop and replace calls it makes only edit the stack. Once it returns, the
+ * loop initialises whatever is on top next, so the Java call stack stays the same depth
+ * however long a session navigates. A controller that returns without navigating is
+ * popped, which brings its parent back.</p>
+ *
+ * <p>A controller's {@link Controller#onEnter()} runs when it is first initialised after
+ * being pushed, and {@link Controller#onLeave()} when it is removed, so the same instance
+ * can be pushed again on a later visit.</p>
  */
 public class Router {
-    private final Stack<Controller> controllerStack;
+    private final Deque<Controller> controllerStack;
+    private final Set<Controller> entered = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Runnable onExit;
+    private Controller current;
+    private boolean running;
+    private Session session;
 
     /**
-     * Creates an empty router stack.
+     * Creates an empty router stack that terminates the JVM once the last controller exits.
      */
     public Router() {
-        controllerStack = new Stack<>();
+        this(() -> {
+            System.out.println("Thank you for using our IMS!");
+            System.exit(0);
+        });
+    }
+
+    /**
+     * Creates an empty router stack with a custom exit action, used by server sessions
+     * that must end the connection rather than the process.
+     *
+     * @param onExit action run when the last controller is popped
+     */
+    public Router(Runnable onExit) {
+        if (onExit == null) {
+            throw new IllegalArgumentException("Exit action cannot be null");
+        }
+        controllerStack = new ArrayDeque<>();
+        this.onExit = onExit;
     }
 
     /**
-     * Push a new controller onto the stack and initialize it.
+     * Swaps the top controller for a new one, e.g. moving from login to a role home page.
      */
     public void replace(Controller controller){
         if (controller == null) {
             throw new IllegalArgumentException("Controller cannot be null");
         }
 
-        controllerStack.pop();
+        leave(controllerStack.pollFirst());
         this.push(controller);
 
     }
     /**
-     * Activates a new controller by pushing it on the stack and initializing it.
+     * Places a controller on top of the stack. It becomes active once the running
+     * controller returns; if no loop is running yet, this call starts one.
      */
     public void push(Controller controller) {
         if (controller == null) {
             throw new IllegalArgumentException("Controller cannot be null");
         }
         controllerStack.push(controller);
-        System.out.println(controllerStack);
-        controller.initialize();
-        this.pop();
+        if (!running) {
+            run();
+        }
     }
 
     /**
-     * Pop the current controller and re-initialize the new top one (if any).
+     * Removes the running controller so its parent is re-initialized next. The call has
+     * no effect when the running controller has already navigated elsewhere.
+     *
+     * @return controller that will run next, or {@code null} when the stack is empty
      */
     public Controller pop() {
         if (controllerStack.isEmpty()) {
             System.out.println("Router stack is empty, nothing to pop.");
             return null;
         }
-
-        // Remove the current controller
-        controllerStack.pop();
-
-        // Re-initialize the new top controller if it exists
-        if (!controllerStack.isEmpty()) {
-            System.out.println(controllerStack);
-            Controller top = controllerStack.peek();
-            top.initialize();
-            return top;
-        }
-        else{
-            System.out.println("Thank you for using our IMS!");
-            System.exit(0);
+        if (current == null || controllerStack.peek() == current) {
+            leave(controllerStack.pop());
         }
-
-        return null;
+        return controllerStack.peek();
     }
 
     /**
-     * Peek the current (top) controller without modifying the stack.
+     * Runs controllers until the stack is empty, then performs the exit action.
      */
+    private void run() {
+        running = true;
+        try {
+            while (!controllerStack.isEmpty()) {
+                Controller controller = controllerStack.peek();
+                current = controller;
+                try {
+                    if (!entered.add(controller) || controller.onEnter()) {
+                        controller.initialize();
+                    }
+                } catch (NoSuchElementException eof) {
+                    // Scanner reports end of input this way; anything else is a real failure
+                    System.out.println("Input stream closed. Exiting system...");
+                    while (!controllerStack.isEmpty()) {
+                        leave(controllerStack.pop());
+                    }
+                    break;
+                } catch (RuntimeException ex) {
+                    System.out.println("An unexpected error occurred: " + ex.getMessage());
+                }
+                // A controller that returns without navigating has finished.
+                if (controllerStack.peek() == controller) {
+                    leave(controllerStack.pop());
+                }
+            }
+        } finally {
+            current = null;
+            running = false;
+        }
+        onExit.run();
+    }
+
+    private void leave(Controller controller) {
+        if (controller != null && entered.remove(controller)) {
+            controller.onLeave();
+        }
+    }
+
     /**
      * Peek the current (top) controller without modifying the stack.
      */
     public Controller peek() {
-        if (controllerStack.isEmpty()) {
-            return null;
-        }
         return controllerStack.peek();
     }
 
     /**
-     * Check if the stack is empty.
+     * Checks whether a controller is on top of the stack, i.e. has not navigated away.
+     *
+     * @param controller controller to check
+     * @return {@code true} when it is the top controller
      */
+    public boolean isActive(Controller controller) {
+        return controllerStack.peek() == controller;
+    }
+
     /**
      * Check if the stack is empty.
      */
@@ -94,13 +164,28 @@ public class Router {
         return controllerStack.isEmpty();
     }
 
-    /**
-     * Get the current stack size.
-     */
     /**
      * Get the current stack size.
      */
     public int size() {
         return controllerStack.size();
     }
+
+    /**
+     * Returns the signed-in user of this router's session.
+     *
+     * @return current session, or {@code null} when nobody is logged in
+     */
+    public Session session() {
+        return session;
+    }
+
+    /**
+     * Records the signed-in user at login, or clears it with {@code null} at logout.
+     *
+     * @param session new session, or {@code null}
+     */
+    public void setSession(Session session) {
+        this.session = session;
+    }
 }
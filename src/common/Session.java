@@ -0,0 +1,86 @@
+package common;
+
+/**
+ * The signed-in user of one console or network session, created at login and held by
+ * that session's {@link Router}. Controllers read the account and role profile from
+ * here instead of rereading the CSV files on every construction; lookups go through
+ * {@link UserDirectory}, so edits made during the session (an accepted offer, a changed
+ * password) are visible immediately.
+ */
+public final class Session {
+
+    private final UserDirectory directory;
+    private final String userId;
+    private final String role;
+
+    private Session(UserDirectory directory, String userId, String role) {
+        this.directory = directory;
+        this.userId = userId;
+        this.role = role;
+    }
+
+    /**
+     * Opens a session for an authenticated account.
+     *
+     * @param entityStore backing store
+     * @param user        authenticated account
+     * @return new session
+     */
+    public static Session open(EntityStore entityStore, UserEntity user) {
+        String role = user.get(UserEntity.UserField.Role);
+        return new Session(UserDirectory.of(entityStore), user.get(UserEntity.UserField.Username),
+                role == null ? "" : role.trim().toLowerCase());
+    }
+
+    /**
+     * @return username of the signed-in user
+     */
+    public String userId() {
+        return userId;
+    }
+
+    /**
+     * @return lower-case role recorded at login ({@code student}, {@code staff} or {@code cr})
+     */
+    public String role() {
+        return role;
+    }
+
+    /**
+     * Indicates whether the session belongs to the supplied user.
+     *
+     * @param id username to compare
+     * @return {@code true} when the IDs match
+     */
+    public boolean isFor(String id) {
+        return userId.equals(id);
+    }
+
+    /**
+     * @return current account record, or {@code null} when it was removed
+     */
+    public UserEntity user() {
+        return directory.user(userId);
+    }
+
+    /**
+     * @return current student profile, or {@code null} for other roles
+     */
+    public StudentEntity student() {
+        return directory.student(userId);
+    }
+
+    /**
+     * @return current staff profile, or {@code null} for other roles
+     */
+    public StaffEntity staff() {
+        return directory.staff(userId);
+    }
+
+    /**
+     * @return current company representative profile, or {@code null} for other roles
+     */
+    public CREntity companyRep() {
+        return directory.companyRep(userId);
+    }
+}
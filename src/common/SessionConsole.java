@@ -0,0 +1,99 @@
+package common;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * {@link System#out} replacement that sends console output to the stream bound to the
+ * calling thread, so every server session writes to its own connection while sharing
+ * the controllers' existing {@code System.out} calls. Threads without a binding fall
+ * back to the original console.
+ *
+ * <p>Each call is forwarded to the bound stream as a whole, so sessions never contend
+ * on a shared stream lock.</p>
+ */
+public final class SessionConsole extends PrintStream {
+
+    private static final ThreadLocal<PrintStream> BOUND = new ThreadLocal<>();
+    private static volatile boolean installed;
+
+    private final PrintStream fallback;
+
+    private SessionConsole(PrintStream fallback) {
+        super(fallback, true);
+        this.fallback = fallback;
+    }
+
+    /**
+     * Replaces {@link System#out} and {@link System#err} with session-aware streams.
+     * Calling it again has no effect.
+     */
+    public static synchronized void install() {
+        if (installed) {
+            return;
+        }
+        System.setOut(new SessionConsole(System.out));
+        System.setErr(new SessionConsole(System.err));
+        installed = true;
+    }
+
+    /**
+     * Routes console output of the current thread to the supplied stream.
+     *
+     * @param stream session output stream
+     */
+    public static void bind(PrintStream stream) {
+        BOUND.set(stream);
+    }
+
+    /**
+     * Restores the original console for the current thread.
+     */
+    public static void unbind() {
+        BOUND.remove();
+    }
+
+    private PrintStream target() {
+        PrintStream bound = BOUND.get();
+        return bound == null ? fallback : bound;
+    }
+
+    @Override public void write(int b) { target().write(b); }
+    @Override public void write(byte[] buf, int off, int len) { target().write(buf, off, len); }
+    @Override public void flush() { target().flush(); }
+    @Override public boolean checkError() { return target().checkError(); }
+    @Override public void print(boolean b) { target().print(b); }
+    @Override public void print(char c) { target().print(c); }
+    @Override public void print(int i) { target().print(i); }
+    @Override public void print(long l) { target().print(l); }
+    @Override public void print(float f) { target().print(f); }
+    @Override public void print(double d) { target().print(d); }
+    @Override public void print(char[] s) { target().print(s); }
+    @Override public void print(String s) { target().print(s); }
+    @Override public void print(Object obj) { target().print(obj); }
+    @Override public void println() { target().println(); }
+    @Override public void println(boolean x) { target().println(x); }
+    @Override public void println(char x) { target().println(x); }
+    @Override public void println(int x) { target().println(x); }
+    @Override public void println(long x) { target().println(x); }
+    @Override public void println(float x) { target().println(x); }
+    @Override public void println(double x) { target().println(x); }
+    @Override public void println(char[] x) { target().println(x); }
+    @Override public void println(String x) { target().println(x); }
+    @Override public void println(Object x) { target().println(x); }
+    @Override public PrintStream printf(String format, Object... args) { return target().printf(format, args); }
+    @Override public PrintStream printf(Locale l, String format, Object... args) { return target().printf(l, format, args); }
+    @Override public PrintStream format(String format, Object... args) { return target().format(format, args); }
+    @Override public PrintStream format(Locale l, String format, Object... args) { return target().format(l, format, args); }
+    @Override public PrintStream append(CharSequence csq) { return target().append(csq); }
+    @Override public PrintStream append(CharSequence csq, int start, int end) { return target().append(csq, start, end); }
+    @Override public PrintStream append(char c) { return target().append(c); }
+
+    /**
+     * The shared console is never closed; sessions close their own streams.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+}
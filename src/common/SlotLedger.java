@@ -0,0 +1,226 @@
+package common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Authority for the remaining capacity of every internship. Each internship has an
+ * atomic counter that approvals decrement with a compare-and-set loop, so parallel
+ * approvals on the same internship can never take it below zero and never wait on a
+ * lock to decide.
+ *
+ * <p>The counter is persisted to the internship's {@code Slots} column after every
+ * change. Writes for one internship are coalesced: a writer always stores the counter's
+ * latest value, so approvals that land while a write is in progress are covered by the
+ * next write instead of each rewriting the file.</p>
+ */
+public final class SlotLedger {
+
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String STATUS_FILLED = "FILLED";
+    private static final String STATUS_APPROVED = "Approved";
+
+    private final EntityStore store;
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> persisting = ThreadLocal.withInitial(() -> false);
+
+    private SlotLedger(EntityStore store) {
+        this.store = store;
+        store.addListener(this::onChange);
+    }
+
+    /**
+     * Returns the ledger maintained for the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared ledger for the store
+     */
+    public static SlotLedger of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(SlotLedger.class, SlotLedger::new);
+    }
+
+    /**
+     * Returns the number of slots still available.
+     *
+     * @param internshipId internship identifier
+     * @return remaining slots, or {@code 0} when the internship does not exist
+     */
+    public int remaining(String internshipId) {
+        Slot slot = slotFor(internshipId);
+        return slot == null ? 0 : slot.remaining.get();
+    }
+
+    /**
+     * Takes one slot if any remain, without persisting. Callers must follow a successful
+     * reservation with {@link #flush(String)}.
+     *
+     * @param internshipId internship identifier
+     * @return {@code true} when a slot was taken
+     */
+    public boolean tryReserve(String internshipId) {
+        Slot slot = slotFor(internshipId);
+        if (slot == null) {
+            return false;
+        }
+        while (true) {
+            int current = slot.remaining.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (slot.remaining.compareAndSet(current, current - 1)) {
+                slot.dirty.set(true);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns a slot taken by {@link #tryReserve(String)} that ended up unused, without
+     * persisting. Callers must follow with {@link #flush(String)}.
+     *
+     * @param internshipId internship identifier
+     */
+    public void unreserve(String internshipId) {
+        Slot slot = slots.get(internshipId);
+        if (slot == null) {
+            return;
+        }
+        slot.remaining.incrementAndGet();
+        slot.dirty.set(true);
+    }
+
+    /**
+     * Takes one slot if any remain and persists the new count.
+     *
+     * @param internshipId internship identifier
+     * @return {@code true} when a slot was taken
+     */
+    public boolean reserve(String internshipId) {
+        if (!tryReserve(internshipId)) {
+            return false;
+        }
+        flush(internshipId);
+        return true;
+    }
+
+    /**
+     * Returns one slot, for example when an approved application is withdrawn, and
+     * persists the new count.
+     *
+     * @param internshipId internship identifier
+     */
+    public void release(String internshipId) {
+        if (slotFor(internshipId) == null) {
+            return;
+        }
+        unreserve(internshipId);
+        flush(internshipId);
+    }
+
+    /**
+     * Writes the current count of an internship if it changed since the last write. An
+     * approved internship is marked filled when no slots remain and a filled one is
+     * reopened when a slot frees up; any other status (closed, rejected, pending) belongs
+     * to staff or the deadline scheduler and is left alone.
+     *
+     * @param internshipId internship identifier
+     */
+    public void flush(String internshipId) {
+        Slot slot = slots.get(internshipId);
+        if (slot == null) {
+            return;
+        }
+        synchronized (slot) {
+            if (!slot.dirty.getAndSet(false)) {
+                return; // a write that started after this change already stored it
+            }
+            Entity entity = store.findById(INTERNSHIP_FILE, internshipId, "Internship");
+            if (!(entity instanceof InternshipEntity internship)) {
+                return;
+            }
+            int remaining = slot.remaining.get();
+            internship.set(InternshipEntity.InternshipField.Slots, Integer.toString(remaining));
+            String status = internship.get(InternshipEntity.InternshipField.Status);
+            if (remaining == 0 && STATUS_APPROVED.equalsIgnoreCase(status)) {
+                internship.set(InternshipEntity.InternshipField.Status, STATUS_FILLED);
+            } else if (remaining > 0 && STATUS_FILLED.equalsIgnoreCase(status)) {
+                internship.set(InternshipEntity.InternshipField.Status, STATUS_APPROVED);
+            }
+            persisting.set(true);
+            try {
+                store.update(INTERNSHIP_FILE, internshipId, internship, "Internship");
+            } catch (RuntimeException ex) {
+                slot.dirty.set(true); // the count is still unwritten; the next flush retries
+                throw ex;
+            } finally {
+                persisting.set(false);
+            }
+        }
+    }
+
+    private Slot slotFor(String internshipId) {
+        if (internshipId == null) {
+            return null;
+        }
+        Slot slot = slots.get(internshipId);
+        if (slot != null) {
+            return slot;
+        }
+        Entity entity = store.findById(INTERNSHIP_FILE, internshipId, "Internship");
+        if (!(entity instanceof InternshipEntity internship)) {
+            return null;
+        }
+        Slot loaded = new Slot(parseSlots(internship.get(InternshipEntity.InternshipField.Slots)));
+        Slot existing = slots.putIfAbsent(internshipId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * Other writers (visibility toggles, deadline closing) rewrite whole rows and may carry
+     * a slot count read before the latest approval. The ledger keeps its own count and
+     * writes it back; the write runs on a short-lived daemon thread because this callback
+     * holds the file lock.
+     */
+    private void onChange(String filePath, Entity before, Entity after) {
+        if (!INTERNSHIP_FILE.equals(filePath) || persisting.get()) {
+            return;
+        }
+        if (after instanceof InternshipEntity internship) {
+            String internshipId = internship.get(InternshipEntity.InternshipField.InternshipID);
+            Slot slot = slots.get(internshipId);
+            if (slot != null && parseSlots(internship.get(InternshipEntity.InternshipField.Slots)) != slot.remaining.get()) {
+                slot.dirty.set(true);
+                Thread writer = new Thread(() -> flush(internshipId), "slot-flush-" + internshipId);
+                writer.setDaemon(true);
+                writer.start();
+            }
+        } else if (before instanceof InternshipEntity internship) {
+            slots.remove(internship.get(InternshipEntity.InternshipField.InternshipID));
+        }
+    }
+
+    private static int parseSlots(String value) {
+        try {
+            return Math.max(0, Integer.parseInt(value == null ? "" : value.trim()));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * Remaining capacity of one internship and whether it still has to be written.
+     */
+    private static final class Slot {
+        private final AtomicInteger remaining;
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        Slot(int remaining) {
+            this.remaining = new AtomicInteger(remaining);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package common;
 
-import exceptions.*;
 import java.util.Scanner;
 
 /**
@@ -13,23 +12,41 @@ public abstract class StaffController extends UserController {
     protected String staffRole;
     protected String department;
     protected String email;
+    private StaffEntity profile;
 
     /**
-     * Loads staff metadata based on the provided identifier.
+     * Binds the controller to a staff member; the profile is loaded when the controller is entered.
      */
-    public StaffController(Router router, Scanner scanner, EntityStore entityStore, String staffID) throws InvalidStaffIDException {
+    public StaffController(Router router, Scanner scanner, EntityStore entityStore, String staffID) {
         super(router, scanner, entityStore, staffID);
         this.staffID = staffID;
+    }
 
-        Entity entity = entityStore.findById(PathResolver.resource("staff.csv"), staffID, "Staff");
-        if (!(entity instanceof StaffEntity staff)) {
-            throw new InvalidStaffIDException("Invalid staff ID: " + staffID);
+    /**
+     * Loads staff metadata based on the provided identifier, re-reading the fields only
+     * when the profile has changed since the previous visit.
+     */
+    @Override
+    protected boolean onEnter() {
+        if (!super.onEnter()) {
+            return false;
         }
-
-        this.name = staff.get(StaffEntity.StaffField.Name);
-        this.staffRole = staff.get(StaffEntity.StaffField.Role);
-        this.department = staff.get(StaffEntity.StaffField.Department);
-        this.email = staff.get(StaffEntity.StaffField.Email);
+        Session session = router.session();
+        StaffEntity staff = session != null && session.isFor(staffID)
+                ? session.staff()
+                : UserDirectory.of(entityStore).staff(staffID);
+        if (staff == null) {
+            System.out.println("Invalid staff ID: " + staffID);
+            return false;
+        }
+        if (staff != profile) {
+            this.name = staff.get(StaffEntity.StaffField.Name);
+            this.staffRole = staff.get(StaffEntity.StaffField.Role);
+            this.department = staff.get(StaffEntity.StaffField.Department);
+            this.email = staff.get(StaffEntity.StaffField.Email);
+            this.profile = staff;
+        }
+        return true;
     }
 
     @Override
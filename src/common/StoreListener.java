@@ -0,0 +1,17 @@
+package common;
+
+/**
+ * Callback notified after an {@link EntityStore} writes a record, allowing derived
+ * views to update incrementally instead of rereading the backing resource.
+ */
+@FunctionalInterface
+public interface StoreListener {
+    /**
+     * Invoked after a record has been appended, replaced or removed.
+     *
+     * @param filePath resource that was written
+     * @param before   previous record, or {@code null} for an append
+     * @param after    new record, or {@code null} for a delete
+     */
+    void onChange(String filePath, Entity before, Entity after);
+}
@@ -1,7 +1,5 @@
 package common;
 
-import exceptions.*;
-
 /**
  * Base controller for student-facing flows that preloads student profile data.
  */
@@ -13,28 +11,49 @@ public abstract class StudentController extends UserController {
     protected int year;
     protected String email;
     protected String acceptedInternshipID;
+    private StudentEntity profile;
 
     /**
-     * Loads student metadata and validates the identifier.
+     * Binds the controller to a student; the profile is loaded when the controller is entered.
      */
-    public StudentController(Router router, java.util.Scanner scanner, EntityStore entityStore, String studentID) throws InvalidStudentIDException {
+    public StudentController(Router router, java.util.Scanner scanner, EntityStore entityStore, String studentID) {
         super(router, scanner, entityStore, studentID);
         this.studentID = studentID;
+    }
 
-        StudentEntity student = StudentFilterService.loadStudent(entityStore, studentID);
+    /**
+     * Loads student metadata and validates the identifier. Fields are only re-read when
+     * the profile has changed since the previous visit, e.g. after accepting an offer.
+     */
+    @Override
+    protected boolean onEnter() {
+        if (!super.onEnter()) {
+            return false;
+        }
+        Session session = router.session();
+        StudentEntity student = session != null && session.isFor(studentID)
+                ? session.student()
+                : UserDirectory.of(entityStore).student(studentID);
         if (student == null) {
-            throw new InvalidStudentIDException("Invalid student ID: " + studentID);
+            System.out.println("Invalid student ID: " + studentID);
+            return false;
+        }
+        if (student == profile) {
+            return true;
         }
 
-        this.name = student.get(StudentEntity.StudentField.Name);
-        this.major = student.get(StudentEntity.StudentField.Major);
         try {
             this.year = Integer.parseInt(student.get(StudentEntity.StudentField.Year));
         } catch (NumberFormatException ex) {
-            throw new InvalidStudentIDException("Invalid year data for student: " + studentID);
+            System.out.println("Invalid year data for student: " + studentID);
+            return false;
         }
+        this.name = student.get(StudentEntity.StudentField.Name);
+        this.major = student.get(StudentEntity.StudentField.Major);
         this.email = student.get(StudentEntity.StudentField.Email);
         this.acceptedInternshipID = student.get(StudentEntity.StudentField.AcceptedInternshipID);
+        this.profile = student;
+        return true;
     }
 
     @Override
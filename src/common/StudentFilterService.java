@@ -1,14 +1,8 @@
 package common;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
-import java.util.Set;
 
 /**
  * Provides utility methods for loading students and applying student-side internship filters.
@@ -19,6 +13,7 @@ public final class StudentFilterService {
     private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
     public static final String SORT_SOONEST = "Soonest";
     public static final String SORT_LATEST = "Latest";
+    public static final String SORT_BEST_MATCH = "BestMatch";
 
     private StudentFilterService() {
     }
@@ -107,6 +102,9 @@ public final class StudentFilterService {
         if (visibility == null || !"VISIBLE".equalsIgnoreCase(visibility.trim())) {
             return false;
         }
+        if (internship.isClosed()) {
+            return false;
+        }
         if (filters.hasLevel() && !equalsIgnoreCase(internship.get(InternshipEntity.InternshipField.Level), filters.level())) {
             return false;
         }
@@ -136,10 +134,10 @@ public final class StudentFilterService {
         internship -> valueOrEmpty(internship.get(InternshipEntity.InternshipField.Title)),
         String.CASE_INSENSITIVE_ORDER);
     Comparator<InternshipEntity> byCloseDateAsc = Comparator.comparing(
-        (InternshipEntity internship) -> parseCloseDate(internship),
+        InternshipEntity::closeDate,
         Comparator.nullsLast(Comparator.naturalOrder()));
     Comparator<InternshipEntity> byCloseDateDesc = Comparator.comparing(
-        (InternshipEntity internship) -> parseCloseDate(internship),
+        InternshipEntity::closeDate,
         Comparator.nullsLast(Comparator.reverseOrder()));
     Comparator<InternshipEntity> comparator;
         if (filters.sortBySoonest()) {
@@ -153,24 +151,43 @@ public final class StudentFilterService {
     }
 
     /**
-     * Lists company names extracted from internships, in alphabetical order.
+     * Streams the internship file once and returns the internships that pass the filters,
+     * sorted by the filters' closing-date preference.
      */
-    public static List<String> listCompanies(EntityStore store) {
+    public static List<InternshipEntity> findInternships(EntityStore store, StudentFilters filters) {
         if (store == null) {
             throw new IllegalArgumentException("EntityStore is required");
         }
-        List<Entity> internships = store.loadAll(INTERNSHIP_FILE, "Internship");
-        Set<String> companies = new LinkedHashSet<>();
-        for (Entity entity : internships) {
+        List<InternshipEntity> matches = new ArrayList<>();
+        store.forEach(INTERNSHIP_FILE, "Internship", entity -> {
             InternshipEntity internship = (InternshipEntity) entity;
-            String company = normalize(internship.get(InternshipEntity.InternshipField.CompanyName));
-            if (hasValue(company) && !companies.contains(company)) {
-                companies.add(company);
+            if (matchesFilters(internship, filters)) {
+                matches.add(internship);
             }
-        }
-        List<String> companyList = new ArrayList<>(companies);
-        companyList.sort(String.CASE_INSENSITIVE_ORDER);
-        return companyList;
+        });
+        sortInternships(matches, filters);
+        return matches;
+    }
+
+    /**
+     * Lists company names extracted from internships, in alphabetical order.
+     */
+    public static List<String> listCompanies(EntityStore store) {
+        return DistinctValueIndex.of(store).values(DistinctValueIndex.Column.COMPANY);
+    }
+
+    /**
+     * Lists preferred majors referenced by internships, in alphabetical order.
+     */
+    public static List<String> listMajors(EntityStore store) {
+        return DistinctValueIndex.of(store).values(DistinctValueIndex.Column.MAJOR);
+    }
+
+    /**
+     * Lists internship levels present in the dataset, in alphabetical order.
+     */
+    public static List<String> listLevels(EntityStore store) {
+        return DistinctValueIndex.of(store).values(DistinctValueIndex.Column.LEVEL);
     }
 
     private static String normalize(String value) {
@@ -189,28 +206,13 @@ public final class StudentFilterService {
         if (left == null || right == null) {
             return false;
         }
-        return left.trim().equalsIgnoreCase(right.trim());
+        return ValueCache.upper(left).equals(ValueCache.upper(right));
     }
 
     private static boolean hasValue(String value) {
         return value != null && !value.equalsIgnoreCase(StudentEntity.NO_FILTER_VALUE);
     }
 
-    private static LocalDate parseCloseDate(InternshipEntity internship) {
-        return parseCloseDate(internship.get(InternshipEntity.InternshipField.CloseDate));
-    }
-
-    private static LocalDate parseCloseDate(String closeDate) {
-        if (closeDate == null || closeDate.isBlank()) {
-            return null;
-        }
-        try {
-            return LocalDate.parse(closeDate.trim(), DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ENGLISH));
-        } catch (DateTimeParseException ex) {
-            return null;
-        }
-    }
-
     /**
      * Immutable bundle of normalized student filter selections.
      */
@@ -244,7 +246,14 @@ public final class StudentFilterService {
             return equalsIgnoreCase(closingSort, SORT_LATEST);
         }
 
+        public boolean sortByBestMatch() {
+            return equalsIgnoreCase(closingSort, SORT_BEST_MATCH);
+        }
+
         public String closingSortDisplay() {
+            if (sortByBestMatch()) {
+                return "Best match for your profile";
+            }
             if (sortBySoonest()) {
                 return "Closing Date: Soonest first";
             }
@@ -255,7 +264,8 @@ public final class StudentFilterService {
         }
 
         public boolean hasActiveFilters() {
-            return hasLevel() || hasCompany() || hasStatus() || hasMajor() || sortBySoonest() || sortByLatest();
+            return hasLevel() || hasCompany() || hasStatus() || hasMajor() || sortBySoonest() || sortByLatest()
+                    || sortByBestMatch();
         }
 
         public String level() {
@@ -0,0 +1,165 @@
+package common;
+
+import exceptions.ServiceException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control in front of application submission. Two checks run before a
+ * submission touches the store:
+ * <ol>
+ *   <li>a per-student token bucket (a burst of {@value #STUDENT_BURST}, then one
+ *       submission every {@value #STUDENT_REFILL_SECONDS} seconds);</li>
+ *   <li>a global limit of {@value #MAX_IN_FLIGHT} submissions in progress, with at most
+ *       {@value #MAX_QUEUED} callers waiting up to {@value #MAX_WAIT_MILLIS} ms for a
+ *       turn.</li>
+ * </ol>
+ * Both checks are lock-free when capacity is available. Callers beyond the queue bound
+ * or the wait are refused straight away, which keeps latency bounded for everyone else
+ * during an opening-day burst; such a refusal gives the student's token back.
+ *
+ * <p>Buckets that have refilled completely are indistinguishable from new ones, so once
+ * more than {@value #EVICTION_THRESHOLD} students are tracked they are dropped, at most
+ * once per full refill period. Memory therefore follows recent submitters only.</p>
+ */
+public final class SubmissionGate {
+
+    static final int STUDENT_BURST = 3;
+    static final int STUDENT_REFILL_SECONDS = 5;
+    static final int MAX_IN_FLIGHT = 8;
+    static final int MAX_QUEUED = 64;
+    static final long MAX_WAIT_MILLIS = 2_000;
+    static final int EVICTION_THRESHOLD = 1_024;
+    private static final long REFILL_NANOS = TimeUnit.SECONDS.toNanos((long) STUDENT_BURST * STUDENT_REFILL_SECONDS);
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong nextEviction = new AtomicLong(System.nanoTime());
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder admittedAfterWait = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    private SubmissionGate() {
+    }
+
+    /**
+     * Returns the gate guarding submissions to the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared gate for the store
+     */
+    public static SubmissionGate of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(SubmissionGate.class, ignored -> new SubmissionGate());
+    }
+
+    /**
+     * Admits one submission, waiting briefly for a turn when the system is busy.
+     *
+     * @param studentId submitting student
+     * @return permit to close once the submission has finished
+     * @throws ServiceException with {@link ServiceException.Reason#BUSY} when the student
+     *                          is over their rate or the system is over capacity
+     */
+    public Permit admit(String studentId) throws ServiceException {
+        evictIdleBuckets();
+        TokenBucket bucket = buckets.computeIfAbsent(studentId,
+                ignored -> new TokenBucket(STUDENT_BURST, TimeUnit.SECONDS.toNanos(STUDENT_REFILL_SECONDS)));
+        if (!bucket.tryAcquire()) {
+            rateLimited.increment();
+            long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilNextToken() + 999_999_999L));
+            throw new ServiceException(ServiceException.Reason.BUSY,
+                    "Too many submissions. Please try again in " + seconds + " second(s).");
+        }
+        if (inFlight.tryAcquire()) {
+            admitted.increment();
+            return new Permit();
+        }
+        if (queued.incrementAndGet() > MAX_QUEUED) {
+            queued.decrementAndGet();
+            bucket.refund();
+            queueFull.increment();
+            throw new ServiceException(ServiceException.Reason.BUSY, "The system is busy. Please try again shortly.");
+        }
+        long start = System.nanoTime();
+        try {
+            if (inFlight.tryAcquire(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                admitted.increment();
+                admittedAfterWait.increment();
+                return new Permit();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queued.decrementAndGet();
+            waitNanos.add(System.nanoTime() - start);
+        }
+        bucket.refund();
+        timedOut.increment();
+        throw new ServiceException(ServiceException.Reason.BUSY, "The system is busy. Please try again shortly.");
+    }
+
+    private void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long due = nextEviction.get();
+        if (buckets.size() <= EVICTION_THRESHOLD || now - due < 0
+                || !nextEviction.compareAndSet(due, now + REFILL_NANOS)) {
+            return;
+        }
+        buckets.values().removeIf(TokenBucket::isFull);
+    }
+
+    /**
+     * @return current counters of the gate
+     */
+    public Metrics metrics() {
+        long waits = admittedAfterWait.sum() + timedOut.sum();
+        return new Metrics(admitted.sum(), admittedAfterWait.sum(), rateLimited.sum(), queueFull.sum(),
+                timedOut.sum(), MAX_IN_FLIGHT - inFlight.availablePermits(), queued.get(),
+                waits == 0 ? 0.0 : waitNanos.sum() / 1_000_000.0 / waits);
+    }
+
+    /**
+     * Admission granted to one submission; closing it frees the slot for the next caller.
+     */
+    public final class Permit implements AutoCloseable {
+        private boolean closed;
+
+        private Permit() {
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                inFlight.release();
+            }
+        }
+    }
+
+    /**
+     * Snapshot of admission counters since start-up.
+     *
+     * @param admitted          submissions let through
+     * @param admittedAfterWait admitted submissions that had to queue first
+     * @param rateLimited       refusals by a student's token bucket
+     * @param queueFull         refusals because the wait queue was full
+     * @param timedOut          refusals after waiting the maximum time
+     * @param inFlight          submissions currently running
+     * @param queued            callers currently waiting
+     * @param averageWaitMillis mean time spent queueing by callers that waited
+     */
+    public record Metrics(long admitted, long admittedAfterWait, long rateLimited, long queueFull,
+                          long timedOut, int inFlight, int queued, double averageWaitMillis) { }
+}
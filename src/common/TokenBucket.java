@@ -0,0 +1,80 @@
+package common;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. The token count and refill time live in one immutable state
+ * swapped with compare-and-set, so concurrent callers never block each other.
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param capacity       maximum burst size
+     * @param refillInterval nanoseconds needed to earn one token
+     */
+    TokenBucket(int capacity, long refillInterval) {
+        this.capacity = capacity;
+        this.tokensPerNano = 1.0 / refillInterval;
+        this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @return {@code true} when a token was taken
+     */
+    boolean tryAcquire() {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double tokens = refill(current, now);
+            if (tokens < 1.0) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(tokens - 1.0, now))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns one token taken by {@link #tryAcquire()} for work that was then refused.
+     */
+    void refund() {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double tokens = Math.min(capacity, refill(current, now) + 1.0);
+            if (state.compareAndSet(current, new State(tokens, now))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} when the bucket has refilled completely, so it behaves like a new one
+     */
+    boolean isFull() {
+        return refill(state.get(), System.nanoTime()) >= capacity;
+    }
+
+    /**
+     * @return nanoseconds until the next token becomes available, {@code 0} when one is ready
+     */
+    long nanosUntilNextToken() {
+        double tokens = refill(state.get(), System.nanoTime());
+        return tokens >= 1.0 ? 0L : (long) Math.ceil((1.0 - tokens) / tokensPerNano);
+    }
+
+    private double refill(State current, long now) {
+        return Math.min(capacity, current.tokens + (now - current.stamp) * tokensPerNano);
+    }
+
+    private record State(double tokens, long stamp) { }
+}
@@ -1,6 +1,5 @@
 package common;
 
-import exceptions.*;
 import java.util.Scanner;
 
 /**
@@ -10,19 +9,36 @@ public abstract class UserController extends Controller {
 
 	protected final String userID; // Username
 	protected String role;
+	private UserEntity account;
 
 	/**
-	 * Validates that the supplied user identifier exists in the user database and loads the role.
+	 * Binds the controller to a user; the account is resolved when the controller is entered.
 	 */
-	public UserController(Router router, Scanner scanner, EntityStore entityStore, String userID) throws InvalidUserIDException {
+	public UserController(Router router, Scanner scanner, EntityStore entityStore, String userID) {
 		super(router, scanner, entityStore);
 		this.userID = userID;
+	}
 
-		Entity entity = entityStore.findById(PathResolver.resource("users.csv"), userID, "User");
-		if (!(entity instanceof UserEntity user)) {
-			throw new InvalidUserIDException("Invalid user ID: " + userID);
+	/**
+	 * Validates that the user exists and loads the role, reading from the router's
+	 * {@link Session} when it belongs to the same user. Fields are only re-read when the
+	 * account record has changed since the previous visit.
+	 */
+	@Override
+	protected boolean onEnter() {
+		Session session = router.session();
+		UserEntity user = session != null && session.isFor(userID)
+				? session.user()
+				: UserDirectory.of(entityStore).user(userID);
+		if (user == null) {
+			System.out.println("Invalid user ID: " + userID);
+			return false;
+		}
+		if (user != account) {
+			this.role = user.get(UserEntity.UserField.Role);
+			this.account = user;
 		}
-		this.role = user.get(UserEntity.UserField.Role);
+		return true;
 	}
 
 	@Override
@@ -0,0 +1,198 @@
+package common;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hashed lookup of user accounts and role profiles ({@code users.csv}, {@code student.csv},
+ * {@code staff.csv} and {@code cr.csv}). Each file is loaded on first use and then kept
+ * current from store notifications, so login and controller construction cost a map
+ * lookup instead of a file scan.
+ *
+ * <p>Returned entities are shared with other readers and must be treated as read-only;
+ * code that edits a record should load its own copy through the store.</p>
+ */
+public final class UserDirectory {
+
+    /**
+     * Resources indexed by the directory.
+     */
+    enum Table {
+        USERS("users.csv", "User"),
+        STUDENTS("student.csv", "Student"),
+        STAFF("staff.csv", "Staff"),
+        CRS("cr.csv", "CR");
+
+        private final String file;
+        private final String entityType;
+
+        Table(String fileName, String entityType) {
+            this.file = PathResolver.resource(fileName);
+            this.entityType = entityType;
+        }
+    }
+
+    private final EntityStore store;
+    private final boolean incremental;
+    private final Map<Table, Map<String, Entity>> tables = new EnumMap<>(Table.class);
+    private final VerificationCache verified = new VerificationCache();
+
+    private UserDirectory(EntityStore store) {
+        this.store = store;
+        this.incremental = store.addListener(this::onChange);
+    }
+
+    /**
+     * Returns the directory maintained for the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared directory for the store
+     */
+    public static UserDirectory of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(UserDirectory.class, UserDirectory::new);
+    }
+
+    /**
+     * Looks up an account by username.
+     *
+     * @param username login identifier
+     * @return matching account, or {@code null}
+     */
+    public UserEntity user(String username) {
+        return lookup(Table.USERS, username) instanceof UserEntity user ? user : null;
+    }
+
+    /**
+     * Looks up a student profile.
+     *
+     * @param studentId student identifier
+     * @return matching profile, or {@code null}
+     */
+    public StudentEntity student(String studentId) {
+        return lookup(Table.STUDENTS, studentId) instanceof StudentEntity student ? student : null;
+    }
+
+    /**
+     * Looks up a staff profile.
+     *
+     * @param staffId staff identifier
+     * @return matching profile, or {@code null}
+     */
+    public StaffEntity staff(String staffId) {
+        return lookup(Table.STAFF, staffId) instanceof StaffEntity staff ? staff : null;
+    }
+
+    /**
+     * Looks up a company representative profile.
+     *
+     * @param crId representative identifier
+     * @return matching profile, or {@code null}
+     */
+    public CREntity companyRep(String crId) {
+        return lookup(Table.CRS, crId) instanceof CREntity cr ? cr : null;
+    }
+
+    /**
+     * Checks a username and password pair. A successful check is remembered briefly so
+     * repeat sign-ins skip the hash computation, and a row still holding a plain-text
+     * or weaker hash is rewritten with a hash at the current cost.
+     *
+     * @param username login identifier
+     * @param password password as entered
+     * @return the account when the credentials match, otherwise {@code null}
+     */
+    public UserEntity authenticate(String username, String password) {
+        UserEntity user = user(username);
+        if (user == null || password == null) {
+            return null;
+        }
+        String stored = user.get(UserEntity.UserField.Password);
+        if (verified.matches(username, password, stored)) {
+            return user;
+        }
+        if (!PasswordHasher.verify(password, stored)) {
+            return null;
+        }
+        if (PasswordHasher.needsRehash(stored)) {
+            stored = PasswordHasher.hash(password);
+            user = new UserEntity(username, stored, user.get(UserEntity.UserField.Role));
+            store.update(Table.USERS.file, username, user, Table.USERS.entityType);
+        }
+        verified.remember(username, password, stored);
+        return user;
+    }
+
+    /**
+     * Drops the remembered password check for an account, so the old password stops
+     * skipping the hash computation as soon as a new one is stored.
+     *
+     * @param username login identifier whose password changed
+     */
+    public void forgetVerification(String username) {
+        verified.forget(username);
+    }
+
+    /**
+     * Replaces every plain-text password in {@code users.csv} with a salted hash in one
+     * write. Logins migrate their own row on success, so this is only needed to clear
+     * out accounts that have not signed in since hashing was introduced.
+     *
+     * @return number of rows rewritten
+     */
+    public int migratePasswords() {
+        Map<String, UserEntity> plain = new HashMap<>();
+        store.forEach(Table.USERS.file, Table.USERS.entityType, entity -> {
+            if (entity instanceof UserEntity user
+                    && !PasswordHasher.isHashed(user.get(UserEntity.UserField.Password))) {
+                plain.put(user.get(UserEntity.UserField.Username), user);
+            }
+        });
+        Map<String, Entity> hashed = new ConcurrentHashMap<>();
+        plain.values().parallelStream().forEach(user -> hashed.put(
+                user.get(UserEntity.UserField.Username),
+                new UserEntity(user.get(UserEntity.UserField.Username),
+                        PasswordHasher.hash(user.get(UserEntity.UserField.Password)),
+                        user.get(UserEntity.UserField.Role))));
+        if (!hashed.isEmpty()) {
+            store.updateAll(Table.USERS.file, hashed, Table.USERS.entityType);
+        }
+        return hashed.size();
+    }
+
+    private synchronized Entity lookup(Table table, String id) {
+        if (id == null) {
+            return null;
+        }
+        Map<String, Entity> rows = tables.get(table);
+        if (rows == null || !incremental) {
+            Map<String, Entity> loaded = new HashMap<>();
+            store.forEach(table.file, table.entityType, entity -> loaded.putIfAbsent(entity.values[0], entity));
+            rows = loaded;
+            tables.put(table, rows);
+        }
+        return rows.get(id);
+    }
+
+    private synchronized void onChange(String filePath, Entity before, Entity after) {
+        for (Table table : Table.values()) {
+            if (table.file.equals(filePath)) {
+                Map<String, Entity> rows = tables.get(table);
+                if (rows == null) {
+                    return;
+                }
+                if (before != null) {
+                    rows.remove(before.values[0]);
+                }
+                if (after != null) {
+                    rows.put(after.values[0], after);
+                }
+                return;
+            }
+        }
+    }
+}
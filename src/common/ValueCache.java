@@ -0,0 +1,149 @@
+package common;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Shared, bounded and thread-safe cache for the handful of string conversions that
+ * filter and report code performs on every row: sharing one instance per value,
+ * trimming to a canonical grouping key, upper-case normalisation and ISO date
+ * parsing. Column values such as statuses, majors, companies and dates repeat across
+ * thousands of rows, so each distinct raw string is converted once and every later
+ * lookup is a hash hit.
+ */
+public final class ValueCache {
+
+    /** Sentinel returned by {@link #epochDay(String)} when the value is not a valid date. */
+    public static final long NO_DATE = Long.MIN_VALUE;
+
+    /** Formatter shared by every ISO-8601 ({@code yyyy-MM-dd}) date parse. */
+    public static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private static final int MAX_ENTRIES = 50_000;
+    private static final LocalDate INVALID_DATE = LocalDate.MIN;
+
+    private static final BoundedCache<String> INTERNED = new BoundedCache<>(Function.identity());
+    private static final BoundedCache<String> CANONICAL = new BoundedCache<>(String::trim);
+    private static final BoundedCache<String> UPPER = new BoundedCache<>(raw -> raw.trim().toUpperCase(Locale.ROOT));
+    private static final BoundedCache<LocalDate> DATES = new BoundedCache<>(ValueCache::parseDate);
+
+    private ValueCache() {
+    }
+
+    /**
+     * Returns the shared instance of the supplied value without changing it. Entities
+     * intern their low-cardinality columns through this method so identical values share
+     * one string while the stored text stays exactly as read.
+     *
+     * @param raw raw value, may be {@code null}
+     * @return shared instance equal to {@code raw}, or {@code null} when {@code raw} is {@code null}
+     */
+    public static String intern(String raw) {
+        return raw == null ? null : INTERNED.get(raw);
+    }
+
+    /**
+     * Returns the shared trimmed instance for the supplied value, for use as a grouping key.
+     *
+     * @param raw raw value, may be {@code null}
+     * @return trimmed canonical instance, or {@code null} when {@code raw} is {@code null}
+     */
+    public static String canonical(String raw) {
+        return raw == null ? null : CANONICAL.get(raw);
+    }
+
+    /**
+     * Returns the trimmed, upper-cased form used for case-insensitive comparisons.
+     *
+     * @param raw raw value, may be {@code null}
+     * @return normalised value, or an empty string when {@code raw} is {@code null}
+     */
+    public static String upper(String raw) {
+        return raw == null ? "" : UPPER.get(raw);
+    }
+
+    /**
+     * Parses an ISO-8601 date, reusing earlier results for the same text.
+     *
+     * @param raw raw date text
+     * @return parsed date, or {@code null} when blank or invalid
+     */
+    public static LocalDate date(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        LocalDate date = DATES.get(raw);
+        return date == INVALID_DATE ? null : date;
+    }
+
+    /**
+     * Returns the epoch day of an ISO-8601 date.
+     *
+     * @param raw raw date text
+     * @return days since 1970-01-01, or {@link #NO_DATE} when blank or invalid
+     */
+    public static long epochDay(String raw) {
+        LocalDate date = date(raw);
+        return date == null ? NO_DATE : date.toEpochDay();
+    }
+
+    /**
+     * Returns a memo of the parsed date for {@code raw}, reusing {@code memo} when it was
+     * built from the same string instance. Entities keep one memo per date column.
+     *
+     * @param memo previously returned memo, may be {@code null}
+     * @param raw  current raw date text
+     * @return memo describing {@code raw}
+     */
+    public static ParsedDate parsed(ParsedDate memo, String raw) {
+        if (memo != null && memo.raw() == raw) {
+            return memo;
+        }
+        return new ParsedDate(raw, date(raw));
+    }
+
+    private static LocalDate parseDate(String raw) {
+        try {
+            return LocalDate.parse(raw.trim(), ISO_DATE);
+        } catch (DateTimeParseException ex) {
+            return INVALID_DATE;
+        }
+    }
+
+    /**
+     * Raw value paired with its parsed date; replaced as a whole so concurrent readers
+     * never observe a date belonging to a different raw value.
+     *
+     * @param raw  raw date text the memo was built from
+     * @param date parsed date, {@code null} when blank or invalid
+     */
+    public record ParsedDate(String raw, LocalDate date) { }
+
+    /**
+     * Concurrent map that drops all entries once it reaches {@link #MAX_ENTRIES},
+     * keeping memory bounded when a column turns out to be high-cardinality.
+     */
+    private static final class BoundedCache<V> {
+        private final ConcurrentHashMap<String, V> entries = new ConcurrentHashMap<>();
+        private final Function<String, V> loader;
+
+        BoundedCache(Function<String, V> loader) {
+            this.loader = loader;
+        }
+
+        V get(String key) {
+            V value = entries.get(key);
+            if (value != null) {
+                return value;
+            }
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+            return entries.computeIfAbsent(key, loader);
+        }
+    }
+}
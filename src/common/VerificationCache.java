@@ -0,0 +1,87 @@
+package common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Short-lived record of recent successful password checks, so that a user who signs in
+ * again shortly afterwards does not pay the full PBKDF2 cost a second time.
+ *
+ * <p>Entries never hold the password itself: each keeps an HMAC of it under a key that
+ * exists only in this process, together with the stored hash it was checked against.
+ * A hit therefore requires the same password and an unchanged password column, and
+ * expires after {@link #TTL_NANOS}. The cache is bounded and evicts the least recently
+ * used entry when full.</p>
+ */
+final class VerificationCache {
+    static final long TTL_NANOS = 120_000_000_000L;
+    static final int MAX_ENTRIES = 1024;
+
+    private record Entry(String stored, byte[] tag, long expiresAt) {
+    }
+
+    private final byte[] key = new byte[32];
+    private final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    VerificationCache() {
+        new SecureRandom().nextBytes(key);
+    }
+
+    /**
+     * Reports whether the password was recently verified against the same stored value.
+     */
+    boolean matches(String username, String password, String stored) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(username);
+            if (entry == null) {
+                return false;
+            }
+            if (System.nanoTime() - entry.expiresAt() > 0 || !entry.stored().equals(stored)) {
+                entries.remove(username);
+                return false;
+            }
+        }
+        return MessageDigest.isEqual(entry.tag(), tag(username, password));
+    }
+
+    /**
+     * Records a successful verification.
+     */
+    void remember(String username, String password, String stored) {
+        Entry entry = new Entry(stored, tag(username, password), System.nanoTime() + TTL_NANOS);
+        synchronized (this) {
+            entries.put(username, entry);
+        }
+    }
+
+    /**
+     * Drops any cached verification for the user, e.g. after a password change.
+     */
+    synchronized void forget(String username) {
+        entries.remove(username);
+    }
+
+    private byte[] tag(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC unavailable: " + ex.getMessage(), ex);
+        }
+    }
+}
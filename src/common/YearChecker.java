@@ -0,0 +1,19 @@
+package common;
+
+/**
+ * Helper used to verify that a student meets the internship level requirement.
+ */
+public final class YearChecker {
+
+    private YearChecker() {
+    }
+
+    /**
+     * Returns {@code true} when the student's year permits the selected
+     * internship level.
+     */
+    public static boolean checkYear(String studentsAge, String internshipLevel) {
+        return !(("1".equals(studentsAge) || "2".equals(studentsAge))
+                && !"Basic".equalsIgnoreCase(internshipLevel));
+    }
+}
@@ -16,20 +16,17 @@ public class CRHomePageController extends CRController {
     // Constructor
 
     /**
-     * Builds the company representative home page controller and places it on
-     * the router stack.
+     * Builds the company representative home page controller.
      *
      * @param router  router coordinating navigation
      * @param scanner shared console input
      * @param crID    identifier of the logged-in company representative
-     * @throws InvalidCompanyRepIDException when {@code crID} cannot be resolved
      */
     @SuppressWarnings("LeakingThisInConstructor")
-    public CRHomePageController(Router router, Scanner scanner, EntityStore entityStore, String crID) throws InvalidCompanyRepIDException {
+    public CRHomePageController(Router router, Scanner scanner, EntityStore entityStore, String crID) {
         super(router, scanner, entityStore, crID);
         this.crDisplay = new CRHomeDisplay(this);
         this.controllerFactory = createControllerFactory();
-        router.replace(this); // swap to this controller
     }
 
     protected ControllerFactory createControllerFactory() {
@@ -61,7 +58,7 @@ public class CRHomePageController extends CRController {
                 System.out.println("Internship filters cleared.");
                 continue;
             }
-            if ("9".equals(choice)) { // logout
+            if ("11".equals(choice)) { // logout
                 System.out.println("Logging out...");
                 router.pop();
                 return;
@@ -70,6 +67,9 @@ public class CRHomePageController extends CRController {
             try {
                 // Use factory to create and instantiate controller dynamically
                 controllerFactory.createController(choice);
+                if (!router.isActive(this)) {
+                    return; // the router runs the chosen page, then re-initializes this menu
+                }
             } catch (Exception ex) {
                 System.out.println("Invalid option. Try again.");
             }
@@ -113,7 +113,9 @@ class CRHomeDisplay extends Display {
             System.out.println("6. Update internship filters");
             System.out.println("7. Clear internship filters");
             System.out.println("8. Change password");
-            System.out.println("9. Logout");
+            System.out.println("9. View application funnel");
+            System.out.println("10. View most-applied internships");
+            System.out.println("11. Logout");
             System.out.print("Select an option: \n");
         }
 }
@@ -1,20 +1,16 @@
 package cr;
 import common.*;
-import exceptions.*;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Scanner;
 
 /**
  * Registry that maps company representative home-page menu choices to the
- * appropriate controller constructors.
+ * appropriate controller constructors. Each controller is built on first
+ * selection and reused for the rest of the session.
  */
 public class CRHomeRegistry implements ControllerFactory {
 
-    /**
-     * Mapping of option key to controller supplier.
-     */
-    public Map<String, ControllerSupplier> keyMap = new HashMap<>();
+    private final Router router;
+    private final ControllerCache controllers = new ControllerCache();
 
     /**
      * Builds the registry for a specific CR session.
@@ -25,39 +21,26 @@ public class CRHomeRegistry implements ControllerFactory {
      * @param userID  company representative identifier
      */
     public CRHomeRegistry(Router router, Scanner scanner, EntityStore store, String userID) {
-        keyMap.put("1", () -> new ListMyInternshipsController(router, scanner, store, userID));
-        keyMap.put("2", () -> new CreateInternshipController(router, scanner, store, userID));
-        keyMap.put("3", () -> new ToggleVisibilityController(router, scanner, store, userID));
-        keyMap.put("4", () -> new ViewApplicationsController(router, scanner, store, userID));
-        keyMap.put("5", () -> new ReviewApplicationController(router, scanner, store, userID));
-        keyMap.put("6", () -> new FilterInternshipsController(router, scanner, store, userID));
-        keyMap.put("8", () -> new PasswordChanger(router, scanner, store, userID));
+        this.router = router;
+        controllers.register("1", () -> new ListMyInternshipsController(router, scanner, store, userID));
+        controllers.register("2", () -> new CreateInternshipController(router, scanner, store, userID));
+        controllers.register("3", () -> new ToggleVisibilityController(router, scanner, store, userID));
+        controllers.register("4", () -> new ViewApplicationsController(router, scanner, store, userID));
+        controllers.register("5", () -> new ReviewApplicationController(router, scanner, store, userID));
+        controllers.register("6", () -> new FilterInternshipsController(router, scanner, store, userID));
+        controllers.register("8", () -> new PasswordChanger(router, scanner, store, userID));
+        controllers.register("9", () -> new ViewApplicationFunnelController(router, scanner, store, userID));
+        controllers.register("10", () -> new ViewDemandLeaderboardController(router, scanner, store, userID));
     }
 
     @Override
     /**
-     * Instantiates the controller paired with the provided CR menu key.
+     * Activates the controller paired with the provided CR menu key, building it on first use.
      *
      * @param key action selected on the CR home screen
      * @throws IllegalArgumentException when no controller is mapped to the key
      */
     public void createController(String key){
-        ControllerSupplier supplier = keyMap.get(key);
-        if (supplier == null) {
-            throw new IllegalArgumentException("No controller mapped for key: " + key);
-        }
-
-        try {
-            Controller controller = supplier.create();
-            // controller constructor can auto-register with router
-        } catch (InvalidCompanyRepIDException e) {
-            e.printStackTrace();
-        }
-        return;
-    }
-
-    @FunctionalInterface
-    private interface ControllerSupplier {
-        Controller create() throws InvalidCompanyRepIDException;
+        router.push(controllers.get(key));
     }
 }
\ No newline at end of file
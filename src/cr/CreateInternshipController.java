@@ -1,9 +1,7 @@
 package cr;
 
 import common.*;
-import exceptions.InvalidCompanyRepIDException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 /**
@@ -23,13 +21,11 @@ public class CreateInternshipController extends CRController {
      * @param router router managing navigation
      * @param scanner shared console input
      * @param crID identifier of the logged-in company representative
-     * @throws InvalidCompanyRepIDException when {@code crID} cannot be resolved
      */
     @SuppressWarnings("LeakingThisInConstructor")
-    public CreateInternshipController(Router router, Scanner scanner, EntityStore entityStore, String crID) throws InvalidCompanyRepIDException {
+    public CreateInternshipController(Router router, Scanner scanner, EntityStore entityStore, String crID) {
         super(router, scanner, entityStore, crID);
         this.display = new CreateInternshipDisplay(this);
-        router.push(this);
     }
 
     /**
@@ -61,19 +57,17 @@ public class CreateInternshipController extends CRController {
             }
 
             // Validate close date format
-            LocalDate closeDate;
-            try {
-                closeDate = LocalDate.parse(closeDateInput, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                if (closeDate.isBefore(LocalDate.now())) {
-                    System.out.println("Invalid internship opportunity: Closing date cannot be in the past.");
-                    router.pop();
-                    return;
-                }
-            } catch (Exception e) {
+            LocalDate closeDate = ValueCache.date(closeDateInput);
+            if (closeDate == null) {
                 System.out.println("Invalid internship opportunity: Closing date format must be YYYY-MM-DD.");
                 router.pop();
                 return;
             }
+            if (closeDate.isBefore(LocalDate.now())) {
+                System.out.println("Invalid internship opportunity: Closing date cannot be in the past.");
+                router.pop();
+                return;
+            }
 
             // Get company name from CR database
             Entity thisCR = entityStore.findById(CR_FILE, userID, "CR");
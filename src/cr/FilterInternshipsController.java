@@ -4,9 +4,10 @@ import common.CRController;
 import common.CRFilterService;
 import common.Controller;
 import common.Display;
+import common.DistinctValueIndex;
 import common.EntityStore;
 import common.Router;
-import exceptions.InvalidCompanyRepIDException;
+import java.util.List;
 import java.util.Optional;
 import java.util.Scanner;
 
@@ -15,10 +16,9 @@ public class FilterInternshipsController extends CRController {
     private final FilterInternshipsDisplay display;
 
     @SuppressWarnings("LeakingThisInConstructor")
-    public FilterInternshipsController(Router router, Scanner scanner, EntityStore entityStore, String crID) throws InvalidCompanyRepIDException {
+    public FilterInternshipsController(Router router, Scanner scanner, EntityStore entityStore, String crID) {
         super(router, scanner, entityStore, crID);
         this.display = new FilterInternshipsDisplay(this);
-        router.push(this);
     }
 
     @Override
@@ -87,7 +87,9 @@ public class FilterInternshipsController extends CRController {
     }
 
     private String promptMajor(String currentValue) {
-        String input = display.ask("Preferred major [" + describeValue(currentValue) + "]: ");
+        List<String> knownMajors = DistinctValueIndex.of(entityStore).values(DistinctValueIndex.Column.MAJOR);
+        String hint = knownMajors.isEmpty() ? "" : " (known: " + String.join(", ", knownMajors) + ")";
+        String input = display.ask("Preferred major [" + describeValue(currentValue) + "]" + hint + ": ");
         if (input.isBlank()) {
             return currentValue;
         }
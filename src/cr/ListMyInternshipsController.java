@@ -1,7 +1,6 @@
 package cr;
 
 import common.*;
-import exceptions.InvalidCompanyRepIDException;
 import java.util.*;
 
 /**
@@ -14,18 +13,16 @@ public class ListMyInternshipsController extends CRController {
     private ListMyInternshipsDisplay display;
 
     /**
-     * Creates the controller and registers it with the router stack.
+     * Creates the controller.
      *
      * @param router   navigation router for view transitions
      * @param scanner  shared scanner for console input
      * @param entityStore backing store for internship data
      * @param crID     company representative identifier
-     * @throws InvalidCompanyRepIDException if the CR identifier is invalid
      */
-    public ListMyInternshipsController(Router router, Scanner scanner, EntityStore entityStore, String crID) throws InvalidCompanyRepIDException {
+    public ListMyInternshipsController(Router router, Scanner scanner, EntityStore entityStore, String crID) {
         super(router, scanner, entityStore, crID);
         this.display = new ListMyInternshipsDisplay(this);
-        router.push(this);
     }
 
     @Override
@@ -1,7 +1,9 @@
 package cr;
 
 import common.*;
-import exceptions.InvalidCompanyRepIDException;
+import exceptions.ServiceException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 /**
@@ -9,50 +11,29 @@ import java.util.*;
  */
 public class ReviewApplicationController extends CRController {
     private final ReviewApplicationDisplay display;
-    private static final String APPLICATION_FILE =
-        PathResolver.resource("internship_applications.csv");
-    private static final String INTERNSHIP_FILE =
-        PathResolver.resource("internship_opportunities.csv");
 
     /**
-     * Creates the controller, wiring UI helpers and pushing onto the router.
+     * Creates the controller and wires its UI helpers.
      *
      * @param router   navigation router managing controller stack
      * @param scanner  shared scanner for CLI input
      * @param entityStore persistence boundary for application data
      * @param crID     company representative identifier
-     * @throws InvalidCompanyRepIDException when the CR identifier is invalid
      */
     @SuppressWarnings("LeakingThisInConstructor")
-    public ReviewApplicationController(Router router, Scanner scanner, EntityStore entityStore, String crID) throws InvalidCompanyRepIDException {
+    public ReviewApplicationController(Router router, Scanner scanner, EntityStore entityStore, String crID) {
         super(router, scanner, entityStore, crID);
         this.display = new ReviewApplicationDisplay(this);
-        router.push(this);
     }
 
     @Override
     public void initialize() {
-        List<Entity> applications = entityStore.loadAll(APPLICATION_FILE, "Application");
-        List<Entity> internships = entityStore.loadAll(INTERNSHIP_FILE, "Internship");
         CRFilterService.CRFilters filters = CRFilterService.getFilters(userID);
-
-        Map<String, InternshipEntity> myFilteredInternships = new HashMap<>();
-        for (Entity entity : internships) {
-            InternshipEntity internship = (InternshipEntity) entity;
-            if (!CRFilterService.belongsToCompany(internship, companyName)) {
-                continue;
-            }
-            if (CRFilterService.matchesInternship(internship, filters)) {
-                myFilteredInternships.put(internship.get(InternshipEntity.InternshipField.InternshipID), internship);
-            }
-        }
+        ApplicationService service = new ApplicationService(entityStore);
 
         Map<String, ApplicationEntity> reviewableApplications = new LinkedHashMap<>();
-        for (Entity entity : applications) {
-            ApplicationEntity application = (ApplicationEntity) entity;
-            if (myFilteredInternships.containsKey(application.get(ApplicationEntity.ApplicationField.InternshipID))) {
-                reviewableApplications.put(application.get(ApplicationEntity.ApplicationField.ApplicationID), application);
-            }
+        for (ApplicationEntity application : service.listForCompany(companyName, filters)) {
+            reviewableApplications.put(application.get(ApplicationEntity.ApplicationField.ApplicationID), application);
         }
 
         System.out.println("Active filters: " + filters.summary());
@@ -71,6 +52,11 @@ public class ReviewApplicationController extends CRController {
         display.print_list(new ArrayList<>(reviewableApplications.values()));
 
         String applicationId = display.get_user_input().trim();
+        if (applicationId.equalsIgnoreCase("BATCH")) {
+            reviewBatch(service, filters);
+            router.pop();
+            return;
+        }
         ApplicationEntity application = reviewableApplications.get(applicationId);
         if (application == null) {
             System.out.println("Invalid Application ID. Returning to previous menu.");
@@ -81,24 +67,65 @@ public class ReviewApplicationController extends CRController {
         display.print_entry(application);
         String choice = display.get_user_input().trim().toUpperCase(Locale.ENGLISH);
 
-        ApplicationHandler handler = new ApplicationHandler(entityStore);
         try {
             switch (choice) {
-                case "A" -> handler.approveApplication(applicationId);
+                case "A" -> service.approve(companyName, applicationId);
                 case "R" -> {
-                    application.set(ApplicationEntity.ApplicationField.Status, "Rejected");
-                    entityStore.update(APPLICATION_FILE, applicationId, application, "Application");
+                    service.reject(companyName, applicationId);
                     System.out.println("Application rejected successfully.");
                 }
                 default -> System.out.println("Invalid choice. Returning...");
             }
-        } catch (Exception e) {
+        } catch (ServiceException e) {
             System.err.println("Error while reviewing application: " + e.getMessage());
         }
 
         System.out.println("\nReview complete.");
         router.pop();
     }
+
+    /**
+     * Collects applicant criteria, previews the matching pending applications and
+     * applies one decision to all of them.
+     */
+    private void reviewBatch(ApplicationService service, CRFilterService.CRFilters filters) {
+        ApplicationService.BatchCriteria criteria;
+        try {
+            criteria = new ApplicationService.BatchCriteria(
+                    blankToNull(display.prompt("Applicant major (blank for any): ")),
+                    parseYear(display.prompt("Applicant year of study (blank for any): ")),
+                    parseDate(display.prompt("Submitted on or after (yyyy-MM-dd, blank for any): ")),
+                    parseDate(display.prompt("Submitted on or before (yyyy-MM-dd, blank for any): ")));
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            System.out.println("Invalid criteria. Returning...");
+            return;
+        }
+        List<ApplicationEntity> candidates = service.batchCandidates(companyName, filters, criteria);
+        if (candidates.isEmpty()) {
+            System.out.println("No pending applications match " + criteria.summary() + ".");
+            return;
+        }
+        display.print_batch_prompt(candidates.size(), criteria);
+        String choice = display.get_user_input().trim().toUpperCase(Locale.ENGLISH);
+        if (!choice.equals("A") && !choice.equals("R")) {
+            System.out.println("No changes made.");
+            return;
+        }
+        display.print_batch_result(choice.equals("A"),
+                service.decideBatch(companyName, filters, criteria, choice.equals("A")));
+    }
+
+    private static String blankToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer parseYear(String value) {
+        return value.isEmpty() ? null : Integer.valueOf(value);
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value.isEmpty() ? null : LocalDate.parse(value);
+    }
 }
 
 class ReviewApplicationDisplay extends Display {
@@ -129,6 +156,46 @@ class ReviewApplicationDisplay extends Display {
         for (Entity e : list) {
             System.out.println(e.toString());
         }
-        System.out.print("Enter Application ID to review: ");
+        System.out.print("Enter Application ID to review (or BATCH to decide many at once): ");
+    }
+
+    /**
+     * Prompts for one line of input.
+     *
+     * @param label prompt text
+     * @return trimmed input
+     */
+    public String prompt(String label) {
+        System.out.print(label);
+        return get_user_input().trim();
+    }
+
+    /**
+     * Previews a batch decision and asks for it.
+     *
+     * @param count    pending applications matched
+     * @param criteria applicant criteria in effect
+     */
+    public void print_batch_prompt(int count, ApplicationService.BatchCriteria criteria) {
+        System.out.println("\n" + count + " pending application(s) match " + criteria.summary() + ".");
+        System.out.println("Approvals are given in submission order while slots remain.");
+        System.out.print("Approve all (A) / Reject all (R) / Cancel (any other key): ");
+    }
+
+    /**
+     * Summarises a batch decision.
+     *
+     * @param approved whether the batch approved applications
+     * @param result   outcome of the batch
+     */
+    public void print_batch_result(boolean approved, ApplicationService.BatchResult result) {
+        System.out.printf("%n%s %d of %d application(s) in %.1f ms.%n", approved ? "Approved" : "Rejected",
+                result.decided(), result.candidates(), result.elapsedMillis());
+        if (result.withoutSlot() > 0) {
+            System.out.println(result.withoutSlot() + " application(s) stay pending because no slots remain.");
+        }
+        if (result.changed() > 0) {
+            System.out.println(result.changed() + " application(s) were skipped because they changed during the batch.");
+        }
     }
 }
@@ -14,40 +14,31 @@ public class ToggleVisibilityController extends CRController {
     private ToggleVisibilityDisplay display;
 
     /**
-     * Creates the controller and registers it on the router stack.
+     * Creates the controller.
      *
      * @param router   router used for lifecycle management
      * @param scanner  shared scanner for CLI prompts
      * @param entityStore persistence access
      * @param crID     active company representative identifier
-     * @throws InvalidCompanyRepIDException when the CR ID fails validation
      */
-    public ToggleVisibilityController(Router router, Scanner scanner, EntityStore entityStore, String crID) throws InvalidCompanyRepIDException {
+    public ToggleVisibilityController(Router router, Scanner scanner, EntityStore entityStore, String crID) {
         super(router, scanner, entityStore, crID);
         this.display = new ToggleVisibilityDisplay(this);
-        router.push(this);
     }
 
     @Override
     public void initialize() {
         try {
-            List<Entity> allInternships = entityStore.loadAll(INTERNSHIP_FILE, "Internship");
-            List<Entity> myInternships = new ArrayList<>();
+            Page<Entity> first = display.print_list(PagedRenderer.fromStore(entityStore, INTERNSHIP_FILE, "Internship",
+                    e -> e.getArrayValueByIndex(9).equals(userID)));
 
-            for (Entity e : allInternships) {
-                if (e.getArrayValueByIndex(9).equals(userID)) {
-                    myInternships.add(e);
-                }
-            }
-
-            if (myInternships.isEmpty()) {
+            if (first.rows().isEmpty()) {
                 System.out.println("No internships found for your account.");
                 router.pop();
                 return;
             }
 
-            display.print_list(myInternships);
-            String id = display.ask("Enter internship ID to toggle visibility: ");
+            String id = display.select("Enter internship ID to toggle visibility: ");
             Entity internship = entityStore.findById(INTERNSHIP_FILE, id, "Internship");
 
             if (internship == null) {
@@ -70,20 +61,33 @@ public class ToggleVisibilityController extends CRController {
 }
 
 class ToggleVisibilityDisplay extends Display {
+    private final PagedRenderer<Entity> renderer = new PagedRenderer<>(
+            "=== Your Internships ===" + System.lineSeparator(), "",
+            PagedRenderer.DEFAULT_PAGE_SIZE, (out, number, e) -> out.format("%s%n", e));
+
     public ToggleVisibilityDisplay(Controller owner) {
         super(owner);
     }
 
     /**
-     * Prints the internships owned by the current CR.
+     * Prints the first page of internships owned by the current CR, reading only as much
+     * of the internship file as that page needs.
      *
      * @param internships internships associated with the user
+     * @return the first page, empty when the CR has no internships
      */
-    public void print_list(List<Entity> internships) {
-        System.out.println("=== Your Internships ===");
-        for (Entity e : internships) {
-            System.out.println(e.toString());
-        }
+    public Page<Entity> print_list(PagedRenderer.Source<Entity> internships) {
+        return renderer.start(internships);
+    }
+
+    /**
+     * Prompts for a value, turning pages of the listing when N or P is entered.
+     *
+     * @param msg message displayed before reading input
+     * @return first input that is not a page command
+     */
+    public String select(String msg) {
+        return renderer.select(() -> ask(msg));
     }
 
     /**
@@ -0,0 +1,77 @@
+package cr;
+
+import common.*;
+import java.util.*;
+
+/**
+ * Controller that shows how applications to the CR's internships progress from
+ * submission to approval, acceptance or withdrawal.
+ */
+public class ViewApplicationFunnelController extends CRController {
+
+    private final ViewApplicationFunnelDisplay display;
+
+    /**
+     * Builds the controller.
+     *
+     * @param router      router orchestrating controller lifecycle
+     * @param scanner     shared scanner for CLI input
+     * @param entityStore persistence gateway
+     * @param crID        current company representative ID
+     */
+    @SuppressWarnings("LeakingThisInConstructor")
+    public ViewApplicationFunnelController(Router router, Scanner scanner, EntityStore entityStore, String crID) {
+        super(router, scanner, entityStore, crID);
+        this.display = new ViewApplicationFunnelDisplay(this);
+    }
+
+    @Override
+    public void initialize() {
+        try {
+            Map<String, ApplicationFunnel.Snapshot> byInternship =
+                    ApplicationFunnel.of(entityStore).forCompany(companyName);
+            if (byInternship.isEmpty()) {
+                System.out.println("No internships found for " + companyName + ".");
+                return;
+            }
+            display.print_funnel(companyName, byInternship);
+        } catch (Exception e) {
+            System.err.println("Error viewing application funnel: " + e.getMessage());
+        } finally {
+            router.pop();
+        }
+    }
+}
+
+class ViewApplicationFunnelDisplay extends Display {
+    public ViewApplicationFunnelDisplay(Controller owner) {
+        super(owner);
+    }
+
+    @Override
+    public void print_menu() {
+        System.out.println("=== Application Funnel ===");
+    }
+
+    /**
+     * Prints one funnel row per internship followed by the company total.
+     *
+     * @param companyName  company being reported
+     * @param byInternship funnel per internship ID
+     */
+    public void print_funnel(String companyName, Map<String, ApplicationFunnel.Snapshot> byInternship) {
+        print_menu();
+        System.out.println("Company: " + companyName);
+        long[] total = new long[6];
+        for (ApplicationFunnel.Snapshot snapshot : byInternship.values()) {
+            total[0] += snapshot.applied();
+            total[1] += snapshot.pending();
+            total[2] += snapshot.approved();
+            total[3] += snapshot.accepted();
+            total[4] += snapshot.rejected();
+            total[5] += snapshot.withdrawn();
+        }
+        FunnelTable.print("Internship", byInternship, new ApplicationFunnel.Snapshot(
+                total[0], total[1], total[2], total[3], total[4], total[5]));
+    }
+}
@@ -1,7 +1,6 @@
 package cr;
 
 import common.*;
-import exceptions.InvalidCompanyRepIDException;
 import java.util.*;
 
 /**
@@ -9,53 +8,27 @@ import java.util.*;
  */
 public class ViewApplicationsController extends CRController {
 
-    private static final String APPLICATION_FILE =
-        PathResolver.resource("internship_applications.csv");
-    private static final String INTERNSHIP_FILE =
-        PathResolver.resource("internship_opportunities.csv");
     private ViewApplicationsDisplay display;
 
     /**
-     * Builds the controller and pushes it onto the router stack.
+     * Builds the controller.
      *
      * @param router   router orchestrating controller lifecycle
      * @param scanner  shared scanner for CLI input
      * @param entityStore persistence gateway
      * @param crID     current company representative ID
-     * @throws InvalidCompanyRepIDException when the CR identifier is invalid
      */
     @SuppressWarnings("LeakingThisInConstructor")
-    public ViewApplicationsController(Router router, Scanner scanner, EntityStore entityStore, String crID) throws InvalidCompanyRepIDException {
+    public ViewApplicationsController(Router router, Scanner scanner, EntityStore entityStore, String crID) {
         super(router, scanner, entityStore, crID);
         this.display = new ViewApplicationsDisplay(this);
-        router.push(this);
     }
 
     @Override
     public void initialize() {
         try {
-            List<Entity> apps = entityStore.loadAll(APPLICATION_FILE, "Application");
-            List<Entity> internships = entityStore.loadAll(INTERNSHIP_FILE, "Internship");
             CRFilterService.CRFilters filters = CRFilterService.getFilters(userID);
-
-            Map<String, InternshipEntity> myFilteredInternships = new HashMap<>();
-            for (Entity entity : internships) {
-                InternshipEntity internship = (InternshipEntity) entity;
-                if (!CRFilterService.belongsToCompany(internship, companyName)) {
-                    continue;
-                }
-                if (CRFilterService.matchesInternship(internship, filters)) {
-                    myFilteredInternships.put(internship.get(InternshipEntity.InternshipField.InternshipID), internship);
-                }
-            }
-
-            List<ApplicationEntity> myApps = new ArrayList<>();
-            for (Entity entity : apps) {
-                ApplicationEntity application = (ApplicationEntity) entity;
-                if (myFilteredInternships.containsKey(application.get(ApplicationEntity.ApplicationField.InternshipID))) {
-                    myApps.add(application);
-                }
-            }
+            List<ApplicationEntity> myApps = new ApplicationService(entityStore).listForCompany(companyName, filters);
 
             System.out.println("Active filters: " + filters.summary());
 
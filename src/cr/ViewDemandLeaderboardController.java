@@ -0,0 +1,78 @@
+package cr;
+
+import common.*;
+import java.util.*;
+
+/**
+ * Controller that ranks the CR's internships by applications received and shows where
+ * the company stands among all companies.
+ */
+public class ViewDemandLeaderboardController extends CRController {
+
+    private static final int TOP_K = 10;
+
+    private final ViewDemandLeaderboardDisplay display;
+
+    /**
+     * Builds the controller.
+     *
+     * @param router      router orchestrating controller lifecycle
+     * @param scanner     shared scanner for CLI input
+     * @param entityStore persistence gateway
+     * @param crID        current company representative ID
+     */
+    @SuppressWarnings("LeakingThisInConstructor")
+    public ViewDemandLeaderboardController(Router router, Scanner scanner, EntityStore entityStore, String crID) {
+        super(router, scanner, entityStore, crID);
+        this.display = new ViewDemandLeaderboardDisplay(this);
+    }
+
+    @Override
+    public void initialize() {
+        try {
+            DemandLeaderboard leaderboard = DemandLeaderboard.of(entityStore);
+            display.print_leaderboard(companyName,
+                    leaderboard.topInternshipsForCompany(companyName, TOP_K),
+                    leaderboard.companyRank(companyName),
+                    leaderboard.companyCount());
+        } catch (Exception e) {
+            System.err.println("Error viewing demand leaderboard: " + e.getMessage());
+        } finally {
+            router.pop();
+        }
+    }
+}
+
+class ViewDemandLeaderboardDisplay extends Display {
+    public ViewDemandLeaderboardDisplay(Controller owner) {
+        super(owner);
+    }
+
+    @Override
+    public void print_menu() {
+        System.out.println("=== Most In-Demand Internships ===");
+    }
+
+    /**
+     * Prints the company's most-applied internships and its overall rank.
+     *
+     * @param companyName  company being reported
+     * @param entries      internships in descending order of applications
+     * @param rank         company rank among all companies, zero when unranked
+     * @param companyCount number of companies with applications
+     */
+    public void print_leaderboard(String companyName, List<DemandLeaderboard.Entry> entries, int rank, int companyCount) {
+        print_menu();
+        System.out.println("Company: " + companyName);
+        if (entries.isEmpty()) {
+            System.out.println("Your internships have not received any applications yet.");
+            return;
+        }
+        System.out.printf("%-4s %-20s %-32s %12s%n", "#", "Internship", "Title", "Applications");
+        int position = 1;
+        for (DemandLeaderboard.Entry entry : entries) {
+            System.out.printf("%-4d %-20s %-32s %12d%n", position++, entry.key(), entry.title(), entry.applications());
+        }
+        System.out.println("Company rank by applications: " + rank + " of " + companyCount);
+    }
+}
@@ -0,0 +1,46 @@
+package exceptions;
+
+/**
+ * Signals that a business operation was refused, with a reason callers can map to a
+ * console message or an HTTP status.
+ */
+public class ServiceException extends Exception {
+
+    /**
+     * Broad category of the refusal.
+     */
+    public enum Reason {
+        /** The referenced record does not exist or is not visible to the caller. */
+        NOT_FOUND,
+        /** The record exists but its current state does not allow the operation. */
+        CONFLICT,
+        /** The request itself is malformed. */
+        INVALID,
+        /** The caller or the system is over capacity; the request may be retried later. */
+        BUSY,
+        /** The caller has not signed in, or their sign-in has expired. */
+        UNAUTHENTICATED,
+        /** The caller is signed in but their role may not perform the operation. */
+        FORBIDDEN
+    }
+
+    private final Reason reason;
+
+    /**
+     * Creates the exception with a reason and a user-facing message.
+     *
+     * @param reason  category of the refusal
+     * @param message detail explaining why the operation was refused
+     */
+    public ServiceException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    /**
+     * @return category of the refusal
+     */
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -1,6 +1,7 @@
 package ims;
 
 import common.Controller;
+import common.ControllerCache;
 import common.Display;
 import common.EntityStore;
 import common.Router;
@@ -14,6 +15,7 @@ import java.util.Scanner;
 public class Authentication extends Controller {
 
     private final AuthenticationDisplay authenticationDisplay;
+    private final ControllerCache controllers = new ControllerCache();
 
     /**
      * Creates the authentication controller and binds it to the shared router and scanner.
@@ -25,6 +27,8 @@ public class Authentication extends Controller {
 
         super(router, scanner, entityStore);
         this.authenticationDisplay = new AuthenticationDisplay(this);
+        controllers.register("login", () -> new LoginController(router, scanner, entityStore));
+        controllers.register("register", () -> new RegistrationController(router, scanner, entityStore));
     }
 
     /**
@@ -36,6 +40,7 @@ public class Authentication extends Controller {
 
     @Override
     public void initialize() {
+        router.setSession(null); // back at the entry menu, so nobody is signed in
         boolean validChoice = false;
 
         while (!validChoice) {
@@ -73,17 +78,16 @@ public class Authentication extends Controller {
      * @param chosen_route raw menu option selected by the user
      * @return {@code true} when the option is recognised and handled, otherwise {@code false}
      */
-    @SuppressWarnings("ResultOfObjectAllocationIgnored")
     private boolean route_to(String chosen_route) {
         return switch (chosen_route.trim()) {
             case "1" -> {
                 System.out.println("\nRouting to Login...\n");
-                new LoginController(router, scanner, entityStore);
+                router.push(controllers.get("login"));
                 yield true;
             }
             case "2" -> {
                 System.out.println("\nRouting to Register as Company Representative...\n");
-                new RegistrationController(router, scanner, entityStore);
+                router.push(controllers.get("register"));
                 yield true;
             }
             case "3" -> {
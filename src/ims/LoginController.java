@@ -12,8 +12,6 @@ import student.*;
  */
 public class LoginController extends Controller {
     private final Display loginDisplay;
-    private static final String USER_DB_PATH =
-        PathResolver.resource("users.csv");
     private ControllerFactory loginRegistry;
 
     /**
@@ -25,7 +23,6 @@ public class LoginController extends Controller {
     public LoginController(Router router, Scanner scanner, EntityStore entityStore) {
         super(router, scanner, entityStore);
         this.loginDisplay = new LoginDisplay(this);
-        router.push(this);
 //
     }
     protected ControllerFactory createRegistry(String userID) {
@@ -51,16 +48,16 @@ public class LoginController extends Controller {
             String username = credentials[0];
             String password = credentials[1];
 
-            String role = get_corresponding_role(username, password);
+            UserEntity user = authenticate(username, password);
 
-            if (!Objects.equals(role, "None")) {
+            if (user != null) {
                 System.out.println("\nLogin successful! Welcome, " + username + "!");
-                role = role.trim().toLowerCase();
+                Session session = Session.open(entityStore, user);
+                router.setSession(session);
+                String role = session.role();
 
                 try {
                     loginRegistry = createRegistry(username);
-                    // Set the user ID for the current session
-
 
                     // Delegate controller creation to the registry
                     loginRegistry.createController(role);
@@ -78,30 +75,27 @@ public class LoginController extends Controller {
     }
 
     /**
-     * Retrieves the role associated with the supplied credentials by querying the user database.
+     * Checks the supplied credentials against the hashed user index. Attempts from a
+     * username with too many recent failures are refused before any lookup.
      *
      * @param username login identifier entered by the user
      * @param password password entered by the user
-     * @return matching role string or {@code "None"} when the credentials are invalid
+     * @return matching account, or {@code null} when the credentials are invalid
      */
-    private String get_corresponding_role(String username, String password) {
-        List<Entity> users = entityStore.loadAll(USER_DB_PATH, "User");
-
-        for (Entity e : users) {
-            if (!(e instanceof UserEntity user)) continue;
-
-            String fileUsername = user.get(UserEntity.UserField.Username);
-            String filePassword = user.get(UserEntity.UserField.Password);
-            String fileRole = user.get(UserEntity.UserField.Role);
-
-            if (fileUsername.equals(username) && filePassword.equals(password)) {
-                System.out.println("Logging in...");
-                return fileRole;
-            }
+    private UserEntity authenticate(String username, String password) {
+        LoginThrottle throttle = LoginThrottle.of(entityStore);
+        if (!throttle.permits(username)) {
+            System.out.println("Too many failed attempts. Please wait a minute and try again.");
+            return null;
         }
-
-        System.out.println("Invalid credentials. Try again.");
-        return "None";
+        UserEntity user = UserDirectory.of(entityStore).authenticate(username, password);
+        if (user == null) {
+            throttle.recordFailure(username);
+            System.out.println("Invalid credentials. Try again.");
+            return null;
+        }
+        System.out.println("Logging in...");
+        return user;
     }
 
     /**
@@ -2,9 +2,6 @@ package ims;
 
 import common.*;
 import cr.*;
-import exceptions.*;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Scanner;
 import staff.*;
 import student.*;
@@ -15,7 +12,8 @@ import student.*;
  */
 public class LoginRegistry implements ControllerFactory {
 
-    private final Map<String, ControllerSupplier> keyMap = new HashMap<>();
+    private final Router router;
+    private final ControllerCache controllers = new ControllerCache();
 
     /**
      * Configures the registry with handlers for each supported role.
@@ -26,38 +24,21 @@ public class LoginRegistry implements ControllerFactory {
      * @param userID  identifier of the authenticated user
      */
     public LoginRegistry(Router router, Scanner scanner, EntityStore store, String userID) {
+        this.router = router;
         // Map roles to controller creation
-        keyMap.put("student", () -> new StudentHomePageController(router, scanner, store, userID));
-        keyMap.put("cr", () -> new CRHomePageController(router, scanner, store, userID));
-        keyMap.put("staff", () -> new StaffHomePageController(router, scanner, store, userID));
+        controllers.register("student", () -> new StudentHomePageController(router, scanner, store, userID));
+        controllers.register("cr", () -> new CRHomePageController(router, scanner, store, userID));
+        controllers.register("staff", () -> new StaffHomePageController(router, scanner, store, userID));
     }
 
-
-
-
     @Override
     /**
-     * Instantiates the home controller mapped to the provided role.
+     * Swaps the login screen for the home controller mapped to the provided role.
      *
      * @param role canonicalized user role (student/cr/staff)
      * @throws IllegalArgumentException when the role is unknown
      */
     public void createController(String role) {
-        ControllerSupplier supplier = keyMap.get(role);
-        if (supplier == null) {
-            throw new IllegalArgumentException("No controller mapped for role: " + role);
-        }
-
-        try {
-            supplier.create();
-            // Controller constructor can auto-register with router
-        } catch (InvalidStudentIDException | InvalidCompanyRepIDException | InvalidStaffIDException e) {
-            e.printStackTrace();
-        }
-    }
-
-    @FunctionalInterface
-    private interface ControllerSupplier {
-        Controller create() throws InvalidStudentIDException, InvalidCompanyRepIDException, InvalidStaffIDException;
+        router.replace(controllers.get(role));
     }
 }
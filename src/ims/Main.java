@@ -1,26 +1,98 @@
 package ims;
 
+import common.ChangeStream;
 import common.DatabaseManager;
+import common.DeadlineScheduler;
 import common.EntityStore;
+import common.NotificationDispatcher;
+import common.PathResolver;
 import common.Router;
+import common.UserDirectory;
+import api.ApiServer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Scanner;
 
-/** Launches the Internship Placement Management System from the command line. */
+/** Launches the Internship Placement Management System from the command line. Requires Java 21. */
 public class Main {
     /**
      * Configures shared infrastructure (router and scanner) and begins the authentication flow.
+     * Pass {@code --server [port]} to serve many concurrent sessions over TCP instead, or
+     * {@code --api [port]} to serve the HTTP/JSON API. Add {@code --change-log} anywhere to
+     * record every write in {@code resources/change_log.tsv}, and {@code --hash-passwords}
+     * to hash every remaining plain-text password in {@code users.csv} before starting.
      *
-     * @param args ignored command-line arguments
+     * @param args optional {@code --server [port]} or {@code --api [port]} switch, and
+     *             optional {@code --change-log} and {@code --hash-passwords} flags
      */
     public static void main(String[] args) {
         System.out.println("Starting Internship Placement Management System...\n");
+        EntityStore entityStore = new DatabaseManager();
+        if (Arrays.asList(args).contains("--change-log")) {
+            enableChangeLog(entityStore);
+            args = Arrays.stream(args).filter(arg -> !"--change-log".equals(arg)).toArray(String[]::new);
+        }
+        if (Arrays.asList(args).contains("--hash-passwords")) {
+            int migrated = UserDirectory.of(entityStore).migratePasswords();
+            System.out.println("Hashed " + migrated + " plain-text password(s).\n");
+            args = Arrays.stream(args).filter(arg -> !"--hash-passwords".equals(arg)).toArray(String[]::new);
+        }
+        DeadlineScheduler.start(entityStore);
+        NotificationDispatcher.start(entityStore);
+        if (args.length > 0 && "--server".equals(args[0])) {
+            startServer(args, entityStore);
+            return;
+        }
+        if (args.length > 0 && "--api".equals(args[0])) {
+            startApi(args, entityStore);
+            return;
+        }
         Router router = new Router();
         Scanner scanner = new Scanner(System.in);
-        EntityStore entityStore = new DatabaseManager();
         Authentication authentication = new Authentication(router, scanner, entityStore);
         authentication.start();
 
     }
-}
 
+    private static void enableChangeLog(EntityStore entityStore) {
+        try {
+            ChangeStream.of(entityStore).enableLog(Path.of(PathResolver.resource("change_log.tsv")));
+        } catch (IOException ex) {
+            System.err.println("Change log unavailable: " + ex.getMessage());
+        }
+    }
+
+    private static void startServer(String[] args, EntityStore entityStore) {
+        int port = portArgument(args, SessionServer.DEFAULT_PORT);
+        try {
+            new SessionServer(port, entityStore).serve();
+        } catch (IOException ex) {
+            System.err.println("Session server stopped: " + ex.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void startApi(String[] args, EntityStore entityStore) {
+        int port = portArgument(args, ApiServer.DEFAULT_PORT);
+        try {
+            new ApiServer(port, entityStore).start();
+        } catch (IOException ex) {
+            System.err.println("HTTP API failed to start: " + ex.getMessage());
+            System.exit(1);
+        }
+    }
 
+    private static int portArgument(String[] args, int defaultPort) {
+        if (args.length < 2) {
+            return defaultPort;
+        }
+        try {
+            return Integer.parseInt(args[1]);
+        } catch (NumberFormatException ex) {
+            System.err.println("Invalid port '" + args[1] + "'.");
+            System.exit(1);
+            return defaultPort;
+        }
+    }
+}
@@ -11,7 +11,7 @@ public class RegistrationController extends Controller {
         PathResolver.resource("pending_cr.csv");
 
     /**
-     * Creates a registration controller and immediately pushes it onto the router stack.
+     * Creates a registration controller.
      *
      * @param router  shared navigation stack
      * @param scanner input source used to gather registration details
@@ -19,7 +19,6 @@ public class RegistrationController extends Controller {
     public RegistrationController(Router router, Scanner scanner, EntityStore entityStore) {
         super(router, scanner, entityStore);
         this.registrationDisplay = new RegistrationDisplay(this);
-        router.push(this);
     }
 
     /**
@@ -39,7 +38,7 @@ public class RegistrationController extends Controller {
 
 
             // Create CREntity (CRID is None until assigned)
-            CREntity newCR = new CREntity(companyEmail, password, fullName, companyName, department, position, companyEmail);
+            CREntity newCR = new CREntity(companyEmail, PasswordHasher.hash(password), fullName, companyName, department, position, companyEmail);
 
             // Save to pending_cr.csv via DatabaseManager
             entityStore.append(PENDING_CR_FILE, newCR);
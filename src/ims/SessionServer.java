@@ -0,0 +1,106 @@
+package ims;
+
+import common.EntityStore;
+import common.Router;
+import common.SessionConsole;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves the console application to many users from one process. Each TCP connection
+ * runs the authentication and role home flow on its own virtual thread with its own
+ * {@link Router} and {@link Scanner}; all sessions share one {@link EntityStore}, so
+ * the store's caches and derived indexes are reused across users.
+ *
+ * <p>Connect with any line-based client, for example {@code nc localhost 5050}.</p>
+ *
+ * <p>Virtual threads require Java 21, which is the project's language level (set in
+ * {@code .idea/misc.xml}); compile from the command line with {@code javac --release 21}.</p>
+ */
+public final class SessionServer {
+
+    /** Port used when none is supplied. */
+    public static final int DEFAULT_PORT = 5050;
+
+    private static final int IDLE_TIMEOUT_MILLIS = 30 * 60 * 1000;
+
+    private final int port;
+    private final EntityStore entityStore;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    /**
+     * Creates a server for the supplied store.
+     *
+     * @param port        local port to listen on
+     * @param entityStore store shared by every session
+     */
+    public SessionServer(int port, EntityStore entityStore) {
+        this.port = port;
+        this.entityStore = entityStore;
+    }
+
+    /**
+     * Accepts connections on the loopback interface until the process is stopped.
+     *
+     * @throws IOException when the port cannot be opened
+     */
+    public void serve() throws IOException {
+        SessionConsole.install();
+        try (ServerSocket serverSocket = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+             ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor()) {
+            System.out.println("Session server listening on " + serverSocket.getLocalSocketAddress());
+            while (!serverSocket.isClosed()) {
+                Socket socket = serverSocket.accept();
+                sessions.submit(() -> runSession(socket));
+            }
+        }
+    }
+
+    /**
+     * Runs one user's session to completion on the calling thread.
+     *
+     * @param socket client connection, closed when the session ends
+     */
+    private void runSession(Socket socket) {
+        int active = activeSessions.incrementAndGet();
+        System.out.println("Session opened from " + socket.getRemoteSocketAddress() + " (" + active + " active)");
+        try (socket;
+             InputStream in = socket.getInputStream();
+             PrintStream out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            socket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+            SessionConsole.bind(out);
+            try {
+                Router router = new Router(() -> {
+                    System.out.println("Thank you for using our IMS!");
+                    closeQuietly(socket);
+                });
+                Scanner scanner = new Scanner(in, StandardCharsets.UTF_8);
+                new Authentication(router, scanner, entityStore).start();
+            } finally {
+                SessionConsole.unbind();
+            }
+        } catch (IOException | RuntimeException ex) {
+            System.err.println("Session ended with an error: " + ex.getMessage());
+        } finally {
+            active = activeSessions.decrementAndGet();
+            System.out.println("Session closed (" + active + " active)");
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // the session is ending either way
+        }
+    }
+}
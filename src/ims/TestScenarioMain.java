@@ -2,6 +2,7 @@ package ims;
 
 import common.DatabaseManager;
 import common.EntityStore;
+import common.InternshipEntity;
 import common.Router;
 import common.StudentEntity;
 import java.io.ByteArrayInputStream;
@@ -12,14 +13,17 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 
 /**
  * Exercises student flows by replaying canned input through the existing CLI controllers.
  * Run without arguments for the full Student A walk-through, or provide one of the scenario
- * keys to focus on a specific flow (for example: {@code accept-offer}).
+ * keys to focus on a specific flow (for example: {@code accept-offer}). Scenarios with more
+ * than one script replay them concurrently against a shared store, one console each.
  */
 public final class TestScenarioMain {
 
@@ -35,24 +39,46 @@ public final class TestScenarioMain {
         private static final String BOOKMARK_TARGET_ID = "CR-INT-ACTIVE";
         private static final String APPLICATION_WITHDRAW_ID = "94ba951c-3b76-4edf-b5fc-de79ad88ccd2";
         private static final String APPLICATION_APPROVED_ID = "f7bcd5d5-660a-470f-a64f-3b6c0ae14f8f";
+        private static final String CR_HYPERION = "boss.rep1@hyperion.com";
+        private static final String WRONG_PASSWORD = "not-the-password";
+        private static final String UNKNOWN_INTERNSHIP_ID = "NO-SUCH-INTERNSHIP";
+        private static final String LAST_SLOT_INTERNSHIP_ID = "HYP-LAST-SLOT";
+        private static final String LAST_SLOT_APPLICATION_1 = "APP-LAST-SLOT-001";
+        private static final String LAST_SLOT_APPLICATION_2 = "APP-LAST-SLOT-002";
 
     private static final Path USERS_FILE = Paths.get("resources", "users.csv");
     private static final Path STUDENTS_FILE = Paths.get("resources", "student.csv");
     private static final Path APPLICATIONS_FILE = Paths.get("resources", "internship_applications.csv");
+    private static final Path INTERNSHIPS_FILE = Paths.get("resources", "internship_opportunities.csv");
         private static final Path BOOKMARKS_FILE = Paths.get("resources", "bookmarked_internships.csv");
+    private static final Path NOTIFICATIONS_FILE = Paths.get("resources", "notifications.csv");
 
-    /** Lightweight value object describing a named scenario and its scripted steps. */
-    private record Scenario(String name, String[] steps) {}
+    /** Contents of the files a scenario seed rewrites, restored once the scenario finishes. */
+    private static final Map<Path, byte[]> SEEDED_ORIGINALS = new LinkedHashMap<>();
+
+    /**
+     * Lightweight value object describing a named scenario: data it needs beyond the shared
+     * baseline, one scripted session per console, and a summary printed once they finish.
+     */
+    private record Scenario(String name, Runnable seed, Runnable summary, String[]... sessions) {}
+
+    private static final Runnable NOTHING = () -> { };
 
         private static final Scenario DEFAULT_SCENARIO = studentFullMenuScenario();
         private static final Scenario ACCEPT_ONLY_SCENARIO = studentAcceptScenario();
+        private static final Scenario LAST_SLOT_SCENARIO = lastSlotScenario();
+        private static final Scenario LOCKOUT_SCENARIO = loginLockoutScenario();
+        private static final Scenario SUBMISSION_BURST_SCENARIO = submissionBurstScenario();
         private static final Map<String, Scenario> SCENARIO_REGISTRY = Map.ofEntries(
             Map.entry("student-full", DEFAULT_SCENARIO),
             Map.entry("student-a", DEFAULT_SCENARIO),
             Map.entry("full", DEFAULT_SCENARIO),
             Map.entry("accept-offer", ACCEPT_ONLY_SCENARIO),
             Map.entry("student-b", ACCEPT_ONLY_SCENARIO),
-            Map.entry("accept", ACCEPT_ONLY_SCENARIO)
+            Map.entry("accept", ACCEPT_ONLY_SCENARIO),
+            Map.entry("last-slot", LAST_SLOT_SCENARIO),
+            Map.entry("lockout", LOCKOUT_SCENARIO),
+            Map.entry("submission-burst", SUBMISSION_BURST_SCENARIO)
         );
 
     /**
@@ -64,7 +90,13 @@ public final class TestScenarioMain {
         Scenario scenario = resolveScenario(args);
         System.out.println("\n>>> Selected scenario: " + scenario.name());
         baselineData();
-        runScenario(scenario);
+        try {
+            scenario.seed().run();
+            runScenario(scenario);
+            scenario.summary().run();
+        } finally {
+            restoreSeededFiles();
+        }
     }
 
     /**
@@ -105,12 +137,13 @@ public final class TestScenarioMain {
                 .studentOption("8", DEFAULT_PASSWORD)
                 .studentOption("9", "")
                 .studentOption("10", "")
-                .studentOption("11")
+                .studentOption("11", "")
+                .studentOption("12")
                 .login(STUDENT_B, DEFAULT_PASSWORD)
                 .studentOption("7", APPLICATION_APPROVED_ID)
-                .studentOption("11")
+                .studentOption("12")
                 .exitAuthentication();
-        return new Scenario("Student regression covers options 1-11", script.build());
+        return new Scenario("Student regression covers options 1-12", NOTHING, NOTHING, script.build());
     }
 
     /**
@@ -122,9 +155,66 @@ public final class TestScenarioMain {
         ScriptBuilder script = new ScriptBuilder()
                 .login(STUDENT_B, DEFAULT_PASSWORD)
                 .studentOption("7", APPLICATION_APPROVED_ID)
+                .studentOption("12")
+                .exitAuthentication();
+        return new Scenario("Student B accepts an offer", NOTHING, NOTHING, script.build());
+    }
+
+    /**
+     * Builds the scenario where two representative consoles approve different applications
+     * for an internship with one slot left at the same time. Only one approval may win.
+     *
+     * @return scenario with two concurrent review sessions
+     */
+    private static Scenario lastSlotScenario() {
+        String[] first = new ScriptBuilder()
+                .login(CR_HYPERION, DEFAULT_PASSWORD)
+                .studentOption("5", LAST_SLOT_APPLICATION_1, "A")
+                .studentOption("11")
+                .exitAuthentication()
+                .build();
+        String[] second = new ScriptBuilder()
+                .login(CR_HYPERION, DEFAULT_PASSWORD)
+                .studentOption("5", LAST_SLOT_APPLICATION_2, "A")
                 .studentOption("11")
+                .exitAuthentication()
+                .build();
+        return new Scenario("Two representatives race for the last slot",
+                TestScenarioMain::seedLastSlot, TestScenarioMain::printLastSlotOutcome, first, second);
+    }
+
+    /**
+     * Builds the scenario where repeated wrong passwords lock a username out, so the
+     * correct password is refused until the window passes.
+     *
+     * @return scenario covering the login throttle
+     */
+    private static Scenario loginLockoutScenario() {
+        ScriptBuilder script = new ScriptBuilder();
+        for (int attempt = 0; attempt < 5; attempt++) {
+            script.login(STUDENT_B, WRONG_PASSWORD);
+        }
+        script.login(STUDENT_B, DEFAULT_PASSWORD)
                 .exitAuthentication();
-        return new Scenario("Student B accepts an offer", script.build());
+        return new Scenario("Student B is locked out after five wrong passwords", NOTHING, NOTHING, script.build());
+    }
+
+    /**
+     * Builds the scenario where a student submits faster than the submission gate allows;
+     * the fourth attempt in a row is refused before it reaches the store.
+     *
+     * @return scenario covering per-student admission control
+     */
+    private static Scenario submissionBurstScenario() {
+        ScriptBuilder script = new ScriptBuilder()
+                .login(STUDENT_B, DEFAULT_PASSWORD);
+        for (int attempt = 0; attempt < 4; attempt++) {
+            script.studentOption("4", UNKNOWN_INTERNSHIP_ID);
+        }
+        script.studentOption("12")
+                .exitAuthentication();
+        return new Scenario("Student B submits four times in a row", TestScenarioMain::seedLastSlot, NOTHING,
+                script.build());
     }
 
     /**
@@ -132,14 +222,43 @@ public final class TestScenarioMain {
      *
      * @param scenario scenario descriptor containing metadata and steps
      */
-    @SuppressWarnings("ResultOfObjectAllocationIgnored")
     private static void runScenario(Scenario scenario) {
         System.out.println("Running scenario: " + scenario.name());
-        String joinedScript = String.join(System.lineSeparator(), scenario.steps()) + System.lineSeparator();
+        EntityStore entityStore = new DatabaseManager();
+        String[][] sessions = scenario.sessions();
+        if (sessions.length == 1) {
+            runSession(sessions[0], entityStore);
+            return;
+        }
+        List<Thread> consoles = new ArrayList<>();
+        for (int i = 0; i < sessions.length; i++) {
+            String[] steps = sessions[i];
+            consoles.add(new Thread(() -> runSession(steps, entityStore), "console-" + (i + 1)));
+        }
+        consoles.forEach(Thread::start);
+        for (Thread console : consoles) {
+            try {
+                console.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Streams one scripted console session through the CLI.
+     *
+     * @param steps       scripted input lines
+     * @param entityStore store shared by every session of the scenario
+     */
+    @SuppressWarnings("ResultOfObjectAllocationIgnored")
+    private static void runSession(String[] steps, EntityStore entityStore) {
+        String joinedScript = String.join(System.lineSeparator(), steps) + System.lineSeparator();
         ByteArrayInputStream input = new ByteArrayInputStream(joinedScript.getBytes(StandardCharsets.UTF_8));
         Scanner scanner = new Scanner(input);
-        Router router = new Router();
-        EntityStore entityStore = new DatabaseManager();
+        // the default exit action ends the JVM, which would cut off any other console still running
+        Router router = new Router(() -> System.out.println("Thank you for using our IMS!"));
 
         try {
             Authentication authentication = new Authentication(router, scanner, entityStore);
@@ -255,6 +374,112 @@ public final class TestScenarioMain {
         }
     }
 
+    /**
+     * Seeds an open Hyperion internship with a single slot and two pending applications for it.
+     * The touched files are saved first so the seeded rows, and anything the scenario derives
+     * from them, never outlive the run.
+     */
+    private static void seedLastSlot() {
+        saveBeforeSeeding(USERS_FILE, INTERNSHIPS_FILE, APPLICATIONS_FILE, NOTIFICATIONS_FILE);
+        ensureUserPassword(CR_HYPERION, DEFAULT_PASSWORD);
+        ensureRow(INTERNSHIPS_FILE, LAST_SLOT_INTERNSHIP_ID, String.join(",", LAST_SLOT_INTERNSHIP_ID,
+                "Last Slot Fellowship", "One remaining seat", "Basic", "CSC", "2025-01-01", "2099-12-31",
+                "Approved", "Hyperion Labs", CR_HYPERION, "1", "Visible"));
+        ensureRow(APPLICATIONS_FILE, LAST_SLOT_APPLICATION_1, String.join(",", LAST_SLOT_APPLICATION_1,
+                "U2310004D", LAST_SLOT_INTERNSHIP_ID, "Pending", "2025-11-20"));
+        ensureRow(APPLICATIONS_FILE, LAST_SLOT_APPLICATION_2, String.join(",", LAST_SLOT_APPLICATION_2,
+                "U2310005E", LAST_SLOT_INTERNSHIP_ID, "Pending", "2025-11-21"));
+    }
+
+    /**
+     * Prints the statuses left behind by the last-slot race; exactly one application
+     * should be approved and the internship should be filled.
+     */
+    private static void printLastSlotOutcome() {
+        System.out.println("\n>>> Last-slot outcome (expect one Approved and a FILLED internship):");
+        printColumn(APPLICATIONS_FILE, LAST_SLOT_APPLICATION_1, 3);
+        printColumn(APPLICATIONS_FILE, LAST_SLOT_APPLICATION_2, 3);
+        printColumn(INTERNSHIPS_FILE, LAST_SLOT_INTERNSHIP_ID, InternshipEntity.InternshipField.Status.ordinal());
+    }
+
+    /**
+     * Remembers the current contents of files a seed is about to rewrite.
+     *
+     * @param files files to save
+     */
+    private static void saveBeforeSeeding(Path... files) {
+        for (Path file : files) {
+            try {
+                SEEDED_ORIGINALS.putIfAbsent(file, Files.readAllBytes(file));
+            } catch (IOException ex) {
+                System.err.println("Unable to save " + file + " before seeding: " + ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Writes back the files saved by {@link #saveBeforeSeeding(Path...)}.
+     */
+    private static void restoreSeededFiles() {
+        for (Map.Entry<Path, byte[]> entry : SEEDED_ORIGINALS.entrySet()) {
+            try {
+                Files.write(entry.getKey(), entry.getValue());
+            } catch (IOException ex) {
+                System.err.println("Unable to restore " + entry.getKey() + ": " + ex.getMessage());
+            }
+        }
+        SEEDED_ORIGINALS.clear();
+    }
+
+    /**
+     * Replaces the row with the given identifier, or appends it when missing.
+     *
+     * @param file CSV file to update
+     * @param id   identifier in the first column
+     * @param row  complete row to store
+     */
+    private static void ensureRow(Path file, String id, String row) {
+        try {
+            List<String> lines = new ArrayList<>(Files.readAllLines(file));
+            boolean found = false;
+            for (int i = 0; i < lines.size(); i++) {
+                if (lines.get(i).split(",", -1)[0].equals(id)) {
+                    lines.set(i, row);
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                lines.add(row);
+            }
+            Files.write(file, lines);
+        } catch (IOException ex) {
+            System.err.println("Unable to seed " + id + ": " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Prints one column of the row with the given identifier.
+     *
+     * @param file   CSV file to read
+     * @param id     identifier in the first column
+     * @param column zero-based column to print
+     */
+    private static void printColumn(Path file, String id, int column) {
+        try {
+            for (String line : Files.readAllLines(file)) {
+                String[] parts = line.split(",", -1);
+                if (parts[0].equals(id) && parts.length > column) {
+                    System.out.println("  " + id + ": " + parts[column]);
+                    return;
+                }
+            }
+            System.out.println("  " + id + ": missing");
+        } catch (IOException ex) {
+            System.err.println("Unable to read " + id + ": " + ex.getMessage());
+        }
+    }
+
     private static void resetBookmarksFile() {
         try {
             Files.createDirectories(BOOKMARKS_FILE.getParent());
@@ -0,0 +1,98 @@
+package staff;
+
+import common.ApplicationFunnel;
+import common.Controller;
+import common.EntityStore;
+import common.FunnelTable;
+import common.Router;
+import java.util.Scanner;
+
+/**
+ * Shows how applications progress from submission to approval and acceptance, broken
+ * down by company, level, preferred major or internship. Figures come from the
+ * incrementally maintained {@link ApplicationFunnel}, so no application file scan is
+ * needed per view.
+ */
+public class ApplicationFunnelController extends Controller {
+
+    private final ApplicationFunnelDisplay display;
+
+    /**
+     * Builds a controller that reports the application funnel.
+     *
+     * @param router      router managing navigation stack
+     * @param scanner     shared input reader
+     * @param entityStore persistence gateway
+     */
+    @SuppressWarnings("LeakingThisInConstructor")
+    public ApplicationFunnelController(Router router, Scanner scanner, EntityStore entityStore) {
+        super(router, scanner, entityStore);
+        this.display = new ApplicationFunnelDisplay(this);
+    }
+
+    /**
+     * Prompts for a breakdown dimension and prints the funnel table.
+     */
+    @Override
+    public void initialize() {
+        display.print_menu();
+        String choice = display.get_user_input();
+        ApplicationFunnel.Dimension dimension = switch (choice) {
+            case "1" -> ApplicationFunnel.Dimension.COMPANY;
+            case "2" -> ApplicationFunnel.Dimension.LEVEL;
+            case "3" -> ApplicationFunnel.Dimension.MAJOR;
+            case "4" -> ApplicationFunnel.Dimension.INTERNSHIP;
+            default -> null;
+        };
+        if (dimension == null) {
+            if (!"0".equals(choice)) {
+                System.out.println("Invalid option. Returning to the staff menu.");
+            }
+            router.pop();
+            return;
+        }
+
+        ApplicationFunnel funnel = ApplicationFunnel.of(entityStore);
+        System.out.println();
+        FunnelTable.print(display.labelFor(dimension), funnel.breakdown(dimension), funnel.overall());
+        display.waitForEnter();
+        router.pop();
+    }
+
+    /**
+     * Display helper for the application funnel view.
+     */
+    private final class ApplicationFunnelDisplay extends common.Display {
+
+        ApplicationFunnelDisplay(Controller owner) {
+            super(owner);
+        }
+
+        @Override
+        public void print_menu() {
+            System.out.println();
+            System.out.println("=== Application Funnel ===");
+            System.out.println("1. By company");
+            System.out.println("2. By internship level");
+            System.out.println("3. By preferred major");
+            System.out.println("4. By internship");
+            System.out.println("0. Back to staff menu");
+            System.out.print("Select an option: ");
+        }
+
+        String labelFor(ApplicationFunnel.Dimension dimension) {
+            return switch (dimension) {
+                case COMPANY -> "Company";
+                case LEVEL -> "Level";
+                case MAJOR -> "Preferred major";
+                case INTERNSHIP -> "Internship";
+            };
+        }
+
+        void waitForEnter() {
+            System.out.println();
+            System.out.print("Press Enter to return to the staff menu...");
+            scanner.nextLine();
+        }
+    }
+}
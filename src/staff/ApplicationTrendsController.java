@@ -0,0 +1,190 @@
+package staff;
+
+import common.ApplicationTimeSeries;
+import common.Controller;
+import common.EntityStore;
+import common.Router;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+
+/**
+ * Charts application submissions over time so staff can plan reviews around peak
+ * windows. Counts come from the pre-bucketed {@link ApplicationTimeSeries}, so a chart
+ * over a semester costs one pass over its day buckets.
+ */
+public class ApplicationTrendsController extends Controller {
+
+    private static final int BAR_WIDTH = 40;
+
+    private final ApplicationTrendsDisplay display;
+
+    /**
+     * Builds a controller that charts application submissions.
+     *
+     * @param router      router managing navigation stack
+     * @param scanner     shared input reader
+     * @param entityStore persistence gateway
+     */
+    @SuppressWarnings("LeakingThisInConstructor")
+    public ApplicationTrendsController(Router router, Scanner scanner, EntityStore entityStore) {
+        super(router, scanner, entityStore);
+        this.display = new ApplicationTrendsDisplay(this);
+    }
+
+    /**
+     * Prompts for a date range and granularity, then prints the chart and breakdowns.
+     */
+    @Override
+    public void initialize() {
+        ApplicationTimeSeries series = ApplicationTimeSeries.of(entityStore);
+        LocalDate[] span = series.span();
+        if (span == null) {
+            System.out.println("No applications have been submitted yet.");
+            router.pop();
+            return;
+        }
+
+        display.print_menu();
+        System.out.println("Submissions recorded from " + span[0] + " to " + span[1] + ".");
+        LocalDate from = display.promptDate("Start date (yyyy-MM-dd, blank for " + span[0] + "): ", span[0]);
+        LocalDate to = display.promptDate("End date (yyyy-MM-dd, blank for " + span[1] + "): ", span[1]);
+        if (to.isBefore(from)) {
+            System.out.println("End date cannot be before start date. Returning to the staff menu.");
+            router.pop();
+            return;
+        }
+
+        display.printGranularityOptions();
+        String choice = display.get_user_input();
+        List<ApplicationTimeSeries.Bucket> buckets = switch (choice) {
+            case "1" -> series.daily(from, to);
+            case "2" -> series.weekly(from, to);
+            default -> null;
+        };
+        if (buckets == null) {
+            if (!"0".equals(choice)) {
+                System.out.println("Invalid option. Returning to the staff menu.");
+            }
+            router.pop();
+            return;
+        }
+
+        display.showChart("1".equals(choice) ? "Day" : "Week of", buckets);
+        display.showTotals(series.total(from, to), to);
+        display.waitForEnter();
+        router.pop();
+    }
+
+    /**
+     * Display helper for the application trends view.
+     */
+    private final class ApplicationTrendsDisplay extends common.Display {
+
+        ApplicationTrendsDisplay(Controller owner) {
+            super(owner);
+        }
+
+        @Override
+        public void print_menu() {
+            System.out.println();
+            System.out.println("=== Application Trends ===");
+        }
+
+        /**
+         * Prompts for a date, falling back to a default when left blank.
+         *
+         * @param prompt       label to display
+         * @param defaultValue value used for blank input
+         * @return parsed date
+         */
+        LocalDate promptDate(String prompt, LocalDate defaultValue) {
+            while (true) {
+                System.out.print(prompt);
+                String input = scanner.nextLine().trim();
+                if (input.isEmpty()) {
+                    return defaultValue;
+                }
+                try {
+                    return LocalDate.parse(input);
+                } catch (DateTimeParseException ex) {
+                    System.out.println("Invalid date format. Use yyyy-MM-dd.");
+                }
+            }
+        }
+
+        void printGranularityOptions() {
+            System.out.println("1. Applications per day");
+            System.out.println("2. Applications per week");
+            System.out.println("0. Back to staff menu");
+            System.out.print("Select an option: ");
+        }
+
+        /**
+         * Prints one bar per bucket, scaled to the busiest bucket.
+         *
+         * @param label   heading of the period column
+         * @param buckets buckets in chronological order
+         */
+        void showChart(String label, List<ApplicationTimeSeries.Bucket> buckets) {
+            System.out.println();
+            if (buckets.isEmpty()) {
+                System.out.println("No applications in the selected range.");
+                return;
+            }
+            long peak = 0;
+            ApplicationTimeSeries.Bucket busiest = null;
+            for (ApplicationTimeSeries.Bucket bucket : buckets) {
+                if (bucket.total() > peak) {
+                    peak = bucket.total();
+                    busiest = bucket;
+                }
+            }
+            System.out.printf("%-10s | %5s | %s%n", label, "Apps", "Statuses");
+            for (ApplicationTimeSeries.Bucket bucket : buckets) {
+                int width = (int) Math.max(1, Math.round((double) bucket.total() * BAR_WIDTH / peak));
+                System.out.printf("%-10s | %5d | %s %s%n", bucket.start(), bucket.total(),
+                        "#".repeat(width), describe(bucket.byStatus()));
+            }
+            if (busiest != null) {
+                System.out.println();
+                System.out.println("Peak period: " + busiest.start() + " with " + peak + " application(s).");
+            }
+        }
+
+        /**
+         * Prints the status and company totals for the whole range.
+         *
+         * @param total combined bucket for the range
+         * @param to    last day of the range
+         */
+        void showTotals(ApplicationTimeSeries.Bucket total, LocalDate to) {
+            System.out.println();
+            System.out.println("Totals from " + total.start() + " to " + to + ": " + total.total());
+            System.out.println("By status: " + describe(total.byStatus()));
+            System.out.println("By company: " + describe(total.byCompany()));
+        }
+
+        void waitForEnter() {
+            System.out.println();
+            System.out.print("Press Enter to return to the staff menu...");
+            scanner.nextLine();
+        }
+
+        private String describe(Map<String, Long> counts) {
+            if (counts.isEmpty()) {
+                return "None";
+            }
+            StringBuilder builder = new StringBuilder();
+            counts.forEach((key, value) -> {
+                if (builder.length() > 0) {
+                    builder.append(", ");
+                }
+                builder.append(key).append(' ').append(value);
+            });
+            return builder.toString();
+        }
+    }
+}
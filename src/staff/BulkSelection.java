@@ -0,0 +1,76 @@
+package staff;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Parses a reviewer's selection from a pending queue. Accepts {@code ALL} for every
+ * listed item, or a comma- or space-separated list of identifiers, 1-based row numbers
+ * and row ranges such as {@code 3-10}.
+ */
+final class BulkSelection {
+
+    private BulkSelection() {
+        // Utility class
+    }
+
+    /**
+     * Resolves the selection against the listed items.
+     *
+     * @param input   raw reviewer input
+     * @param pending items shown to the reviewer, in display order
+     * @param idOf    extracts an item's identifier
+     * @param <T>     item type
+     * @return selected items in display order without duplicates, or {@code null} when a
+     *         token matches nothing
+     */
+    static <T> List<T> select(String input, List<T> pending, Function<T, String> idOf) {
+        String trimmed = input == null ? "" : input.trim();
+        if (trimmed.equalsIgnoreCase("ALL")) {
+            return new ArrayList<>(pending);
+        }
+        Map<String, Integer> rowById = new HashMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            rowById.putIfAbsent(idOf.apply(pending.get(i)), i);
+        }
+        Set<Integer> rows = new TreeSet<>();
+        for (String token : trimmed.split("[,\\s]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            Integer row = rowById.get(token);
+            if (row != null) {
+                rows.add(row);
+                continue;
+            }
+            int[] range = parseRange(token);
+            if (range == null || range[0] < 1 || range[1] > pending.size() || range[0] > range[1]) {
+                return null;
+            }
+            for (int i = range[0]; i <= range[1]; i++) {
+                rows.add(i - 1);
+            }
+        }
+        List<T> selected = new ArrayList<>(rows.size());
+        rows.forEach(row -> selected.add(pending.get(row)));
+        return selected;
+    }
+
+    private static int[] parseRange(String token) {
+        int dash = token.indexOf('-', 1);
+        try {
+            if (dash < 0) {
+                int row = Integer.parseInt(token);
+                return new int[]{row, row};
+            }
+            return new int[]{Integer.parseInt(token.substring(0, dash)), Integer.parseInt(token.substring(dash + 1))};
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
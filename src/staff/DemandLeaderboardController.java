@@ -0,0 +1,93 @@
+package staff;
+
+import common.Controller;
+import common.DemandLeaderboard;
+import common.EntityStore;
+import common.Router;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * Shows the most-applied internships and companies. The rankings are read from the
+ * continuously maintained {@link DemandLeaderboard}, so the view costs {@code O(k)}
+ * regardless of how many applications exist.
+ */
+public class DemandLeaderboardController extends Controller {
+
+    private static final int TOP_K = 10;
+
+    private final DemandLeaderboardDisplay display;
+
+    /**
+     * Builds a controller that prints the demand leaderboards.
+     *
+     * @param router      router managing navigation stack
+     * @param scanner     shared input reader
+     * @param entityStore persistence gateway
+     */
+    @SuppressWarnings("LeakingThisInConstructor")
+    public DemandLeaderboardController(Router router, Scanner scanner, EntityStore entityStore) {
+        super(router, scanner, entityStore);
+        this.display = new DemandLeaderboardDisplay(this);
+    }
+
+    /**
+     * Prints the top internships and companies by applications received.
+     */
+    @Override
+    public void initialize() {
+        DemandLeaderboard leaderboard = DemandLeaderboard.of(entityStore);
+        display.print_menu();
+        display.showInternships(leaderboard.topInternships(TOP_K));
+        display.showCompanies(leaderboard.topCompanies(TOP_K));
+        display.waitForEnter();
+        router.pop();
+    }
+
+    /**
+     * Display helper for the demand leaderboards.
+     */
+    private final class DemandLeaderboardDisplay extends common.Display {
+
+        DemandLeaderboardDisplay(Controller owner) {
+            super(owner);
+        }
+
+        @Override
+        public void print_menu() {
+            System.out.println();
+            System.out.println("=== Most In-Demand Internships ===");
+        }
+
+        void showInternships(List<DemandLeaderboard.Entry> entries) {
+            if (entries.isEmpty()) {
+                System.out.println("No applications have been submitted yet.");
+                return;
+            }
+            System.out.printf("%-4s %-20s %-32s %12s%n", "#", "Internship", "Title", "Applications");
+            int rank = 1;
+            for (DemandLeaderboard.Entry entry : entries) {
+                System.out.printf("%-4d %-20s %-32s %12d%n", rank++, entry.key(), entry.title(), entry.applications());
+            }
+        }
+
+        void showCompanies(List<DemandLeaderboard.Entry> entries) {
+            if (entries.isEmpty()) {
+                return;
+            }
+            System.out.println();
+            System.out.println("=== Most In-Demand Companies ===");
+            System.out.printf("%-4s %-53s %12s%n", "#", "Company", "Applications");
+            int rank = 1;
+            for (DemandLeaderboard.Entry entry : entries) {
+                System.out.printf("%-4d %-53s %12d%n", rank++, entry.key(), entry.applications());
+            }
+        }
+
+        void waitForEnter() {
+            System.out.println();
+            System.out.print("Press Enter to return to the staff menu...");
+            scanner.nextLine();
+        }
+    }
+}
@@ -1,32 +1,20 @@
 package staff;
 
-import common.ApplicationEntity;
 import common.Controller;
-import common.Entity;
 import common.EntityStore;
-import common.InternshipEntity;
-import common.PathResolver;
 import common.Router;
 import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.Set;
-import java.util.TreeMap;
+import staff.InternshipReportService.DateStats;
+import staff.InternshipReportService.ReportSummary;
 
 /**
  * Generates a summary report of internships using the shared staff filters.
  */
 public class InternshipReportController extends Controller {
 
-    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
-    private static final String APPLICATION_FILE = PathResolver.resource("internship_applications.csv");
-
     private final InternshipReportDisplay display;
     private final StaffReviewFilters filters;
     private final String staffId;
@@ -45,345 +33,19 @@ public class InternshipReportController extends Controller {
         this.staffId = staffId;
         this.filters = filters;
         this.display = new InternshipReportDisplay(this);
-        router.push(this);
     }
 
     /**
-     * Loads data, generates the report summary, and displays it to the user.
+     * Generates the report summary through {@link InternshipReportService} and displays it to the user.
      */
     @Override
     public void initialize() {
-        List<InternshipEntity> internships = loadInternships();
-        StaffReviewFilters.ApplicationStats stats = loadApplicationStats();
-        ReportSummary summary = buildSummary(internships, stats);
+        ReportSummary summary = new InternshipReportService(entityStore).summarize(filters);
         display.showReport(summary);
         display.waitForEnter();
         router.pop();
     }
 
-    /**
-     * Retrieves all internship records from persistent storage.
-     *
-     * @return list of internships, potentially empty
-     */
-    private List<InternshipEntity> loadInternships() {
-        List<InternshipEntity> internships = new ArrayList<>();
-        List<Entity> rawInternships = entityStore.loadAll(INTERNSHIP_FILE, "Internship");
-        for (Entity entity : rawInternships) {
-            if (entity instanceof InternshipEntity internship) {
-                internships.add(internship);
-            }
-        }
-        return internships;
-    }
-
-    /**
-     * Builds aggregate application statistics for use in the report.
-     *
-     * @return application statistics keyed by internship ID
-     */
-    private StaffReviewFilters.ApplicationStats loadApplicationStats() {
-        Map<String, Long> totalCounts = new HashMap<>();
-        Map<String, Long> acceptedCounts = new HashMap<>();
-        List<Entity> rawApplications = entityStore.loadAll(APPLICATION_FILE, "Application");
-        for (Entity entity : rawApplications) {
-            if (entity instanceof ApplicationEntity application) {
-                String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
-                if (internshipId == null) {
-                    continue;
-                }
-                totalCounts.merge(internshipId, 1L, Long::sum);
-                if ("ACCEPTED".equalsIgnoreCase(application.get(ApplicationEntity.ApplicationField.Status))) {
-                    acceptedCounts.merge(internshipId, 1L, Long::sum);
-                }
-            }
-        }
-        return new StaffReviewFilters.ApplicationStats(totalCounts, acceptedCounts);
-    }
-
-    /**
-     * Constructs a report summary applying the current filters to the provided data.
-     *
-     * @param internships internships to evaluate
-     * @param stats       application statistics supporting the report
-     * @return populated report summary
-     */
-    private ReportSummary buildSummary(List<InternshipEntity> internships, StaffReviewFilters.ApplicationStats stats) {
-        Map<String, Long> statusCounts = seedStatusCounts();
-        Map<String, Long> placementCounts = seedPlacementCounts();
-        Map<String, Long> majorCounts = new TreeMap<>();
-        Map<String, Long> levelCounts = new TreeMap<>();
-        Map<String, Long> companyCounts = new TreeMap<>();
-        DateStats dateStats = new DateStats();
-
-        int matched = 0;
-        long totalApplications = 0;
-        long acceptedApplications = 0;
-        int internshipsWithApplications = 0;
-
-        for (InternshipEntity internship : internships) {
-            String internshipId = internship.get(InternshipEntity.InternshipField.InternshipID);
-            long total = stats.totalFor(internshipId);
-            long accepted = stats.acceptedFor(internshipId);
-
-            if (!filters.matchesInternship(internship, total, accepted)) {
-                continue;
-            }
-
-            matched++;
-            totalApplications += total;
-            acceptedApplications += accepted;
-            if (total > 0) {
-                internshipsWithApplications++;
-            }
-
-            increment(statusCounts, formatStatus(internship.get(InternshipEntity.InternshipField.Status)));
-            increment(majorCounts, displayValue(internship.get(InternshipEntity.InternshipField.PreferredMajor), "Unknown"));
-            increment(levelCounts, displayValue(internship.get(InternshipEntity.InternshipField.Level), "Unknown"));
-            increment(companyCounts, displayValue(internship.get(InternshipEntity.InternshipField.CompanyName), "Unknown"));
-
-            boolean filled = isFilled(internship, accepted);
-            increment(placementCounts, filled ? "Filled" : "Unfilled");
-
-            updateDateStats(dateStats, internship.get(InternshipEntity.InternshipField.OpenDate), true);
-            updateDateStats(dateStats, internship.get(InternshipEntity.InternshipField.CloseDate), false);
-        }
-
-        return new ReportSummary(
-                staffId,
-                filters,
-                matched,
-                totalApplications,
-                acceptedApplications,
-                internshipsWithApplications,
-                statusCounts,
-                majorCounts,
-                levelCounts,
-                companyCounts,
-                placementCounts,
-                dateStats
-        );
-    }
-
-    /**
-     * Initialises the status breakdown map with common statuses.
-     *
-     * @return map seeded with zero counts per status
-     */
-    private Map<String, Long> seedStatusCounts() {
-        Map<String, Long> counts = new LinkedHashMap<>();
-        counts.put("Pending", 0L);
-        counts.put("Approved", 0L);
-        counts.put("Rejected", 0L);
-        counts.put("Filled", 0L);
-        return counts;
-    }
-
-    /**
-     * Initialises the placement status breakdown map.
-     *
-     * @return map seeded with zero counts per placement state
-     */
-    private Map<String, Long> seedPlacementCounts() {
-        Map<String, Long> counts = new LinkedHashMap<>();
-        counts.put("Filled", 0L);
-        counts.put("Unfilled", 0L);
-        return counts;
-    }
-
-    /**
-     * Increments the counter associated with the provided key.
-     *
-     * @param counts target counter map
-     * @param key    bucket to increment
-     */
-    private void increment(Map<String, Long> counts, String key) {
-        counts.merge(key, 1L, Long::sum);
-    }
-
-    /**
-     * Formats raw status strings into human-readable labels.
-     *
-     * @param raw raw status value
-     * @return formatted status label
-     */
-    private String formatStatus(String raw) {
-        String normalized = normalize(raw);
-        return switch (normalized) {
-            case "PENDING" -> "Pending";
-            case "APPROVED" -> "Approved";
-            case "REJECTED" -> "Rejected";
-            case "FILLED" -> "Filled";
-            default -> displayValue(raw, "Unknown");
-        };
-    }
-
-    /**
-     * Returns a display value that falls back to the provided default when empty.
-     *
-     * @param value    value to display
-     * @param fallback fallback text when the value is blank
-     * @return formatted value suitable for output
-     */
-    private String displayValue(String value, String fallback) {
-        if (value == null) {
-            return fallback;
-        }
-        String trimmed = value.trim();
-        return trimmed.isEmpty() ? fallback : trimmed;
-    }
-
-    /**
-     * Determines whether an internship should be considered filled based on
-     * slot capacity and accepted application counts.
-     *
-     * @param internship    internship under evaluation
-     * @param acceptedCount number of accepted applications
-     * @return {@code true} when the internship is filled
-     */
-    private boolean isFilled(InternshipEntity internship, long acceptedCount) {
-        String slotsValue = internship.get(InternshipEntity.InternshipField.Slots);
-        try {
-            int slots = Integer.parseInt(slotsValue.trim());
-            if (slots <= 0) {
-                return acceptedCount > 0;
-            }
-            return acceptedCount >= slots;
-        } catch (NumberFormatException ex) {
-            return acceptedCount > 0;
-        }
-    }
-
-    /**
-     * Updates aggregate date statistics for opening or closing dates.
-     *
-     * @param stats       date accumulator
-     * @param value       raw date value
-     * @param openingDate {@code true} when tracking opening dates
-     */
-    private void updateDateStats(DateStats stats, String value, boolean openingDate) {
-        LocalDate date = parseDate(value);
-        if (date == null) {
-            return;
-        }
-        if (openingDate) {
-            stats.recordOpen(date);
-        } else {
-            stats.recordClose(date);
-        }
-    }
-
-    /**
-     * Parses ISO-8601 date strings into {@link LocalDate} instances.
-     *
-     * @param value raw text to parse
-     * @return parsed date or {@code null} when invalid or blank
-     */
-    private LocalDate parseDate(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        try {
-            return LocalDate.parse(value.trim());
-        } catch (DateTimeParseException ex) {
-            return null;
-        }
-    }
-
-    /**
-     * Normalises values for case-insensitive comparisons.
-     *
-     * @param value raw text
-     * @return uppercase trimmed value or empty string when {@code null}
-     */
-    private String normalize(String value) {
-        return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
-    }
-
-    /**
-     * Aggregates min/max opening and closing dates for the report output.
-     */
-    private static final class DateStats {
-        private LocalDate earliestOpen;
-        private LocalDate latestOpen;
-        private LocalDate earliestClose;
-        private LocalDate latestClose;
-
-        /**
-         * Records an opening date, updating min/max trackers.
-         *
-         * @param date date to capture
-         */
-        void recordOpen(LocalDate date) {
-            if (earliestOpen == null || date.isBefore(earliestOpen)) {
-                earliestOpen = date;
-            }
-            if (latestOpen == null || date.isAfter(latestOpen)) {
-                latestOpen = date;
-            }
-        }
-
-        /**
-         * Records a closing date, updating min/max trackers.
-         *
-         * @param date date to capture
-         */
-        void recordClose(LocalDate date) {
-            if (earliestClose == null || date.isBefore(earliestClose)) {
-                earliestClose = date;
-            }
-            if (latestClose == null || date.isAfter(latestClose)) {
-                latestClose = date;
-            }
-        }
-
-        /**
-         * @return earliest captured opening date or {@code null}
-         */
-        LocalDate earliestOpen() {
-            return earliestOpen;
-        }
-
-        /**
-         * @return latest captured opening date or {@code null}
-         */
-        LocalDate latestOpen() {
-            return latestOpen;
-        }
-
-        /**
-         * @return earliest captured closing date or {@code null}
-         */
-        LocalDate earliestClose() {
-            return earliestClose;
-        }
-
-        /**
-         * @return latest captured closing date or {@code null}
-         */
-        LocalDate latestClose() {
-            return latestClose;
-        }
-    }
-
-    /**
-     * Immutable data transfer object summarising report metrics for display.
-     */
-    private record ReportSummary(
-            String staffId,
-            StaffReviewFilters filters,
-            int matchedInternships,
-            long totalApplications,
-            long acceptedApplications,
-            int internshipsWithApplications,
-            Map<String, Long> statusCounts,
-            Map<String, Long> majorCounts,
-            Map<String, Long> levelCounts,
-            Map<String, Long> companyCounts,
-            Map<String, Long> placementCounts,
-            DateStats dateStats
-    ) { }
-
     /**
      * Display helper responsible for presenting the generated internship report.
      */
@@ -413,19 +75,22 @@ public class InternshipReportController extends Controller {
         void showReport(ReportSummary summary) {
             System.out.println();
             System.out.println("=== Internship Report ===");
-            System.out.println("Staff ID: " + summary.staffId());
-            printFilterSummary(summary.filters());
+            System.out.println("Staff ID: " + staffId);
+            printFilterSummary(filters);
             System.out.println();
             System.out.println("Internships matching filters: " + summary.matchedInternships());
             System.out.println("Total applications: " + summary.totalApplications()
                     + " (accepted: " + summary.acceptedApplications() + ")");
             System.out.println("Internships with applications > 0: " + summary.internshipsWithApplications());
+            System.out.println("Unique applicants to the listed companies (approx.): " + summary.uniqueApplicants());
             System.out.println();
             printCounts("Internship status", summary.statusCounts());
             printCounts("Preferred major", summary.majorCounts());
             printCounts("Internship level", summary.levelCounts());
             printCounts("Company name", summary.companyCounts());
             printCounts("Placement status", summary.placementCounts());
+            printCounts("Unique applicants per preferred major (approx., all its internships)", summary.majorApplicants());
+            printCounts("Unique applicants per company (approx., all its internships)", summary.companyApplicants());
             printDateStats(summary.dateStats());
         }
 
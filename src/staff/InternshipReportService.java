@@ -0,0 +1,531 @@
+package staff;
+
+import common.ApplicationEntity;
+import common.Entity;
+import common.EntityStore;
+import common.InternshipEntity;
+import common.PathResolver;
+import common.ValueCache;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Builds the internship summary report for a set of staff filters.
+ * Shared by the console report controller and the HTTP API.
+ */
+public class InternshipReportService {
+
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String APPLICATION_FILE = PathResolver.resource("internship_applications.csv");
+    /** Row count from which aggregation is split across the fork/join pool. */
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    private final EntityStore entityStore;
+
+    /**
+     * Creates a service backed by the supplied store.
+     *
+     * @param entityStore persistence gateway
+     */
+    public InternshipReportService(EntityStore entityStore) {
+        if (entityStore == null) {
+            throw new IllegalArgumentException("entityStore must not be null");
+        }
+        this.entityStore = entityStore;
+    }
+
+    /**
+     * Generates the report for the supplied filters.
+     * Filters that only constrain internship attributes at month granularity are
+     * answered from the store's {@link ReportCube}; a minimum application threshold or
+     * a date range splitting a month needs the rows.
+     *
+     * @param filters filters limiting the internships included
+     * @return populated report summary
+     */
+    public ReportSummary summarize(StaffReviewFilters filters) {
+        if (ReportCube.answers(filters)) {
+            return summarize(filters, ReportCube.of(entityStore));
+        }
+        return buildSummary(filters, loadInternships(), loadApplicationTally());
+    }
+
+    /**
+     * Retrieves all internship records from persistent storage.
+     *
+     * @return list of internships, potentially empty
+     */
+    private List<InternshipEntity> loadInternships() {
+        List<InternshipEntity> internships = new ArrayList<>();
+        List<Entity> rawInternships = entityStore.loadAll(INTERNSHIP_FILE, "Internship");
+        for (Entity entity : rawInternships) {
+            if (entity instanceof InternshipEntity internship) {
+                internships.add(internship);
+            }
+        }
+        return internships;
+    }
+
+    /**
+     * Builds aggregate application statistics for use in the report.
+     *
+     * @return application counters keyed by internship ID
+     */
+    private ApplicationTally loadApplicationTally() {
+        List<Entity> rawApplications = entityStore.loadAll(APPLICATION_FILE, "Application");
+        return streamOf(rawApplications).collect(
+                ApplicationTally::new,
+                ApplicationTally::add,
+                ApplicationTally::merge);
+    }
+
+    /**
+     * Constructs a report summary applying the filters to the provided data.
+     * Large datasets are split across the common fork/join pool; each worker fills its
+     * own {@link ReportAccumulator} and the partial results are merged afterwards.
+     *
+     * @param filters     filters limiting the internships included
+     * @param internships internships to evaluate
+     * @param tally       application statistics supporting the report
+     * @return populated report summary
+     */
+    private ReportSummary buildSummary(StaffReviewFilters filters, List<InternshipEntity> internships,
+                                       ApplicationTally tally) {
+        ReportAccumulator result = streamOf(internships).collect(
+                ReportAccumulator::new,
+                (accumulator, internship) -> accumulate(filters, accumulator, internship, tally),
+                ReportAccumulator::merge);
+        return toSummary(result, ReportCube.of(entityStore)
+                .applicants(result.companyCounts.keySet(), result.majorCounts.keySet()));
+    }
+
+    /**
+     * Builds a report summary by summing the cube cells that satisfy the filters.
+     *
+     * @param filters filters limiting the internships included
+     * @param cube    pre-aggregated report data
+     * @return populated report summary
+     */
+    private ReportSummary summarize(StaffReviewFilters filters, ReportCube cube) {
+        ReportAccumulator result = new ReportAccumulator();
+        cube.forEachCell((key, cell) -> {
+            // month-aligned date ranges hold either every day of a cell's month or none
+            if (!filters.matchesInternshipDimensions(key.status(), key.major(), key.level(), key.company(),
+                    key.openDate(), key.closeDate(), key.filled())) {
+                return;
+            }
+            long count = cell.internships();
+            result.matched += (int) count;
+            result.totalApplications += cell.totalApplications();
+            result.acceptedApplications += cell.acceptedApplications();
+            result.internshipsWithApplications += (int) cell.internshipsWithApplications();
+
+            increment(result.statusCounts, formatStatus(key.status()), count);
+            increment(result.majorCounts, displayValue(key.major(), "Unknown"), count);
+            increment(result.levelCounts, displayValue(key.level(), "Unknown"), count);
+            increment(result.companyCounts, displayValue(key.company(), "Unknown"), count);
+            increment(result.placementCounts, key.filled() ? "Filled" : "Unfilled", count);
+
+            updateDateStats(result.dateStats, cell.earliestOpen(), true);
+            updateDateStats(result.dateStats, cell.latestOpen(), true);
+            updateDateStats(result.dateStats, cell.earliestClose(), false);
+            updateDateStats(result.dateStats, cell.latestClose(), false);
+        });
+        return toSummary(result, cube.applicants(result.companyCounts.keySet(), result.majorCounts.keySet()));
+    }
+
+    /**
+     * Wraps accumulated counters into the immutable summary handed to callers.
+     *
+     * @param result     accumulated counters
+     * @param applicants distinct-applicant estimates for the listed groups
+     * @return report summary
+     */
+    private ReportSummary toSummary(ReportAccumulator result, ReportCube.ApplicantEstimates applicants) {
+        return new ReportSummary(
+                result.matched,
+                result.totalApplications,
+                result.acceptedApplications,
+                result.internshipsWithApplications,
+                result.statusCounts,
+                result.majorCounts,
+                result.levelCounts,
+                result.companyCounts,
+                result.placementCounts,
+                result.dateStats,
+                applicants.overall(),
+                applicants.byMajor(),
+                applicants.byCompany()
+        );
+    }
+
+    /**
+     * Folds a single internship into the supplied accumulator when it passes the filters.
+     *
+     * @param filters     filters limiting the internships included
+     * @param accumulator partial result owned by the current worker
+     * @param internship  internship to evaluate
+     * @param tally       application statistics supporting the report
+     */
+    private static void accumulate(StaffReviewFilters filters, ReportAccumulator accumulator,
+                                   InternshipEntity internship, ApplicationTally tally) {
+        String internshipId = internship.get(InternshipEntity.InternshipField.InternshipID);
+        long total = tally.totalCounts.getOrDefault(internshipId, 0L);
+        long accepted = tally.acceptedCounts.getOrDefault(internshipId, 0L);
+
+        if (!filters.matchesInternship(internship, total, accepted)) {
+            return;
+        }
+
+        accumulator.matched++;
+        accumulator.totalApplications += total;
+        accumulator.acceptedApplications += accepted;
+        if (total > 0) {
+            accumulator.internshipsWithApplications++;
+        }
+
+        increment(accumulator.statusCounts, formatStatus(internship.get(InternshipEntity.InternshipField.Status)));
+        increment(accumulator.majorCounts, displayValue(internship.get(InternshipEntity.InternshipField.PreferredMajor), "Unknown"));
+        increment(accumulator.levelCounts, displayValue(internship.get(InternshipEntity.InternshipField.Level), "Unknown"));
+        increment(accumulator.companyCounts, displayValue(internship.get(InternshipEntity.InternshipField.CompanyName), "Unknown"));
+
+        boolean filled = isFilled(internship, accepted);
+        increment(accumulator.placementCounts, filled ? "Filled" : "Unfilled");
+
+        updateDateStats(accumulator.dateStats, internship.openDate(), true);
+        updateDateStats(accumulator.dateStats, internship.closeDate(), false);
+    }
+
+    /**
+     * Chooses a sequential or parallel stream depending on the size of the input.
+     * Small datasets stay sequential because splitting them costs more than it saves.
+     *
+     * @param items rows to aggregate
+     * @param <T>   row type
+     * @return stream over the supplied rows
+     */
+    private static <T> Stream<T> streamOf(List<T> items) {
+        return items.size() >= PARALLEL_THRESHOLD ? items.parallelStream() : items.stream();
+    }
+
+    /**
+     * Initialises the status breakdown map with common statuses.
+     *
+     * @return map seeded with zero counts per status
+     */
+    private static Map<String, Long> seedStatusCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("Pending", 0L);
+        counts.put("Approved", 0L);
+        counts.put("Rejected", 0L);
+        counts.put("Filled", 0L);
+        counts.put(InternshipEntity.STATUS_CLOSED, 0L);
+        return counts;
+    }
+
+    /**
+     * Initialises the placement status breakdown map.
+     *
+     * @return map seeded with zero counts per placement state
+     */
+    private static Map<String, Long> seedPlacementCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("Filled", 0L);
+        counts.put("Unfilled", 0L);
+        return counts;
+    }
+
+    /**
+     * Increments the counter associated with the provided key.
+     *
+     * @param counts target counter map
+     * @param key    bucket to increment
+     */
+    private static void increment(Map<String, Long> counts, String key) {
+        increment(counts, key, 1L);
+    }
+
+    /**
+     * Adds {@code amount} to the counter associated with the provided key.
+     *
+     * @param counts target counter map
+     * @param key    bucket to increment
+     * @param amount value to add
+     */
+    private static void increment(Map<String, Long> counts, String key, long amount) {
+        counts.merge(key, amount, Long::sum);
+    }
+
+    /**
+     * Formats raw status strings into human-readable labels.
+     *
+     * @param raw raw status value
+     * @return formatted status label
+     */
+    private static String formatStatus(String raw) {
+        String normalized = normalize(raw);
+        return switch (normalized) {
+            case "PENDING" -> "Pending";
+            case "APPROVED" -> "Approved";
+            case "REJECTED" -> "Rejected";
+            case "FILLED" -> "Filled";
+            case "CLOSED" -> InternshipEntity.STATUS_CLOSED;
+            default -> displayValue(raw, "Unknown");
+        };
+    }
+
+    /**
+     * Returns a display value that falls back to the provided default when empty.
+     *
+     * @param value    value to display
+     * @param fallback fallback text when the value is blank
+     * @return formatted value suitable for output
+     */
+    private static String displayValue(String value, String fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? fallback : trimmed;
+    }
+
+    /**
+     * Determines whether an internship should be considered filled based on
+     * slot capacity and accepted application counts.
+     *
+     * @param internship    internship under evaluation
+     * @param acceptedCount number of accepted applications
+     * @return {@code true} when the internship is filled
+     */
+    private static boolean isFilled(InternshipEntity internship, long acceptedCount) {
+        String slotsValue = internship.get(InternshipEntity.InternshipField.Slots);
+        try {
+            int slots = Integer.parseInt(slotsValue.trim());
+            if (slots <= 0) {
+                return acceptedCount > 0;
+            }
+            return acceptedCount >= slots;
+        } catch (NumberFormatException ex) {
+            return acceptedCount > 0;
+        }
+    }
+
+    /**
+     * Updates aggregate date statistics for opening or closing dates.
+     *
+     * @param stats       date accumulator
+     * @param date        parsed date, {@code null} when missing or invalid
+     * @param openingDate {@code true} when tracking opening dates
+     */
+    private static void updateDateStats(DateStats stats, LocalDate date, boolean openingDate) {
+        if (date == null) {
+            return;
+        }
+        if (openingDate) {
+            stats.recordOpen(date);
+        } else {
+            stats.recordClose(date);
+        }
+    }
+
+    /**
+     * Normalises values for case-insensitive comparisons.
+     *
+     * @param value raw text
+     * @return uppercase trimmed value or empty string when {@code null}
+     */
+    private static String normalize(String value) {
+        return ValueCache.upper(value);
+    }
+
+    /**
+     * Aggregates min/max opening and closing dates for the report output.
+     */
+    public static final class DateStats {
+        private LocalDate earliestOpen;
+        private LocalDate latestOpen;
+        private LocalDate earliestClose;
+        private LocalDate latestClose;
+
+        /**
+         * Records an opening date, updating min/max trackers.
+         *
+         * @param date date to capture
+         */
+        void recordOpen(LocalDate date) {
+            if (earliestOpen == null || date.isBefore(earliestOpen)) {
+                earliestOpen = date;
+            }
+            if (latestOpen == null || date.isAfter(latestOpen)) {
+                latestOpen = date;
+            }
+        }
+
+        /**
+         * Records a closing date, updating min/max trackers.
+         *
+         * @param date date to capture
+         */
+        void recordClose(LocalDate date) {
+            if (earliestClose == null || date.isBefore(earliestClose)) {
+                earliestClose = date;
+            }
+            if (latestClose == null || date.isAfter(latestClose)) {
+                latestClose = date;
+            }
+        }
+
+        /**
+         * Folds another set of date statistics into this one.
+         *
+         * @param other statistics gathered by a different worker
+         */
+        void merge(DateStats other) {
+            if (other.earliestOpen != null) {
+                recordOpen(other.earliestOpen);
+            }
+            if (other.latestOpen != null) {
+                recordOpen(other.latestOpen);
+            }
+            if (other.earliestClose != null) {
+                recordClose(other.earliestClose);
+            }
+            if (other.latestClose != null) {
+                recordClose(other.latestClose);
+            }
+        }
+
+        /**
+         * @return earliest captured opening date or {@code null}
+         */
+        public LocalDate earliestOpen() {
+            return earliestOpen;
+        }
+
+        /**
+         * @return latest captured opening date or {@code null}
+         */
+        public LocalDate latestOpen() {
+            return latestOpen;
+        }
+
+        /**
+         * @return earliest captured closing date or {@code null}
+         */
+        public LocalDate earliestClose() {
+            return earliestClose;
+        }
+
+        /**
+         * @return latest captured closing date or {@code null}
+         */
+        public LocalDate latestClose() {
+            return latestClose;
+        }
+    }
+
+    /**
+     * Mutable partial result for the report. Each fork/join worker owns one instance,
+     * so no synchronisation is needed until {@link #merge(ReportAccumulator)} combines them.
+     */
+    private static final class ReportAccumulator {
+        private int matched;
+        private long totalApplications;
+        private long acceptedApplications;
+        private int internshipsWithApplications;
+        private final Map<String, Long> statusCounts = seedStatusCounts();
+        private final Map<String, Long> placementCounts = seedPlacementCounts();
+        private final Map<String, Long> majorCounts = new TreeMap<>();
+        private final Map<String, Long> levelCounts = new TreeMap<>();
+        private final Map<String, Long> companyCounts = new TreeMap<>();
+        private final DateStats dateStats = new DateStats();
+
+        /**
+         * Adds the counters gathered by another worker to this accumulator.
+         *
+         * @param other partial result to fold in
+         */
+        void merge(ReportAccumulator other) {
+            matched += other.matched;
+            totalApplications += other.totalApplications;
+            acceptedApplications += other.acceptedApplications;
+            internshipsWithApplications += other.internshipsWithApplications;
+            mergeCounts(statusCounts, other.statusCounts);
+            mergeCounts(placementCounts, other.placementCounts);
+            mergeCounts(majorCounts, other.majorCounts);
+            mergeCounts(levelCounts, other.levelCounts);
+            mergeCounts(companyCounts, other.companyCounts);
+            dateStats.merge(other.dateStats);
+        }
+
+        private static void mergeCounts(Map<String, Long> target, Map<String, Long> source) {
+            for (Map.Entry<String, Long> entry : source.entrySet()) {
+                target.merge(entry.getKey(), entry.getValue(), Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Mergeable per-internship application counters used while loading statistics.
+     * Distinct applicants come from the per-group sketches of the {@link ReportCube},
+     * so the tally holds counts only.
+     */
+    private static final class ApplicationTally {
+        private final Map<String, Long> totalCounts = new HashMap<>();
+        private final Map<String, Long> acceptedCounts = new HashMap<>();
+
+        /**
+         * Counts a single application row.
+         *
+         * @param entity raw entity loaded from the application file
+         */
+        void add(Entity entity) {
+            if (!(entity instanceof ApplicationEntity application)) {
+                return;
+            }
+            String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
+            if (internshipId == null) {
+                return;
+            }
+            totalCounts.merge(internshipId, 1L, Long::sum);
+            if ("ACCEPTED".equalsIgnoreCase(application.get(ApplicationEntity.ApplicationField.Status))) {
+                acceptedCounts.merge(internshipId, 1L, Long::sum);
+            }
+        }
+
+        /**
+         * Adds the counters gathered by another worker to this tally.
+         *
+         * @param other partial tally to fold in
+         */
+        void merge(ApplicationTally other) {
+            other.totalCounts.forEach((key, value) -> totalCounts.merge(key, value, Long::sum));
+            other.acceptedCounts.forEach((key, value) -> acceptedCounts.merge(key, value, Long::sum));
+        }
+    }
+
+    /**
+     * Immutable data transfer object summarising report metrics.
+     */
+    public record ReportSummary(
+            int matchedInternships,
+            long totalApplications,
+            long acceptedApplications,
+            int internshipsWithApplications,
+            Map<String, Long> statusCounts,
+            Map<String, Long> majorCounts,
+            Map<String, Long> levelCounts,
+            Map<String, Long> companyCounts,
+            Map<String, Long> placementCounts,
+            DateStats dateStats,
+            long uniqueApplicants,
+            Map<String, Long> majorApplicants,
+            Map<String, Long> companyApplicants
+    ) { }
+}
@@ -0,0 +1,70 @@
+package staff;
+
+import common.Controller;
+import common.EntityStore;
+import common.LoginThrottle;
+import common.Router;
+import java.util.Scanner;
+
+/**
+ * Shows login throttling activity so staff can spot password-guessing campaigns.
+ */
+public class LoginMetricsController extends Controller {
+
+    private final LoginMetricsDisplay display;
+
+    /**
+     * Builds a controller that prints the login throttle counters.
+     *
+     * @param router      router managing navigation stack
+     * @param scanner     shared input reader
+     * @param entityStore persistence gateway
+     */
+    @SuppressWarnings("LeakingThisInConstructor")
+    public LoginMetricsController(Router router, Scanner scanner, EntityStore entityStore) {
+        super(router, scanner, entityStore);
+        this.display = new LoginMetricsDisplay(this);
+    }
+
+    /**
+     * Prints the current login throttle counters.
+     */
+    @Override
+    public void initialize() {
+        display.print_menu();
+        display.show(LoginThrottle.of(entityStore).metrics());
+        display.waitForEnter();
+        router.pop();
+    }
+
+    /**
+     * Display helper for the login metrics view.
+     */
+    private final class LoginMetricsDisplay extends common.Display {
+
+        LoginMetricsDisplay(Controller owner) {
+            super(owner);
+        }
+
+        @Override
+        public void print_menu() {
+            System.out.println();
+            System.out.println("=== Login Security ===");
+        }
+
+        void show(LoginThrottle.Metrics metrics) {
+            System.out.printf("%-40s %10d%n", "Login attempts", metrics.attempts());
+            System.out.printf("%-40s %10d%n", "Failed attempts", metrics.failures());
+            System.out.printf("%-40s %10d%n", "Refused (username locked out)", metrics.rejectedUser());
+            System.out.printf("%-40s %10d%n", "Refused (global failure rate)", metrics.rejectedGlobal());
+            System.out.printf("%-40s %10d%n", "Usernames currently locked out", metrics.lockedStripes());
+            System.out.printf("%-40s %10.1f%n", "Failures in the current global window", metrics.globalFailures());
+        }
+
+        void waitForEnter() {
+            System.out.println();
+            System.out.print("Press Enter to return to the staff menu...");
+            scanner.nextLine();
+        }
+    }
+}
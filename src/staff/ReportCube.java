@@ -0,0 +1,463 @@
+package staff;
+
+import common.ApplicationEntity;
+import common.ConsistentLoad;
+import common.Entity;
+import common.EntityStore;
+import common.HyperLogLog;
+import common.InternshipEntity;
+import common.PathResolver;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Pre-aggregated internship report data keyed by every attribute the staff filters
+ * can constrain: status, preferred major, level, company, placement state and the
+ * opening/closing dates bucketed by month. Each cell holds internship and application
+ * totals, so a report for any combination of those filters is answered by summing
+ * the matching cells instead of rescanning the internship and application files.
+ *
+ * <p>The cube is built in one streaming pass and then kept current from store
+ * notifications, like {@link common.ApplicationFunnel}: an application change moves
+ * one internship's totals, and possibly its placement state, between cells. Month
+ * buckets keep the number of cells well below the number of internships; date
+ * filters that split a month are left to the row scan (see {@link #answers}). Cells
+ * keep a count per exact date so the report's date overview stays exact.</p>
+ *
+ * <p>Distinct applicants are tracked by one HyperLogLog sketch per company and one
+ * per preferred major, fed as applications arrive. Sketches cannot forget a value,
+ * so deletions and internships moving to another company or major mark them for a
+ * rebuild on the next read.</p>
+ */
+final class ReportCube {
+
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String APPLICATION_FILE = PathResolver.resource("internship_applications.csv");
+    private static final String UNKNOWN = "Unknown";
+
+    private final EntityStore store;
+    private final boolean incremental;
+    private final Map<String, Tracked> internships = new HashMap<>();
+    private final Map<CellKey, Cell> cells = new HashMap<>();
+    private final Map<String, HyperLogLog> companyApplicants = new HashMap<>();
+    private final Map<String, HyperLogLog> majorApplicants = new HashMap<>();
+    private final ConsistentLoad load;
+    private boolean sketchesStale;
+
+    private ReportCube(EntityStore store) {
+        this.store = store;
+        this.load = new ConsistentLoad(store, INTERNSHIP_FILE, APPLICATION_FILE);
+        this.incremental = store.addListener(this::onChange);
+    }
+
+    /**
+     * Returns the cube maintained for the supplied store, creating it on first use.
+     *
+     * @param store backing entity store
+     * @return shared cube for the store
+     */
+    static ReportCube of(EntityStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        return store.view(ReportCube.class, ReportCube::new);
+    }
+
+    /**
+     * Indicates whether the cube answers the filters exactly. A per-internship
+     * application threshold needs the rows, and so does a date range that starts or
+     * ends in the middle of a month, because cells only know the month.
+     *
+     * @param filters filters of the requested report
+     * @return {@code true} when summing cells gives the same result as a row scan
+     */
+    static boolean answers(StaffReviewFilters filters) {
+        return filters.isAggregatable()
+                && monthAligned(filters.openDateRange())
+                && monthAligned(filters.closeDateRange());
+    }
+
+    /**
+     * Visits every populated cell while holding the cube's lock.
+     *
+     * @param visitor callback receiving each key and its aggregated values
+     */
+    synchronized void forEachCell(BiConsumer<CellKey, Cell> visitor) {
+        ensureLoaded();
+        cells.forEach(visitor);
+    }
+
+    /**
+     * Estimates distinct applicants for the given groups. Each estimate covers every
+     * internship of the group, whatever its status, level, dates or placement.
+     *
+     * @param companies company names as shown in the report
+     * @param majors    preferred majors as shown in the report
+     * @return overall estimate across the companies, and one estimate per group
+     */
+    synchronized ApplicantEstimates applicants(Collection<String> companies, Collection<String> majors) {
+        ensureLoaded();
+        if (sketchesStale) {
+            rebuildSketches();
+        }
+        HyperLogLog overall = new HyperLogLog();
+        Map<String, Long> byCompany = new TreeMap<>();
+        for (String company : companies) {
+            HyperLogLog sketch = companyApplicants.get(company);
+            if (sketch != null) {
+                overall.merge(sketch);
+                byCompany.put(company, sketch.estimate());
+            }
+        }
+        Map<String, Long> byMajor = new TreeMap<>();
+        for (String major : majors) {
+            HyperLogLog sketch = majorApplicants.get(major);
+            if (sketch != null) {
+                byMajor.put(major, sketch.estimate());
+            }
+        }
+        return new ApplicantEstimates(overall.estimate(), byCompany, byMajor);
+    }
+
+    /**
+     * @return number of populated cells
+     */
+    synchronized int size() {
+        ensureLoaded();
+        return cells.size();
+    }
+
+    /**
+     * Label under which a company or major is grouped in the report.
+     *
+     * @param value raw attribute value
+     * @return trimmed value, or {@code Unknown} when blank
+     */
+    static String group(String value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? UNKNOWN : trimmed;
+    }
+
+    private void ensureLoaded() {
+        if (load.isLoaded() && incremental) {
+            return;
+        }
+        load.load(() -> {
+            internships.clear();
+            cells.clear();
+            store.forEach(INTERNSHIP_FILE, "Internship", entity -> {
+                InternshipEntity internship = (InternshipEntity) entity;
+                tracked(internship.get(InternshipEntity.InternshipField.InternshipID)).internship = internship;
+            });
+            store.forEach(APPLICATION_FILE, "Application", entity -> count((ApplicationEntity) entity, 1));
+            internships.values().forEach(this::place);
+            rebuildSketches();
+        });
+    }
+
+    private synchronized void onChange(String filePath, Entity before, Entity after) {
+        if (!load.applies(filePath)) {
+            return;
+        }
+        if (APPLICATION_FILE.equals(filePath)) {
+            ApplicationEntity previous = before instanceof ApplicationEntity application ? application : null;
+            ApplicationEntity current = after instanceof ApplicationEntity application ? application : null;
+            if (previous != null) {
+                recount(previous, -1);
+            }
+            if (current != null) {
+                recount(current, 1);
+            }
+            if (previous == null && current != null) {
+                if (!addApplicant(current)) {
+                    sketchesStale = true; // the internship may still arrive and decide the groups
+                }
+            } else if (previous != null && (current == null || !sameApplicant(previous, current))) {
+                sketchesStale = true;
+            }
+        } else if (INTERNSHIP_FILE.equals(filePath)) {
+            InternshipEntity previous = before instanceof InternshipEntity internship ? internship : null;
+            InternshipEntity current = after instanceof InternshipEntity internship ? internship : null;
+            String internshipId = (current != null ? current : previous).get(InternshipEntity.InternshipField.InternshipID);
+            Tracked tracked = tracked(internshipId);
+            unplace(tracked);
+            tracked.internship = current;
+            place(tracked);
+            if (tracked.total > 0 && (current == null || previous == null || regrouped(previous, current))) {
+                sketchesStale = true;
+            }
+            if (current == null && tracked.total == 0) {
+                internships.remove(internshipId);
+            }
+        }
+    }
+
+    /**
+     * Applies one application to its internship's totals, moving the internship to the
+     * cell matching its new totals.
+     */
+    private void recount(ApplicationEntity application, int delta) {
+        String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
+        if (internshipId == null) {
+            return;
+        }
+        Tracked tracked = tracked(internshipId);
+        unplace(tracked);
+        count(application, delta);
+        place(tracked);
+    }
+
+    private void count(ApplicationEntity application, int delta) {
+        String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
+        if (internshipId == null) {
+            return;
+        }
+        Tracked tracked = tracked(internshipId);
+        tracked.total += delta;
+        if ("ACCEPTED".equalsIgnoreCase(application.get(ApplicationEntity.ApplicationField.Status))) {
+            tracked.accepted += delta;
+        }
+    }
+
+    private void place(Tracked tracked) {
+        if (tracked.internship == null) {
+            return;
+        }
+        InternshipEntity internship = tracked.internship;
+        LocalDate open = internship.openDate();
+        LocalDate close = internship.closeDate();
+        CellKey key = new CellKey(
+                internship.get(InternshipEntity.InternshipField.Status),
+                internship.get(InternshipEntity.InternshipField.PreferredMajor),
+                internship.get(InternshipEntity.InternshipField.Level),
+                internship.get(InternshipEntity.InternshipField.CompanyName),
+                StaffReviewFilters.isFilled(internship, tracked.accepted),
+                open == null ? null : YearMonth.from(open),
+                close == null ? null : YearMonth.from(close));
+        cells.computeIfAbsent(key, ignored -> new Cell()).add(tracked.total, tracked.accepted, open, close, 1);
+        tracked.cell = key;
+        tracked.open = open;
+        tracked.close = close;
+    }
+
+    private void unplace(Tracked tracked) {
+        if (tracked.cell == null) {
+            return;
+        }
+        Cell cell = cells.get(tracked.cell);
+        cell.add(tracked.total, tracked.accepted, tracked.open, tracked.close, -1);
+        if (cell.internships == 0) {
+            cells.remove(tracked.cell);
+        }
+        tracked.cell = null;
+    }
+
+    private Tracked tracked(String internshipId) {
+        return internships.computeIfAbsent(internshipId, ignored -> new Tracked());
+    }
+
+    /**
+     * Adds an application's student to the sketches of its internship's company and major.
+     *
+     * @return {@code false} when the internship is unknown, so no group could be chosen
+     */
+    private boolean addApplicant(ApplicationEntity application) {
+        String studentId = application.get(ApplicationEntity.ApplicationField.StudentID);
+        if (studentId == null || studentId.isBlank()) {
+            return true;
+        }
+        Tracked tracked = internships.get(application.get(ApplicationEntity.ApplicationField.InternshipID));
+        if (tracked == null || tracked.internship == null) {
+            return false;
+        }
+        long hash = HyperLogLog.hash(studentId.trim());
+        sketch(companyApplicants, tracked.internship.get(InternshipEntity.InternshipField.CompanyName)).addHash(hash);
+        sketch(majorApplicants, tracked.internship.get(InternshipEntity.InternshipField.PreferredMajor)).addHash(hash);
+        return true;
+    }
+
+    /**
+     * Refills the sketches with one pass over the applications; only the sketches are
+     * held, never the applicants themselves.
+     */
+    private void rebuildSketches() {
+        companyApplicants.clear();
+        majorApplicants.clear();
+        store.forEach(APPLICATION_FILE, "Application", entity -> addApplicant((ApplicationEntity) entity));
+        sketchesStale = false;
+    }
+
+    private static HyperLogLog sketch(Map<String, HyperLogLog> sketches, String value) {
+        return sketches.computeIfAbsent(group(value), ignored -> new HyperLogLog());
+    }
+
+    private static boolean sameApplicant(ApplicationEntity previous, ApplicationEntity current) {
+        return Objects.equals(previous.get(ApplicationEntity.ApplicationField.StudentID),
+                        current.get(ApplicationEntity.ApplicationField.StudentID))
+                && Objects.equals(previous.get(ApplicationEntity.ApplicationField.InternshipID),
+                        current.get(ApplicationEntity.ApplicationField.InternshipID));
+    }
+
+    private static boolean regrouped(InternshipEntity previous, InternshipEntity current) {
+        return !group(previous.get(InternshipEntity.InternshipField.CompanyName))
+                        .equals(group(current.get(InternshipEntity.InternshipField.CompanyName)))
+                || !group(previous.get(InternshipEntity.InternshipField.PreferredMajor))
+                        .equals(group(current.get(InternshipEntity.InternshipField.PreferredMajor)));
+    }
+
+    private static boolean monthAligned(StaffReviewFilters.DateRange range) {
+        if (range == null) {
+            return true;
+        }
+        LocalDate start = range.start();
+        LocalDate end = range.end();
+        return (start == null || start.getDayOfMonth() == 1)
+                && (end == null || end.getDayOfMonth() == end.lengthOfMonth());
+    }
+
+    /**
+     * Attribute combination identifying a cube cell. Text values are kept as stored so
+     * that filter and display logic treat them exactly as they would the source rows.
+     *
+     * @param status     raw internship status
+     * @param major      raw preferred major
+     * @param level      raw internship level
+     * @param company    raw company name
+     * @param filled     placement state derived from slots and accepted applications
+     * @param openMonth  month of the opening date, {@code null} when missing or invalid
+     * @param closeMonth month of the closing date, {@code null} when missing or invalid
+     */
+    record CellKey(String status, String major, String level, String company,
+                   boolean filled, YearMonth openMonth, YearMonth closeMonth) {
+
+        /**
+         * @return a date inside the opening month, for matching month-aligned filters
+         */
+        LocalDate openDate() {
+            return openMonth == null ? null : openMonth.atDay(1);
+        }
+
+        /**
+         * @return a date inside the closing month, for matching month-aligned filters
+         */
+        LocalDate closeDate() {
+            return closeMonth == null ? null : closeMonth.atDay(1);
+        }
+    }
+
+    /**
+     * Aggregated values stored for one attribute combination.
+     */
+    static final class Cell {
+        private long internships;
+        private long totalApplications;
+        private long acceptedApplications;
+        private long internshipsWithApplications;
+        private final TreeMap<LocalDate, Integer> openDates = new TreeMap<>();
+        private final TreeMap<LocalDate, Integer> closeDates = new TreeMap<>();
+
+        void add(long total, long accepted, LocalDate open, LocalDate close, int sign) {
+            internships += sign;
+            totalApplications += sign * total;
+            acceptedApplications += sign * accepted;
+            if (total > 0) {
+                internshipsWithApplications += sign;
+            }
+            countDate(openDates, open, sign);
+            countDate(closeDates, close, sign);
+        }
+
+        private static void countDate(TreeMap<LocalDate, Integer> dates, LocalDate date, int sign) {
+            if (date != null) {
+                dates.merge(date, sign, (a, b) -> a + b == 0 ? null : a + b);
+            }
+        }
+
+        /**
+         * @return number of internships in the cell
+         */
+        long internships() {
+            return internships;
+        }
+
+        /**
+         * @return applications submitted across the cell's internships
+         */
+        long totalApplications() {
+            return totalApplications;
+        }
+
+        /**
+         * @return accepted applications across the cell's internships
+         */
+        long acceptedApplications() {
+            return acceptedApplications;
+        }
+
+        /**
+         * @return internships in the cell with at least one application
+         */
+        long internshipsWithApplications() {
+            return internshipsWithApplications;
+        }
+
+        /**
+         * @return earliest opening date in the cell, or {@code null} when none is known
+         */
+        LocalDate earliestOpen() {
+            return openDates.isEmpty() ? null : openDates.firstKey();
+        }
+
+        /**
+         * @return latest opening date in the cell, or {@code null} when none is known
+         */
+        LocalDate latestOpen() {
+            return openDates.isEmpty() ? null : openDates.lastKey();
+        }
+
+        /**
+         * @return earliest closing date in the cell, or {@code null} when none is known
+         */
+        LocalDate earliestClose() {
+            return closeDates.isEmpty() ? null : closeDates.firstKey();
+        }
+
+        /**
+         * @return latest closing date in the cell, or {@code null} when none is known
+         */
+        LocalDate latestClose() {
+            return closeDates.isEmpty() ? null : closeDates.lastKey();
+        }
+    }
+
+    /**
+     * Distinct-applicant estimates for a report.
+     *
+     * @param overall   applicants across all requested companies
+     * @param byCompany estimate per company, sorted by name
+     * @param byMajor   estimate per preferred major, sorted by name
+     */
+    record ApplicantEstimates(long overall, Map<String, Long> byCompany, Map<String, Long> byMajor) { }
+
+    /**
+     * One internship's contribution: its current row and application totals, and the
+     * cell and dates it was last counted under so it can be taken out again.
+     */
+    private static final class Tracked {
+        private InternshipEntity internship;
+        private long total;
+        private long accepted;
+        private CellKey cell;
+        private LocalDate open;
+        private LocalDate close;
+    }
+}
@@ -0,0 +1,114 @@
+package staff;
+
+import common.Controller;
+import common.EntityStore;
+import common.PathResolver;
+import common.Router;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Scanner;
+
+/**
+ * Exports the internship report to CSV or JSON files for downstream tools, applying
+ * the same shared staff filters as the on-screen report.
+ */
+public class ReportExportController extends Controller {
+
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ReportExportDisplay display;
+    private final StaffReviewFilters filters;
+    private final String staffId;
+
+    /**
+     * Builds a controller that exports the filtered internship report.
+     *
+     * @param router      router managing navigation stack
+     * @param scanner     shared input reader
+     * @param entityStore persistence gateway
+     * @param staffId     identifier of the staff member requesting the export
+     * @param filters     shared filters limiting the exported data
+     */
+    @SuppressWarnings("LeakingThisInConstructor")
+    public ReportExportController(Router router, Scanner scanner, EntityStore entityStore, String staffId, StaffReviewFilters filters) {
+        super(router, scanner, entityStore);
+        this.staffId = staffId;
+        this.filters = filters;
+        this.display = new ReportExportDisplay(this);
+    }
+
+    /**
+     * Prompts for an export format, writes the files and reports the throughput.
+     */
+    @Override
+    public void initialize() {
+        display.print_menu();
+        String choice = display.get_user_input();
+        ReportExporter.Format format = switch (choice) {
+            case "1" -> ReportExporter.Format.CSV;
+            case "2" -> ReportExporter.Format.JSON;
+            default -> null;
+        };
+        if (format == null) {
+            if (!"0".equals(choice)) {
+                System.out.println("Invalid option. Returning to the staff menu.");
+            }
+            router.pop();
+            return;
+        }
+
+        Path directory = Paths.get(PathResolver.resource("exports"));
+        String baseName = "internship_report_" + staffId.toLowerCase(Locale.ROOT) + "_"
+                + LocalDateTime.now().format(FILE_STAMP);
+        try {
+            ReportExporter.ExportResult result = new ReportExporter(entityStore, filters)
+                    .export(format, directory, baseName);
+            display.showResult(result);
+        } catch (IOException ex) {
+            System.err.println("Unable to export report: " + ex.getMessage());
+        }
+        router.pop();
+    }
+
+    /**
+     * Display helper for the report export flow.
+     */
+    private static final class ReportExportDisplay extends common.Display {
+
+        ReportExportDisplay(Controller owner) {
+            super(owner);
+        }
+
+        @Override
+        public void print_menu() {
+            System.out.println();
+            System.out.println("=== Export Internship Report ===");
+            System.out.println("The export uses the current staff review filters.");
+            System.out.println("1. CSV (internship details + company rollup)");
+            System.out.println("2. JSON (single document)");
+            System.out.println("0. Back to staff menu");
+            System.out.print("Select an option: ");
+        }
+
+        /**
+         * Prints the files written and the achieved throughput.
+         *
+         * @param result export outcome
+         */
+        void showResult(ReportExporter.ExportResult result) {
+            System.out.println();
+            System.out.println("Export complete.");
+            for (Path file : result.files()) {
+                System.out.println(" - " + file);
+            }
+            System.out.printf("Rows exported: %d | Bytes written: %d%n", result.rows(), result.bytes());
+            System.out.printf("Elapsed: %.1f ms | Throughput: %.0f rows/s%n",
+                    result.elapsedMillis(), result.rowsPerSecond());
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package staff;
+
+import common.ApplicationEntity;
+import common.EntityStore;
+import common.InternshipEntity;
+import common.PathResolver;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Streams the internship report to machine-readable files. Internship rows are read
+ * from the store one at a time, filtered with the shared staff filters and encoded
+ * straight into a fixed-size NIO buffer, so memory use does not grow with the number
+ * of exported rows. Only the per-internship application counters and the per-company
+ * rollup are kept in memory.
+ */
+final class ReportExporter {
+
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String APPLICATION_FILE = PathResolver.resource("internship_applications.csv");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String DETAIL_HEADER = "InternshipID,Title,CompanyName,Level,PreferredMajor,Status,"
+            + "OpenDate,CloseDate,Slots,Visibility,TotalApplications,AcceptedApplications,Placement";
+    private static final InternshipEntity.InternshipField[] DETAIL_FIELDS = {
+            InternshipEntity.InternshipField.InternshipID,
+            InternshipEntity.InternshipField.Title,
+            InternshipEntity.InternshipField.CompanyName,
+            InternshipEntity.InternshipField.Level,
+            InternshipEntity.InternshipField.PreferredMajor,
+            InternshipEntity.InternshipField.Status,
+            InternshipEntity.InternshipField.OpenDate,
+            InternshipEntity.InternshipField.CloseDate,
+            InternshipEntity.InternshipField.Slots,
+            InternshipEntity.InternshipField.Visibility
+    };
+    private static final String COMPANY_HEADER = "CompanyName,Internships,TotalApplications,AcceptedApplications,FilledInternships";
+
+    private final EntityStore entityStore;
+    private final StaffReviewFilters filters;
+
+    /**
+     * Supported output formats.
+     */
+    enum Format { CSV, JSON }
+
+    /**
+     * Creates an exporter reading from the supplied store.
+     *
+     * @param entityStore persistence gateway
+     * @param filters     filters limiting the exported internships
+     */
+    ReportExporter(EntityStore entityStore, StaffReviewFilters filters) {
+        this.entityStore = entityStore;
+        this.filters = filters;
+    }
+
+    /**
+     * Writes the report in the requested format.
+     * CSV produces a detail file and a company rollup file; JSON produces one document
+     * containing both sections.
+     *
+     * @param format    output format
+     * @param directory directory receiving the files
+     * @param baseName  file name prefix
+     * @return summary of the files written and the achieved throughput
+     * @throws IOException when the output cannot be written
+     */
+    ExportResult export(Format format, Path directory, String baseName) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(directory);
+        Map<String, long[]> applicationCounts = countApplications();
+        Map<String, long[]> companyRollup = new TreeMap<>();
+        List<Path> files = new ArrayList<>();
+        long[] rows = {0L};
+        long bytes;
+
+        if (format == Format.CSV) {
+            Path detailPath = directory.resolve(baseName + "_internships.csv");
+            Path companyPath = directory.resolve(baseName + "_companies.csv");
+            try (ChannelWriter details = new ChannelWriter(detailPath)) {
+                StringBuilder line = new StringBuilder(256);
+                details.write(DETAIL_HEADER).write(System.lineSeparator());
+                streamMatches(applicationCounts, companyRollup, (internship, total, accepted, filled) -> {
+                    line.setLength(0);
+                    appendCsvRow(line, internship, total, accepted, filled);
+                    details.write(line);
+                    rows[0]++;
+                });
+                bytes = details.close(true);
+            }
+            try (ChannelWriter companies = new ChannelWriter(companyPath)) {
+                companies.write(COMPANY_HEADER).write(System.lineSeparator());
+                StringBuilder line = new StringBuilder(128);
+                for (Map.Entry<String, long[]> entry : companyRollup.entrySet()) {
+                    long[] values = entry.getValue();
+                    line.setLength(0);
+                    appendCsvValue(line, entry.getKey());
+                    line.append(',').append(values[0]).append(',').append(values[1])
+                            .append(',').append(values[2]).append(',').append(values[3])
+                            .append(System.lineSeparator());
+                    companies.write(line);
+                }
+                bytes += companies.close(true);
+            }
+            files.add(detailPath);
+            files.add(companyPath);
+        } else {
+            Path jsonPath = directory.resolve(baseName + ".json");
+            try (ChannelWriter json = new ChannelWriter(jsonPath)) {
+                StringBuilder line = new StringBuilder(512);
+                json.write("{\"internships\":[");
+                streamMatches(applicationCounts, companyRollup, (internship, total, accepted, filled) -> {
+                    line.setLength(0);
+                    if (rows[0] > 0) {
+                        line.append(',');
+                    }
+                    line.append(System.lineSeparator());
+                    appendJsonRow(line, internship, total, accepted, filled);
+                    json.write(line);
+                    rows[0]++;
+                });
+                json.write("],").write(System.lineSeparator()).write("\"companies\":[");
+                boolean first = true;
+                for (Map.Entry<String, long[]> entry : companyRollup.entrySet()) {
+                    long[] values = entry.getValue();
+                    line.setLength(0);
+                    if (!first) {
+                        line.append(',');
+                    }
+                    first = false;
+                    line.append(System.lineSeparator()).append("{\"CompanyName\":");
+                    appendJsonString(line, entry.getKey());
+                    line.append(",\"Internships\":").append(values[0])
+                            .append(",\"TotalApplications\":").append(values[1])
+                            .append(",\"AcceptedApplications\":").append(values[2])
+                            .append(",\"FilledInternships\":").append(values[3]).append('}');
+                    json.write(line);
+                }
+                json.write("]}").write(System.lineSeparator());
+                bytes = json.close(true);
+            }
+            files.add(jsonPath);
+        }
+        return new ExportResult(files, rows[0], bytes, System.nanoTime() - start);
+    }
+
+    /**
+     * Counts total and accepted applications per internship in a single streaming pass.
+     *
+     * @return counters keyed by internship identifier ({@code [total, accepted]})
+     */
+    private Map<String, long[]> countApplications() {
+        Map<String, long[]> counts = new HashMap<>();
+        entityStore.forEach(APPLICATION_FILE, "Application", entity -> {
+            if (!(entity instanceof ApplicationEntity application)) {
+                return;
+            }
+            String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
+            if (internshipId == null) {
+                return;
+            }
+            long[] values = counts.computeIfAbsent(internshipId, ignored -> new long[2]);
+            values[0]++;
+            if ("ACCEPTED".equalsIgnoreCase(application.get(ApplicationEntity.ApplicationField.Status))) {
+                values[1]++;
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Streams internships through the filters, updating the company rollup and
+     * handing every match to the row sink.
+     */
+    private void streamMatches(Map<String, long[]> applicationCounts, Map<String, long[]> companyRollup, RowSink sink)
+            throws IOException {
+        IOException[] failure = {null};
+        entityStore.forEach(INTERNSHIP_FILE, "Internship", entity -> {
+            if (failure[0] != null || !(entity instanceof InternshipEntity internship)) {
+                return;
+            }
+            long[] counts = applicationCounts.getOrDefault(
+                    internship.get(InternshipEntity.InternshipField.InternshipID), new long[2]);
+            if (!filters.matchesInternship(internship, counts[0], counts[1])) {
+                return;
+            }
+            boolean filled = StaffReviewFilters.isFilled(internship, counts[1]);
+            String company = displayValue(internship.get(InternshipEntity.InternshipField.CompanyName));
+            long[] rollup = companyRollup.computeIfAbsent(company, ignored -> new long[4]);
+            rollup[0]++;
+            rollup[1] += counts[0];
+            rollup[2] += counts[1];
+            if (filled) {
+                rollup[3]++;
+            }
+            try {
+                sink.accept(internship, counts[0], counts[1], filled);
+            } catch (IOException ex) {
+                failure[0] = ex;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    private static void appendCsvRow(StringBuilder line, InternshipEntity internship, long total, long accepted, boolean filled) {
+        for (InternshipEntity.InternshipField field : DETAIL_FIELDS) {
+            appendCsvValue(line, internship.get(field));
+            line.append(',');
+        }
+        line.append(total).append(',').append(accepted).append(',')
+                .append(filled ? "Filled" : "Unfilled").append(System.lineSeparator());
+    }
+
+    private static void appendCsvValue(StringBuilder line, String value) {
+        String text = value == null ? "" : value;
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            line.append(text);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private static void appendJsonRow(StringBuilder line, InternshipEntity internship, long total, long accepted, boolean filled) {
+        line.append('{');
+        for (InternshipEntity.InternshipField field : InternshipEntity.InternshipField.values()) {
+            line.append('"').append(field.name()).append("\":");
+            appendJsonString(line, internship.get(field));
+            line.append(',');
+        }
+        line.append("\"TotalApplications\":").append(total)
+                .append(",\"AcceptedApplications\":").append(accepted)
+                .append(",\"Placement\":\"").append(filled ? "Filled" : "Unfilled").append("\"}");
+    }
+
+    private static void appendJsonString(StringBuilder line, String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+
+    private static String displayValue(String value) {
+        if (value == null || value.isBlank()) {
+            return "Unknown";
+        }
+        return value.trim();
+    }
+
+    /**
+     * Callback receiving each internship that passes the filters.
+     */
+    @FunctionalInterface
+    private interface RowSink {
+        void accept(InternshipEntity internship, long total, long accepted, boolean filled) throws IOException;
+    }
+
+    /**
+     * Outcome of an export run.
+     *
+     * @param files        files written
+     * @param rows         internship rows exported
+     * @param bytes        bytes written across all files
+     * @param elapsedNanos wall-clock time spent exporting
+     */
+    record ExportResult(List<Path> files, long rows, long bytes, long elapsedNanos) {
+
+        /**
+         * @return exported internship rows per second
+         */
+        double rowsPerSecond() {
+            return elapsedNanos == 0 ? rows : rows * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        /**
+         * @return elapsed time in milliseconds
+         */
+        double elapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Encodes text into a reusable direct buffer and drains it to a file channel
+     * whenever the buffer fills up.
+     */
+    private static final class ChannelWriter implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private long bytesWritten;
+        private boolean closed;
+
+        ChannelWriter(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        }
+
+        ChannelWriter write(CharSequence text) throws IOException {
+            CharBuffer chars = CharBuffer.wrap(text);
+            while (true) {
+                CoderResult result = encoder.encode(chars, buffer, false);
+                if (result.isOverflow()) {
+                    drain();
+                    continue;
+                }
+                if (result.isError()) {
+                    result.throwException();
+                }
+                return this;
+            }
+        }
+
+        /**
+         * Flushes pending bytes and closes the channel.
+         *
+         * @param flush {@code true} to flush the encoder before closing
+         * @return total bytes written to the channel
+         */
+        long close(boolean flush) throws IOException {
+            if (closed) {
+                return bytesWritten;
+            }
+            closed = true;
+            try {
+                if (flush) {
+                    encoder.encode(CharBuffer.allocate(0), buffer, true);
+                    encoder.flush(buffer);
+                    drain();
+                }
+            } finally {
+                channel.close();
+            }
+            return bytesWritten;
+        }
+
+        @Override
+        public void close() throws IOException {
+            close(false);
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                bytesWritten += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
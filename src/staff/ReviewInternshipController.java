@@ -1,6 +1,7 @@
 package staff;
 
 import common.*;
+import exceptions.ServiceException;
 import java.util.*;
 
 /**
@@ -9,12 +10,6 @@ import java.util.*;
 public class ReviewInternshipController extends Controller {
     private final ReviewInternshipDisplay display;
     private final StaffReviewFilters filters;
-    private static final String PENDING_INTERNSHIP_FILE =
-        PathResolver.resource("pending_internship_opportunities.csv");
-    private static final String INTERNSHIP_FILE =
-        PathResolver.resource("internship_opportunities.csv");
-    private static final String APPLICATION_FILE =
-        PathResolver.resource("internship_applications.csv");
 
     /**
      * Creates a controller responsible for internship submission review.
@@ -29,7 +24,6 @@ public class ReviewInternshipController extends Controller {
         super(router, scanner, entityStore);
         this.display = new ReviewInternshipDisplay(this);
         this.filters = filters;
-        router.push(this);
     }
 
     /**
@@ -38,19 +32,8 @@ public class ReviewInternshipController extends Controller {
      */
     @Override
     public void initialize() {
-        List<Entity> pendingRaw = entityStore.loadAll(PENDING_INTERNSHIP_FILE, "Internship");
-        StaffReviewFilters.ApplicationStats stats = loadApplicationStats();
-        List<InternshipEntity> pending = new ArrayList<>();
-        for (Entity entity : pendingRaw) {
-            if (entity instanceof InternshipEntity internship) {
-                String id = internship.get(InternshipEntity.InternshipField.InternshipID);
-                long totalApps = stats.totalFor(id);
-                long acceptedApps = stats.acceptedFor(id);
-                if (filters.matchesInternship(internship, totalApps, acceptedApps)) {
-                    pending.add(internship);
-                }
-            }
-        }
+        StaffReviewService service = new StaffReviewService(entityStore);
+        List<InternshipEntity> pending = service.pendingInternships(filters);
         if (pending.isEmpty()) {
             System.out.println("No pending internships match the current filters.");
             router.pop();
@@ -58,48 +41,50 @@ public class ReviewInternshipController extends Controller {
         }
         display.print_menu();
         display.print_list(new ArrayList<>(pending));
-        String internshipId = display.get_user_input().trim();
-        InternshipEntity internshipEntity = pending.stream()
-            .filter(internship -> internship.get(InternshipEntity.InternshipField.InternshipID).equals(internshipId))
-            .findFirst()
-            .orElse(null);
+        List<InternshipEntity> selected = BulkSelection.select(display.get_user_input(), pending,
+            internship -> internship.get(InternshipEntity.InternshipField.InternshipID));
 
-        if (internshipEntity == null) {
+        if (selected == null || selected.isEmpty()) {
             System.out.println("Invalid ID. Returning to previous menu.");
             router.pop();
             return;
         }
+        if (selected.size() > 1) {
+            reviewInBulk(service, selected);
+            router.pop();
+            return;
+        }
+        InternshipEntity internshipEntity = selected.get(0);
+        String internshipId = internshipEntity.get(InternshipEntity.InternshipField.InternshipID);
 
         display.print_entry(internshipEntity);
         String choice = display.get_user_input().trim().toUpperCase();
 
-        if (choice.equals("A")) entityStore.append(INTERNSHIP_FILE, internshipEntity);
-        if (choice.equals("A") || choice.equals("R"))
-            entityStore.delete(PENDING_INTERNSHIP_FILE, internshipId, "Internship");
+        if (choice.equals("A") || choice.equals("R")) {
+            try {
+                service.decideInternship(internshipId, choice.equals("A"));
+            } catch (ServiceException ex) {
+                System.out.println(ex.getMessage());
+            }
+        }
 
         System.out.println("\nReview complete.");
         router.pop();
     }
 
     /**
-     * Builds aggregate application statistics used by the filters.
-     *
-     * @return statistics bundle keyed by internship identifier
+     * Applies one decision to every selected internship in a single batched commit.
      */
-    private StaffReviewFilters.ApplicationStats loadApplicationStats() {
-        List<Entity> applications = entityStore.loadAll(APPLICATION_FILE, "Application");
-        Map<String, Long> total = new HashMap<>();
-        Map<String, Long> accepted = new HashMap<>();
-        for (Entity entity : applications) {
-            if (entity instanceof ApplicationEntity application) {
-                String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
-                total.merge(internshipId, 1L, Long::sum);
-                if ("ACCEPTED".equalsIgnoreCase(application.get(ApplicationEntity.ApplicationField.Status))) {
-                    accepted.merge(internshipId, 1L, Long::sum);
-                }
-            }
+    private void reviewInBulk(StaffReviewService service, List<InternshipEntity> selected) {
+        display.print_bulk_prompt(selected.size());
+        String choice = display.get_user_input().trim().toUpperCase();
+        if (!choice.equals("A") && !choice.equals("R")) {
+            System.out.println("No changes made.");
+            return;
         }
-        return new StaffReviewFilters.ApplicationStats(total, accepted);
+        List<String> ids = new ArrayList<>(selected.size());
+        selected.forEach(internship -> ids.add(internship.get(InternshipEntity.InternshipField.InternshipID)));
+        display.print_bulk_result(choice.equals("A"), service.decideInternships(ids, choice.equals("A")));
     }
 }
 
@@ -140,6 +125,30 @@ class ReviewInternshipDisplay extends Display {
      */
     public void print_list(List<Entity> list) {
         list.forEach(System.out::println);
-        System.out.print("Enter Internship ID to approve/reject: ");
+        System.out.print("Enter Internship ID to approve/reject (several IDs, row ranges or ALL for bulk): ");
+    }
+
+    /**
+     * Asks for the decision applied to every selected internship.
+     *
+     * @param count number of selected internships
+     */
+    public void print_bulk_prompt(int count) {
+        System.out.println("\n" + count + " internships selected.");
+        System.out.print("Approve all (A) / Reject all (R) / Cancel (any other key): ");
+    }
+
+    /**
+     * Summarises a bulk decision and its throughput.
+     *
+     * @param approved whether the internships were approved
+     * @param result   outcome of the bulk decision
+     */
+    public void print_bulk_result(boolean approved, StaffReviewService.BulkResult result) {
+        System.out.printf("%n%s %d internship(s) in %.1f ms (%.0f per second).%n",
+                approved ? "Approved" : "Rejected", result.decided(), result.elapsedMillis(), result.perSecond());
+        if (result.missing() > 0) {
+            System.out.println(result.missing() + " internship(s) were no longer pending and were skipped.");
+        }
     }
 }
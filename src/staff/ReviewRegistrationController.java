@@ -1,6 +1,7 @@
 package staff;
 
 import common.*;
+import exceptions.ServiceException;
 import java.util.*;
 
 /**
@@ -9,12 +10,6 @@ import java.util.*;
 public class ReviewRegistrationController extends Controller {
     private final ReviewRegistrationDisplay display;
     private final StaffReviewFilters filters;
-    private static final String PENDING_CR_FILE =
-        PathResolver.resource("pending_cr.csv");
-    private static final String CR_FILE =
-        PathResolver.resource("cr.csv");
-    private static final String USER_FILE =
-        PathResolver.resource("users.csv");
     /**
      * Creates a controller for processing pending registrations.
      *
@@ -28,7 +23,6 @@ public class ReviewRegistrationController extends Controller {
         super(router, scanner, entityStore);
         this.display = new ReviewRegistrationDisplay(this);
         this.filters = filters;
-        router.push(this);
     }
 
     /**
@@ -37,13 +31,8 @@ public class ReviewRegistrationController extends Controller {
      */
     @Override
     public void initialize() {
-        List<Entity> pendingRaw = entityStore.loadAll(PENDING_CR_FILE, "CR");
-        List<CREntity> pending = new ArrayList<>();
-        for (Entity entity : pendingRaw) {
-            if (entity instanceof CREntity cr && filters.matchesRegistration(cr)) {
-                pending.add(cr);
-            }
-        }
+        StaffReviewService service = new StaffReviewService(entityStore);
+        List<CREntity> pending = service.pendingRegistrations(filters);
         if (pending.isEmpty()) {
             System.out.println("No pending registrations match the current filters.");
             router.pop();
@@ -51,7 +40,7 @@ public class ReviewRegistrationController extends Controller {
         }
         display.print_menu();
         display.print_list(pending);
-        String selection = display.get_user_input().trim();
+        String selection = display.ask_selection().trim();
 
         if (selection.equalsIgnoreCase("B")) {
             System.out.println("Returning to previous menu.");
@@ -59,27 +48,20 @@ public class ReviewRegistrationController extends Controller {
             return;
         }
 
-        int index;
-        try {
-            index = Integer.parseInt(selection);
-        } catch (NumberFormatException ex) {
+        List<CREntity> chosen = BulkSelection.select(selection, pending, cr -> cr.get(CREntity.CRField.CRID));
+        if (chosen == null || chosen.isEmpty()) {
             System.out.println("Invalid selection. Returning to previous menu.");
             router.pop();
             return;
         }
-
-        if (index < 1 || index > pending.size()) {
-            System.out.println("Invalid selection. Returning to previous menu.");
+        if (chosen.size() > 1) {
+            reviewInBulk(service, chosen);
             router.pop();
             return;
         }
 
-        CREntity selected = pending.get(index - 1);
+        CREntity selected = chosen.get(0);
         String crId = selected.get(CREntity.CRField.CRID);
-        Entity userEntityToAppend = new UserEntity(
-            selected.getArrayValueByIndex(0),
-            selected.getArrayValueByIndex(1),
-            "CR");
         display.print_entry(selected);
         String choice = display.get_user_input().trim().toUpperCase();
 
@@ -95,16 +77,29 @@ public class ReviewRegistrationController extends Controller {
             return;
         }
 
-        if (choice.equals("A")) {
-            entityStore.append(CR_FILE, selected);
-            entityStore.append(USER_FILE, userEntityToAppend);
-        }
-        if (choice.equals("A") || choice.equals("R")){
-            entityStore.delete(PENDING_CR_FILE, crId, "CR");
+        try {
+            service.decideRegistration(crId, choice.equals("A"));
+        } catch (ServiceException ex) {
+            System.out.println(ex.getMessage());
         }
         System.out.println("\nReview complete.");
         router.pop();
     }
+
+    /**
+     * Applies one decision to every selected registration in a single batched commit.
+     */
+    private void reviewInBulk(StaffReviewService service, List<CREntity> chosen) {
+        display.print_bulk_prompt(chosen.size());
+        String choice = display.get_user_input().trim().toUpperCase();
+        if (!choice.equals("A") && !choice.equals("R")) {
+            System.out.println("Returning to previous menu.");
+            return;
+        }
+        List<String> ids = new ArrayList<>(chosen.size());
+        chosen.forEach(cr -> ids.add(cr.get(CREntity.CRField.CRID)));
+        display.print_bulk_result(choice.equals("A"), service.decideRegistrations(ids, choice.equals("A")));
+    }
 }
 
 /**
@@ -113,6 +108,20 @@ public class ReviewRegistrationController extends Controller {
 class ReviewRegistrationDisplay extends Display {
     private static final String LIST_ROW_FORMAT = "%-4s %-12s %-20s %-25s %-20s %-30s%n";
 
+    private final PagedRenderer<CREntity> renderer = new PagedRenderer<>(
+            System.lineSeparator() + "Pending Company Representatives:" + System.lineSeparator()
+                    + String.format(LIST_ROW_FORMAT, "No.", "CR ID", "Name", "Company", "Position", "Email"),
+            "", PagedRenderer.DEFAULT_PAGE_SIZE,
+            (out, number, cr) -> out.format(
+                LIST_ROW_FORMAT,
+                number + ".",
+                cr.get(CREntity.CRField.CRID),
+                cr.get(CREntity.CRField.Name),
+                cr.get(CREntity.CRField.CompanyName),
+                cr.get(CREntity.CRField.Position),
+                cr.get(CREntity.CRField.Email)
+            ));
+
     /**
      * Creates a display facade for registration review.
      *
@@ -160,25 +169,48 @@ class ReviewRegistrationDisplay extends Display {
 
     }
     /**
-     * Shows the list of pending registrations and prompts for selection.
+     * Shows the first page of pending registrations. Row numbers count across pages, so
+     * selections and ranges always refer to the whole queue.
      *
      * @param entityList registrations available for review
      */
     public void print_list(List<CREntity> entityList){
-        System.out.println("\nPending Company Representatives:");
-        System.out.printf(LIST_ROW_FORMAT, "No.", "CR ID", "Name", "Company", "Position", "Email");
-        for (int i = 0; i < entityList.size(); i++) {
-            CREntity cr = entityList.get(i);
-            System.out.printf(
-                LIST_ROW_FORMAT,
-                (i + 1) + ".",
-                cr.get(CREntity.CRField.CRID),
-                cr.get(CREntity.CRField.Name),
-                cr.get(CREntity.CRField.CompanyName),
-                cr.get(CREntity.CRField.Position),
-                cr.get(CREntity.CRField.Email)
-            );
+        renderer.start(PagedRenderer.fromList(entityList));
+    }
+
+    /**
+     * Prompts for the registrations to review, turning pages when N or P is entered.
+     *
+     * @return selection entered by the reviewer
+     */
+    public String ask_selection() {
+        return renderer.select(() -> {
+            System.out.print("\nEnter number to APPROVE/REJECT (several numbers, ranges such as 1-20 or ALL for bulk) or B to go back: ");
+            return get_user_input();
+        });
+    }
+
+    /**
+     * Asks for the decision applied to every selected registration.
+     *
+     * @param count number of selected registrations
+     */
+    public void print_bulk_prompt(int count) {
+        System.out.println("\n" + count + " registrations selected.");
+        System.out.print("Approve all (A) / Reject all (R) / Back (B): ");
+    }
+
+    /**
+     * Summarises a bulk decision and its throughput.
+     *
+     * @param approved whether the registrations were approved
+     * @param result   outcome of the bulk decision
+     */
+    public void print_bulk_result(boolean approved, StaffReviewService.BulkResult result) {
+        System.out.printf("%n%s %d registration(s) in %.1f ms (%.0f per second).%n",
+                approved ? "Approved" : "Rejected", result.decided(), result.elapsedMillis(), result.perSecond());
+        if (result.missing() > 0) {
+            System.out.println(result.missing() + " registration(s) were no longer pending and were skipped.");
         }
-        System.out.print("\nEnter number to APPROVE/REJECT or B to go back: ");
     }
 }
\ No newline at end of file
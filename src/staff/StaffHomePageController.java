@@ -21,12 +21,11 @@ public class StaffHomePageController extends StaffController {
     private final StaffReviewFilters filters;
 
 
-    public StaffHomePageController(Router router, Scanner scanner, EntityStore entityStore, String staffID) throws InvalidStaffIDException {
+    public StaffHomePageController(Router router, Scanner scanner, EntityStore entityStore, String staffID) {
         super(router, scanner, entityStore, staffID);
         this.filters = new StaffReviewFilters();
         this.staffDisplay = new StaffHomeDisplay(this);
         this.controllerFactory = createControllerFactory();
-        router.replace(this); // swap to this controller
     }
 
     protected ControllerFactory createControllerFactory() {
@@ -63,7 +62,7 @@ public class StaffHomePageController extends StaffController {
                 System.out.println("All staff review filters cleared.");
                 continue;
             }
-            if ("8".equals(choice)) { // Logout
+            if ("13".equals(choice)) { // Logout
                 System.out.println("Logging out...");
                 router.pop();
                 return;
@@ -71,6 +70,9 @@ public class StaffHomePageController extends StaffController {
 
             try {
                 controllerFactory.createController(choice);
+                if (!router.isActive(this)) {
+                    return; // the router runs the chosen page, then re-initializes this menu
+                }
             } catch (Exception ex) {
                 System.out.println("Invalid option. Try again.");
             }
@@ -400,7 +402,12 @@ class StaffHomeDisplay extends Display {
         System.out.println("5. Clear review filters");
         System.out.println("6. Generate internship report");
         System.out.println("7. Change password");
-        System.out.println("8. Logout");
+        System.out.println("8. Export internship report (CSV/JSON)");
+        System.out.println("9. View application trends");
+        System.out.println("10. View application funnel");
+        System.out.println("11. View most-applied internships and companies");
+        System.out.println("12. View login security metrics");
+        System.out.println("13. Logout");
         System.out.print("Select an option: ");
     }
 }
\ No newline at end of file
@@ -1,51 +1,35 @@
 package staff;
 
 import common.*;
-import exceptions.*;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Scanner;
 
+/**
+ * Registry that maps staff home-page menu choices to controllers. Each controller is
+ * built on first selection and reused for the rest of the session.
+ */
 public class StaffHomeRegistry implements ControllerFactory {
 
-    private final Map<String, ControllerSupplier> keyMap = new HashMap<>();
     private final Router router;
-    private final Scanner scanner;
-    private final EntityStore store;
-    private final String staffID;
-    private final StaffReviewFilters filters;
+    private final ControllerCache controllers = new ControllerCache();
 
     public StaffHomeRegistry(Router router, Scanner scanner, EntityStore store, String staffID, StaffReviewFilters filters) {
         this.router = router;
-        this.scanner = scanner;
-        this.store = store;
-        this.staffID = staffID;
-        this.filters = filters;
 
-        keyMap.put("1", () -> new ReviewRegistrationController(router, scanner, store, staffID, filters));
-        keyMap.put("2", () -> new ReviewInternshipController(router, scanner, store, staffID, filters));
-        keyMap.put("3", () -> new ReviewWithdrawalController(router, scanner, store, staffID, filters));
-        keyMap.put("6", () -> new InternshipReportController(router, scanner, store, staffID, filters));
-        keyMap.put("7", () -> new PasswordChanger(router, scanner, store, staffID));
+        controllers.register("1", () -> new ReviewRegistrationController(router, scanner, store, staffID, filters));
+        controllers.register("2", () -> new ReviewInternshipController(router, scanner, store, staffID, filters));
+        controllers.register("3", () -> new ReviewWithdrawalController(router, scanner, store, staffID, filters));
+        controllers.register("6", () -> new InternshipReportController(router, scanner, store, staffID, filters));
+        controllers.register("7", () -> new PasswordChanger(router, scanner, store, staffID));
+        controllers.register("8", () -> new ReportExportController(router, scanner, store, staffID, filters));
+        controllers.register("9", () -> new ApplicationTrendsController(router, scanner, store));
+        controllers.register("10", () -> new ApplicationFunnelController(router, scanner, store));
+        controllers.register("11", () -> new DemandLeaderboardController(router, scanner, store));
+        controllers.register("12", () -> new LoginMetricsController(router, scanner, store));
     }
 
     @Override
     public void createController(String key) {
-        ControllerSupplier supplier = keyMap.get(key);
-        if (supplier == null) {
-            throw new IllegalArgumentException("No controller mapped for key: " + key);
-        }
-
-        try {
-            supplier.create();
-        } catch (InvalidStaffIDException e) {
-            e.printStackTrace();
-        }
-    }
-
-    @FunctionalInterface
-    private interface ControllerSupplier {
-        Controller create() throws InvalidStaffIDException;
+        router.push(controllers.get(key));
     }
 }
@@ -3,10 +3,9 @@ package staff;
 import common.ApplicationEntity;
 import common.CREntity;
 import common.InternshipEntity;
+import common.ValueCache;
 import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
 import java.util.LinkedHashSet;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -177,15 +176,53 @@ public final class StaffReviewFilters {
         if (entity == null) {
             return false;
         }
-        boolean statusOk = statuses.isEmpty() || statuses.contains(normalize(entity.get(InternshipEntity.InternshipField.Status)));
-    boolean majorOk = majors.isEmpty() || containsAnyToken(entity.get(InternshipEntity.InternshipField.PreferredMajor), majors);
-        boolean levelOk = levels.isEmpty() || levels.contains(normalize(entity.get(InternshipEntity.InternshipField.Level)));
-        boolean companyOk = companies.isEmpty() || companies.contains(normalize(entity.get(InternshipEntity.InternshipField.CompanyName)));
-        boolean openDateOk = dateMatches(entity.get(InternshipEntity.InternshipField.OpenDate), openDateRange);
-        boolean closeDateOk = dateMatches(entity.get(InternshipEntity.InternshipField.CloseDate), closeDateRange);
-        boolean placementOk = placementStatus.matches(isFilled(entity, acceptedApps));
+        boolean dimensionsOk = matchesInternshipDimensions(
+                entity.get(InternshipEntity.InternshipField.Status),
+                entity.get(InternshipEntity.InternshipField.PreferredMajor),
+                entity.get(InternshipEntity.InternshipField.Level),
+                entity.get(InternshipEntity.InternshipField.CompanyName),
+                entity.openDate(),
+                entity.closeDate(),
+                isFilled(entity, acceptedApps));
         boolean minOk = meetsMinimumApplications(totalApps);
-        return statusOk && majorOk && levelOk && companyOk && openDateOk && closeDateOk && placementOk && minOk;
+        return dimensionsOk && minOk;
+    }
+
+    /**
+     * Evaluates every internship filter that depends only on descriptive attributes,
+     * i.e. everything except the minimum application count. Pre-aggregated report
+     * cells carry exactly these attributes, so they can be matched without the rows.
+     *
+     * @param status    raw internship status
+     * @param major     raw preferred major text
+     * @param level     raw internship level
+     * @param company   raw company name
+     * @param openDate  parsed opening date, {@code null} when missing or invalid
+     * @param closeDate parsed closing date, {@code null} when missing or invalid
+     * @param filled    whether the internship is considered filled
+     * @return {@code true} when the attributes satisfy the filters
+     */
+    public boolean matchesInternshipDimensions(String status, String major, String level, String company,
+                                               LocalDate openDate, LocalDate closeDate, boolean filled) {
+        boolean statusOk = statuses.isEmpty() || statuses.contains(normalize(status));
+        boolean majorOk = majors.isEmpty() || containsAnyToken(major, majors);
+        boolean levelOk = levels.isEmpty() || levels.contains(normalize(level));
+        boolean companyOk = companies.isEmpty() || companies.contains(normalize(company));
+        boolean openDateOk = dateMatches(openDate, openDateRange);
+        boolean closeDateOk = dateMatches(closeDate, closeDateRange);
+        boolean placementOk = placementStatus.matches(filled);
+        return statusOk && majorOk && levelOk && companyOk && openDateOk && closeDateOk && placementOk;
+    }
+
+    /**
+     * Indicates whether the filters can be answered from per-attribute aggregates.
+     * The minimum application threshold applies to individual internships, so it
+     * always requires a scan of the underlying rows.
+     *
+     * @return {@code true} when no per-internship threshold is active
+     */
+    public boolean isAggregatable() {
+        return minApplications == null;
     }
 
     /**
@@ -218,10 +255,10 @@ public final class StaffReviewFilters {
             if (!companies.isEmpty() && !companies.contains(normalize(internship.get(InternshipEntity.InternshipField.CompanyName)))) {
                 return false;
             }
-            if (!dateMatches(internship.get(InternshipEntity.InternshipField.OpenDate), openDateRange)) {
+            if (!dateMatches(internship.openDate(), openDateRange)) {
                 return false;
             }
-            if (!dateMatches(internship.get(InternshipEntity.InternshipField.CloseDate), closeDateRange)) {
+            if (!dateMatches(internship.closeDate(), closeDateRange)) {
                 return false;
             }
             if (!placementStatus.matches(isFilled(internship, acceptedApps))) {
@@ -254,25 +291,34 @@ public final class StaffReviewFilters {
         return false;
     }
 
-    @SuppressWarnings("RedundantIfStatement")
     private boolean dateMatches(String value, DateRange range) {
         if (range == null || (range.start == null && range.end == null)) {
             return true;
         }
-        if (value == null || value.isBlank()) {
-            return false;
+        return dateMatches(ValueCache.date(value), range);
+    }
+
+    @SuppressWarnings("RedundantIfStatement")
+    private boolean dateMatches(LocalDate date, DateRange range) {
+        if (range == null || (range.start == null && range.end == null)) {
+            return true;
         }
-        try {
-            LocalDate date = LocalDate.parse(value.trim());
-            boolean afterStart = range.start == null || !date.isBefore(range.start);
-            boolean beforeEnd = range.end == null || !date.isAfter(range.end);
-            return afterStart && beforeEnd;
-        } catch (DateTimeParseException ex) {
+        if (date == null) {
             return false;
         }
+        boolean afterStart = range.start == null || !date.isBefore(range.start);
+        boolean beforeEnd = range.end == null || !date.isAfter(range.end);
+        return afterStart && beforeEnd;
     }
 
-    private boolean isFilled(InternshipEntity internship, long acceptedCount) {
+    /**
+     * Determines whether an internship counts as filled given its accepted applications.
+     *
+     * @param internship    internship under evaluation
+     * @param acceptedCount number of accepted applications
+     * @return {@code true} when the internship is filled
+     */
+    static boolean isFilled(InternshipEntity internship, long acceptedCount) {
         String slotsValue = internship.get(InternshipEntity.InternshipField.Slots);
         try {
             int slots = Integer.parseInt(slotsValue.trim());
@@ -293,7 +339,7 @@ public final class StaffReviewFilters {
     }
 
     private String normalize(String value) {
-        return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+        return ValueCache.upper(value);
     }
 
     /**
@@ -0,0 +1,265 @@
+package staff;
+
+import common.*;
+import exceptions.ServiceException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Staff review queues (pending internships, withdrawal requests and company
+ * representative registrations) and the approve/reject decisions on them. Shared by
+ * the console review controllers and the HTTP API.
+ */
+public class StaffReviewService {
+
+    private static final String PENDING_INTERNSHIP_FILE = PathResolver.resource("pending_internship_opportunities.csv");
+    private static final String PENDING_WITHDRAWAL_FILE = PathResolver.resource("pending_withdrawal.csv");
+    private static final String PENDING_CR_FILE = PathResolver.resource("pending_cr.csv");
+    private static final String INTERNSHIP_FILE = PathResolver.resource("internship_opportunities.csv");
+    private static final String APPLICATION_FILE = PathResolver.resource("internship_applications.csv");
+    private static final String CR_FILE = PathResolver.resource("cr.csv");
+    private static final String USER_FILE = PathResolver.resource("users.csv");
+
+    private final EntityStore entityStore;
+
+    /**
+     * Creates the service over the supplied store.
+     *
+     * @param entityStore persistence gateway
+     */
+    public StaffReviewService(EntityStore entityStore) {
+        if (entityStore == null) {
+            throw new IllegalArgumentException("EntityStore is required");
+        }
+        this.entityStore = entityStore;
+    }
+
+    /**
+     * Lists submitted internships awaiting review that pass the filters.
+     *
+     * @param filters staff review filters
+     * @return pending internships in submission order
+     */
+    public List<InternshipEntity> pendingInternships(StaffReviewFilters filters) {
+        StaffReviewFilters.ApplicationStats stats = loadApplicationStats();
+        List<InternshipEntity> pending = new ArrayList<>();
+        entityStore.forEach(PENDING_INTERNSHIP_FILE, "Internship", entity -> {
+            if (entity instanceof InternshipEntity internship) {
+                String id = internship.get(InternshipEntity.InternshipField.InternshipID);
+                if (filters.matchesInternship(internship, stats.totalFor(id), stats.acceptedFor(id))) {
+                    pending.add(internship);
+                }
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * Publishes or discards a pending internship.
+     *
+     * @param internshipId pending internship identifier
+     * @param approve      {@code true} to publish, {@code false} to reject
+     * @throws ServiceException when no such internship is pending
+     */
+    public void decideInternship(String internshipId, boolean approve) throws ServiceException {
+        Entity internship = entityStore.findById(PENDING_INTERNSHIP_FILE, internshipId, "Internship");
+        if (internship == null) {
+            throw new ServiceException(ServiceException.Reason.NOT_FOUND, "Invalid ID.");
+        }
+        if (approve) {
+            entityStore.append(INTERNSHIP_FILE, internship);
+        }
+        entityStore.delete(PENDING_INTERNSHIP_FILE, internshipId, "Internship");
+    }
+
+    /**
+     * Publishes or discards many pending internships at once, with one write to the
+     * pending queue and, when approving, one write to the published listings.
+     *
+     * @param internshipIds pending internship identifiers
+     * @param approve       {@code true} to publish, {@code false} to reject
+     * @return counts and timing of the operation
+     */
+    public BulkResult decideInternships(Collection<String> internshipIds, boolean approve) {
+        long start = System.nanoTime();
+        Set<String> wanted = new HashSet<>(internshipIds);
+        List<Entity> selected = new ArrayList<>();
+        entityStore.forEach(PENDING_INTERNSHIP_FILE, "Internship", entity -> {
+            if (wanted.remove(entity.getArrayValueByIndex(0))) {
+                selected.add(entity);
+            }
+        });
+        if (approve) {
+            entityStore.appendAll(INTERNSHIP_FILE, selected);
+        }
+        entityStore.deleteAll(PENDING_INTERNSHIP_FILE, idsOf(selected), "Internship");
+        return new BulkResult(selected.size(), wanted.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Lists withdrawal requests awaiting review that pass the filters.
+     *
+     * @param filters staff review filters
+     * @return pending withdrawal requests in submission order
+     */
+    public List<ApplicationEntity> pendingWithdrawals(StaffReviewFilters filters) {
+        Map<String, InternshipEntity> internships = new HashMap<>();
+        entityStore.forEach(INTERNSHIP_FILE, "Internship", entity -> {
+            if (entity instanceof InternshipEntity internship) {
+                internships.put(internship.get(InternshipEntity.InternshipField.InternshipID), internship);
+            }
+        });
+        StaffReviewFilters.ApplicationStats stats = loadApplicationStats();
+        List<ApplicationEntity> pending = new ArrayList<>();
+        entityStore.forEach(PENDING_WITHDRAWAL_FILE, "Application", entity -> {
+            if (entity instanceof ApplicationEntity application) {
+                String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
+                if (filters.matchesWithdrawal(application, internships.get(internshipId),
+                        stats.totalFor(internshipId), stats.acceptedFor(internshipId))) {
+                    pending.add(application);
+                }
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * Approves a withdrawal, releasing any slot the application held, or rejects it.
+     * The request leaves the queue once decided; an approval that fails to withdraw the
+     * application keeps it queued so staff can retry.
+     *
+     * @param applicationId application whose withdrawal was requested
+     * @param approve       {@code true} to withdraw the application
+     * @throws ServiceException when no such request is pending, or with
+     *                          {@link ServiceException.Reason#CONFLICT} when the withdrawal failed
+     */
+    public void decideWithdrawal(String applicationId, boolean approve) throws ServiceException {
+        if (entityStore.findById(PENDING_WITHDRAWAL_FILE, applicationId, "Application") == null) {
+            throw new ServiceException(ServiceException.Reason.NOT_FOUND, "Invalid ID.");
+        }
+        if (approve && !new ApplicationHandler(entityStore).withdrawApplication(applicationId)) {
+            throw new ServiceException(ServiceException.Reason.CONFLICT,
+                    "The application could not be withdrawn; the request stays queued. Please try again.");
+        }
+        entityStore.delete(PENDING_WITHDRAWAL_FILE, applicationId, "Application");
+    }
+
+    /**
+     * Lists company representative registrations awaiting review that pass the filters.
+     *
+     * @param filters staff review filters
+     * @return pending registrations in submission order
+     */
+    public List<CREntity> pendingRegistrations(StaffReviewFilters filters) {
+        List<CREntity> pending = new ArrayList<>();
+        entityStore.forEach(PENDING_CR_FILE, "CR", entity -> {
+            if (entity instanceof CREntity cr && filters.matchesRegistration(cr)) {
+                pending.add(cr);
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * Activates or discards a company representative registration.
+     *
+     * @param crId    representative identifier
+     * @param approve {@code true} to create the account
+     * @throws ServiceException when no such registration is pending
+     */
+    public void decideRegistration(String crId, boolean approve) throws ServiceException {
+        Entity registration = entityStore.findById(PENDING_CR_FILE, crId, "CR");
+        if (!(registration instanceof CREntity cr)) {
+            throw new ServiceException(ServiceException.Reason.NOT_FOUND, "Invalid selection.");
+        }
+        if (approve) {
+            entityStore.append(CR_FILE, cr);
+            entityStore.append(USER_FILE, new UserEntity(cr.getArrayValueByIndex(0), cr.getArrayValueByIndex(1), "CR"));
+        }
+        entityStore.delete(PENDING_CR_FILE, crId, "CR");
+    }
+
+    /**
+     * Activates or discards many registrations at once, with one write to the pending
+     * queue and, when approving, one write each to the representative and user files.
+     *
+     * @param crIds   representative identifiers
+     * @param approve {@code true} to create the accounts
+     * @return counts and timing of the operation
+     */
+    public BulkResult decideRegistrations(Collection<String> crIds, boolean approve) {
+        long start = System.nanoTime();
+        Set<String> wanted = new HashSet<>(crIds);
+        List<CREntity> selected = new ArrayList<>();
+        entityStore.forEach(PENDING_CR_FILE, "CR", entity -> {
+            if (entity instanceof CREntity cr && wanted.remove(cr.get(CREntity.CRField.CRID))) {
+                selected.add(cr);
+            }
+        });
+        if (approve) {
+            List<UserEntity> users = new ArrayList<>(selected.size());
+            for (CREntity cr : selected) {
+                users.add(new UserEntity(cr.getArrayValueByIndex(0), cr.getArrayValueByIndex(1), "CR"));
+            }
+            entityStore.appendAll(CR_FILE, selected);
+            entityStore.appendAll(USER_FILE, users);
+        }
+        entityStore.deleteAll(PENDING_CR_FILE, idsOf(selected), "CR");
+        return new BulkResult(selected.size(), wanted.size(), System.nanoTime() - start);
+    }
+
+    private static List<String> idsOf(List<? extends Entity> entities) {
+        List<String> ids = new ArrayList<>(entities.size());
+        entities.forEach(entity -> ids.add(entity.getArrayValueByIndex(0)));
+        return ids;
+    }
+
+    /**
+     * Builds aggregate application statistics used by the filters.
+     *
+     * @return statistics bundle keyed by internship identifier
+     */
+    StaffReviewFilters.ApplicationStats loadApplicationStats() {
+        Map<String, Long> total = new HashMap<>();
+        Map<String, Long> accepted = new HashMap<>();
+        entityStore.forEach(APPLICATION_FILE, "Application", entity -> {
+            if (entity instanceof ApplicationEntity application) {
+                String internshipId = application.get(ApplicationEntity.ApplicationField.InternshipID);
+                total.merge(internshipId, 1L, Long::sum);
+                if ("ACCEPTED".equalsIgnoreCase(application.get(ApplicationEntity.ApplicationField.Status))) {
+                    accepted.merge(internshipId, 1L, Long::sum);
+                }
+            }
+        });
+        return new StaffReviewFilters.ApplicationStats(total, accepted);
+    }
+
+    /**
+     * Outcome of a bulk decision.
+     *
+     * @param decided      items approved or rejected
+     * @param missing      requested items that were no longer pending
+     * @param elapsedNanos wall-clock time of the operation
+     */
+    public record BulkResult(int decided, int missing, long elapsedNanos) {
+
+        /**
+         * @return elapsed time in milliseconds
+         */
+        public double elapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+
+        /**
+         * @return decisions committed per second
+         */
+        public double perSecond() {
+            return elapsedNanos == 0 ? 0.0 : decided * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+}
@@ -10,8 +10,6 @@ import java.util.*;
 public class AcceptOfferController extends StudentController {
 
     private final AcceptOfferDisplay display;
-    private static final String APPLICATION_FILE =
-        PathResolver.resource("internship_applications.csv");
 
     /**
      * Creates a controller that lets a student accept internship offers.
@@ -19,13 +17,11 @@ public class AcceptOfferController extends StudentController {
      * @param router    router managing navigation
      * @param scanner   shared console input
      * @param studentID identifier for the logged-in student
-     * @throws InvalidStudentIDException when {@code studentID} cannot be resolved
      */
     @SuppressWarnings("LeakingThisInConstructor")
-    public AcceptOfferController(Router router, Scanner scanner, EntityStore entityStore, String studentID) throws InvalidStudentIDException {
+    public AcceptOfferController(Router router, Scanner scanner, EntityStore entityStore, String studentID) {
         super(router, scanner, entityStore, studentID);
         this.display = new AcceptOfferDisplay(this);
-        router.push(this);
     }
 
     /**
@@ -34,20 +30,8 @@ public class AcceptOfferController extends StudentController {
      */
     @Override
     public void initialize() {
-        StudentEntity thisStudent = StudentFilterService.loadStudent(entityStore, studentID);
-        if (thisStudent == null) {
-            System.err.println("This student does not exist");
-            router.pop();
-            return;
-        }
-        List<Entity> applications = entityStore.loadAll(APPLICATION_FILE, "Application");
-        List<Entity> offers = new ArrayList<>();
-
-        for (Entity e : applications) {
-            if (e.getArrayValueByIndex(1).equals(userID) && e.getArrayValueByIndex(3).equalsIgnoreCase("Approved")) {
-                offers.add(e);
-            }
-        }
+        ApplicationService applications = new ApplicationService(entityStore);
+        List<Entity> offers = new ArrayList<>(applications.listForStudent(userID, ApplicationService.STATUS_APPROVED));
 
         if (offers.isEmpty()) {
             System.out.println("No internship offers available.");
@@ -69,20 +53,13 @@ public class AcceptOfferController extends StudentController {
             return;
         }
 
-        Entity offer = entityStore.findById(APPLICATION_FILE, trimmedId, "Application");
-        if (offer == null || !offer.getArrayValueByIndex(1).equals(userID)) {
-            System.out.println("Invalid application ID.");
-            router.pop();
-            return;
+        try {
+            ApplicationEntity accepted = applications.acceptOffer(userID, trimmedId);
+            this.acceptedInternshipID = accepted.get(ApplicationEntity.ApplicationField.InternshipID);
+            System.out.println("Offer accepted successfully!");
+        } catch (ServiceException ex) {
+            System.out.println(ex.getMessage());
         }
-
-        // Update status
-        offer.setArrayValueByIndex(3,"Accepted");
-        entityStore.update(APPLICATION_FILE, trimmedId, offer, "Application");
-        thisStudent.set(StudentEntity.StudentField.AcceptedInternshipID, offer.getArrayValueByIndex(2));
-        StudentFilterService.saveStudent(entityStore, thisStudent);
-        this.acceptedInternshipID = offer.getArrayValueByIndex(2);
-        System.out.println("Offer accepted successfully!");
         router.pop();
     }
 }
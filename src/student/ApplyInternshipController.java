@@ -2,8 +2,6 @@ package student;
 
 import common.*;
 import exceptions.*;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 /**
@@ -12,12 +10,6 @@ import java.util.*;
 public class ApplyInternshipController extends StudentController {
 
     private final ApplyInternshipDisplay display;
-    private static final String INTERNSHIP_FILE =
-        PathResolver.resource("internship_opportunities.csv");
-    private static final String APPLICATION_FILE =
-        PathResolver.resource("internship_applications.csv");
-    private static final String STUDENT_FILE =
-        PathResolver.resource("student.csv");
 
     /**
      * Creates a controller enabling applications to internships.
@@ -25,13 +17,11 @@ public class ApplyInternshipController extends StudentController {
      * @param router    router managing navigation
      * @param scanner   shared console input
      * @param studentID identifier for the logged-in student
-     * @throws InvalidStudentIDException when {@code studentID} is invalid
      */
     @SuppressWarnings("LeakingThisInConstructor")
-    public ApplyInternshipController(Router router, Scanner scanner, EntityStore entityStore, String studentID) throws InvalidStudentIDException {
+    public ApplyInternshipController(Router router, Scanner scanner, EntityStore entityStore, String studentID) {
         super(router, scanner, entityStore, studentID);
         this.display = new ApplyInternshipDisplay(this);
-        router.push(this);
     }
 
     /**
@@ -40,14 +30,8 @@ public class ApplyInternshipController extends StudentController {
      */
     @Override
     public void initialize() {
-        List<Entity> internships = entityStore.loadAll(INTERNSHIP_FILE, "Internship");
-        List<InternshipEntity> visibleInternships = new ArrayList<>();
-        for (Entity entity : internships) {
-            InternshipEntity internship = (InternshipEntity) entity;
-            if (isVisible(internship)) {
-                visibleInternships.add(internship);
-            }
-        }
+        ApplicationService applications = new ApplicationService(entityStore);
+        List<InternshipEntity> visibleInternships = applications.listOpenInternships();
 
         if (visibleInternships.isEmpty()) {
             System.out.println("No internships available.");
@@ -69,104 +53,18 @@ public class ApplyInternshipController extends StudentController {
             return;
         }
 
-        Entity internship = entityStore.findById(INTERNSHIP_FILE, trimmedId, "Internship");
-        InternshipEntity selectedInternship = (InternshipEntity) internship;
-        if (selectedInternship == null || !isVisible(selectedInternship)) {
-            System.out.println("Invalid or unavailable Internship ID. Returning...");
-            router.pop();
-            return;
-        }
-
-        // Create a new application
-        String applicationId = UUID.randomUUID().toString();
-        /* String appID, String studentID, String internshipID,
-                String status, String submissionDate
-
-        InternshipID, Title, Description, Level, PreferredMajor,
-        OpenDate, CloseDate, Status, CompanyName, CRInCharge, Slots, Visibility
-
-           StudentID, Name, Major, Year, Email, PreferredMajors, PreferredInternshipLevel, PreferredClosingDate, InternshipStatus, AcceptedInternshipID
-                */
-        String formattedDate = LocalDate.now().toString();
-        LocalDate date1 = LocalDate.parse(formattedDate);
-        LocalDate date2;
         try {
-            date2 = LocalDate.parse(selectedInternship.get(InternshipEntity.InternshipField.CloseDate), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        } catch (Exception e) {
-            System.err.println("Invalid internship close date format.");
-            router.pop();
-            return;
-        }
-        Entity thisStudent = entityStore.findById(STUDENT_FILE, userID, "Student");
-        if (thisStudent == null) {
-            System.err.println("This student not found in database.");
-            router.pop();
-            return;
-        }
-        try {
-            String studentYear = optionalTrim(thisStudent.getArrayValueByIndex(3));
-            String internshipLevel = optionalTrim(selectedInternship.get(InternshipEntity.InternshipField.Level));
-            boolean beforeDeadline = date1.isBefore(date2);
-            boolean eligibleByYear = YearChecker.checkYear(studentYear, internshipLevel);
-
-            if (beforeDeadline && eligibleByYear) {
-                ApplicationEntity newApp = new ApplicationEntity(applicationId, userID, trimmedId, "Pending", formattedDate);
-                entityStore.append(APPLICATION_FILE, newApp);
-
-                System.out.println("Application submitted successfully!");
-                router.pop();
-            }
-            else{
+            applications.apply(userID, trimmedId);
+            System.out.println("Application submitted successfully!");
+        } catch (ServiceException ex) {
+            if (ex.getReason() == ServiceException.Reason.NOT_FOUND) {
+                System.out.println(ex.getMessage() + " Returning...");
+            } else {
                 System.out.println("Application Unsuccessful.");
-                if (!beforeDeadline) {
-                    System.out.println("Passed application deadline.");
-                } else {
-                    String displayLevel = internshipLevel.isEmpty() ? "this internship" : "the " + internshipLevel + " internship";
-                    if (studentYear.isEmpty()) {
-                        System.out.printf("Your current year allows applications only to Basic internships; %s requires a higher level.%n",
-                            displayLevel);
-                    } else {
-                        System.out.printf("Students in Year %s may only apply to Basic internships; %s requires a higher level.%n",
-                            studentYear, displayLevel);
-                    }
-                }
+                System.out.println(ex.getMessage());
             }
         }
-        catch (Exception e){
-            System.err.println("Invalid Application");
-            router.pop();
-        }
-
-    }
-
-    private static boolean isVisible(InternshipEntity internship) {
-        if (internship == null) {
-            return false;
-        }
-        String visibility = internship.get(InternshipEntity.InternshipField.Visibility);
-        return visibility == null || !"Hidden".equalsIgnoreCase(visibility.trim());
-    }
-
-    private static String optionalTrim(String value) {
-        if (value == null) {
-            return "";
-        }
-        return value.trim();
-    }
-
-    /**
-     * Helper used to verify that a student meets the internship level
-     * requirement.
-     */
-    private static class YearChecker {
-        /**
-         * Returns {@code true} when the student's year permits the selected
-         * internship level.
-         */
-        static boolean checkYear(String studentsAge, String internshipLevel) {
-            return !(("1".equals(studentsAge) || "2".equals(studentsAge))
-                    && !"Basic".equalsIgnoreCase(internshipLevel));
-        }
+        router.pop();
     }
 }
 
@@ -174,6 +72,10 @@ public class ApplyInternshipController extends StudentController {
  * Display helper for the internship application flow.
  */
 class ApplyInternshipDisplay extends Display {
+    private final PagedRenderer<InternshipEntity> renderer = new PagedRenderer<>(
+            "=== Available Internships ===" + System.lineSeparator(), "",
+            PagedRenderer.DEFAULT_PAGE_SIZE, this::format_entry);
+
     /**
      * Creates a display bound to the application controller.
      *
@@ -187,42 +89,45 @@ class ApplyInternshipDisplay extends Display {
     public void print_menu() {}
 
     /**
-     * Prints the internships available for application.
+     * Prints the first page of internships available for application.
      *
      * @param internships internships pulled from storage
      */
     public void print_list(List<InternshipEntity> internships) {
-        System.out.println("=== Available Internships ===");
-        int index = 1;
-        for (InternshipEntity internship : internships) {
-            System.out.printf("%d) %s%n", index++, fallback(internship.get(InternshipEntity.InternshipField.Title)));
-            System.out.printf("   ID: %s | Company: %s | Level: %s%n",
-                fallback(internship.get(InternshipEntity.InternshipField.InternshipID)),
-                fallback(internship.get(InternshipEntity.InternshipField.CompanyName)),
-                fallback(internship.get(InternshipEntity.InternshipField.Level)));
-            System.out.printf("   Major: %s | Slots: %s%n",
-                fallback(internship.get(InternshipEntity.InternshipField.PreferredMajor), "N/A"),
-                fallback(internship.get(InternshipEntity.InternshipField.Slots), "N/A"));
-            System.out.printf("   Open: %s | Close: %s | Status: %s%n",
-                fallback(internship.get(InternshipEntity.InternshipField.OpenDate), "N/A"),
-                fallback(internship.get(InternshipEntity.InternshipField.CloseDate), "N/A"),
-                fallback(internship.get(InternshipEntity.InternshipField.Status), "N/A"));
-            String description = fallback(internship.get(InternshipEntity.InternshipField.Description));
-            if (!description.isEmpty()) {
-                System.out.println("   Description: " + description);
-            }
-            System.out.println();
+        renderer.start(PagedRenderer.fromList(internships));
+    }
+
+    private void format_entry(Formatter out, int index, InternshipEntity internship) {
+        out.format("%d) %s%n", index, fallback(internship.get(InternshipEntity.InternshipField.Title)));
+        out.format("   ID: %s | Company: %s | Level: %s%n",
+            fallback(internship.get(InternshipEntity.InternshipField.InternshipID)),
+            fallback(internship.get(InternshipEntity.InternshipField.CompanyName)),
+            fallback(internship.get(InternshipEntity.InternshipField.Level)));
+        out.format("   Major: %s | Slots: %s%n",
+            fallback(internship.get(InternshipEntity.InternshipField.PreferredMajor), "N/A"),
+            fallback(internship.get(InternshipEntity.InternshipField.Slots), "N/A"));
+        out.format("   Open: %s | Close: %s | Status: %s%n",
+            fallback(internship.get(InternshipEntity.InternshipField.OpenDate), "N/A"),
+            fallback(internship.get(InternshipEntity.InternshipField.CloseDate), "N/A"),
+            fallback(internship.get(InternshipEntity.InternshipField.Status), "N/A"));
+        String description = fallback(internship.get(InternshipEntity.InternshipField.Description));
+        if (!description.isEmpty()) {
+            out.format("   Description: %s%n", description);
         }
+        out.format("%n");
     }
 
     /**
-     * Prompts the student for the internship identifier to apply to.
+     * Prompts the student for the internship identifier to apply to, turning pages
+     * when N or P is entered.
      *
      * @return provided internship identifier
      */
     public String ask_internship_id() {
-        System.out.print("Enter Internship ID to apply (or B to go back): ");
-        return get_user_input();
+        return renderer.select(() -> {
+            System.out.print("Enter Internship ID to apply (or B to go back): ");
+            return get_user_input();
+        });
     }
 
     private String fallback(String value) {
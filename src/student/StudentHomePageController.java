@@ -1,7 +1,6 @@
 package student;
 
 import common.*;
-import exceptions.*;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
 
@@ -12,13 +11,14 @@ import java.util.Scanner;
 public class StudentHomePageController extends StudentController {
 
     private final StudentHomeDisplay studentDisplay;
+    private final ControllerFactory controllerFactory;
 
     // Constructor
     @SuppressWarnings("LeakingThisInConstructor")
-    public StudentHomePageController(Router router, Scanner scanner, EntityStore entityStore, String studentID) throws InvalidStudentIDException {
+    public StudentHomePageController(Router router, Scanner scanner, EntityStore entityStore, String studentID) {
         super(router, scanner, entityStore, studentID);
         this.studentDisplay = new StudentHomeDisplay(this);
-        router.replace(this); // swap into this controller
+        this.controllerFactory = new StudentHomeRegistry(router, scanner, entityStore, studentID);
     }
 
     @Override
@@ -29,6 +29,10 @@ public class StudentHomePageController extends StudentController {
 
     private void handleMenu() {
         while (true) {
+            int unread = NotificationCenter.of(entityStore).unreadCount(studentID);
+            if (unread > 0) {
+                System.out.println("You have " + unread + " unread notification(s). Select 11 to view them.");
+            }
             studentDisplay.print_menu();
             if (!scanner.hasNextLine()) {
                 System.out.println("Input stream closed. Logging out...");
@@ -40,25 +44,19 @@ public class StudentHomePageController extends StudentController {
 
             try {
                 switch (choice) {
-                    case "1" -> new ViewInternshipController(router, scanner, entityStore, studentID);
-                    case "2" -> new UpdateInternshipFiltersController(router, scanner, entityStore, studentID);
                     case "3" -> handleClearFilters();
-                    case "4" -> new ApplyInternshipController(router, scanner, entityStore, studentID);
-                    case "5" -> new ViewApplicationsController(router, scanner, entityStore, studentID);
-                    case "6" -> new WithdrawalRequestController(router, scanner, entityStore, studentID);
-                    case "7" -> new AcceptOfferController(router, scanner, entityStore, studentID);
-                    case "8" -> new PasswordChanger(router, scanner, entityStore, userID); // run change password
-                    case "9" -> new ViewBookmarkedInternshipsController(router, scanner, entityStore, studentID);
-                    case "10" -> new ViewApplicationHistoryController(router, scanner, entityStore, studentID);
-                    case "11" -> {
+                    case "12" -> {
                         System.out.println("Logging out...");
                         router.pop();
                         return; // exit the loop
                     }
-                    default -> System.out.println("Invalid option. Try again.");
+                    default -> controllerFactory.createController(choice);
+                }
+                if (!router.isActive(this)) {
+                    return; // the router runs the chosen page, then re-initializes this menu
                 }
-            } catch (InvalidStudentIDException ex) {
-                System.out.println("An error occurred: " + ex.getMessage());
+            } catch (IllegalArgumentException ex) {
+                System.out.println("Invalid option. Try again.");
             } catch (NoSuchElementException | IllegalStateException eof) {
                 System.out.println("Input stream closed. Logging out...");
                 router.pop();
@@ -91,7 +89,8 @@ public class StudentHomePageController extends StudentController {
             System.out.println("8. Change password");
             System.out.println("9. View bookmarked internships");
             System.out.println("10. View application history");
-            System.out.println("11. Logout");
+            System.out.println("11. View notifications");
+            System.out.println("12. Logout");
             System.out.print("Select an option: ");
         }
     }
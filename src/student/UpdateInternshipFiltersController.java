@@ -1,7 +1,7 @@
 package student;
 
 import common.*;
-import exceptions.InvalidStudentIDException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
@@ -10,6 +10,8 @@ import java.util.Scanner;
  */
 public class UpdateInternshipFiltersController extends StudentController {
 
+    private static final List<String> STANDARD_LEVELS = List.of("Basic", "Intermediate", "Advanced");
+
     private final UpdateInternshipFiltersDisplay display;
     private StudentEntity studentEntity;
 
@@ -19,13 +21,11 @@ public class UpdateInternshipFiltersController extends StudentController {
      * @param router    router managing navigation
      * @param scanner   shared console input
      * @param studentID identifier for the logged-in student
-     * @throws InvalidStudentIDException when {@code studentID} cannot be located
      */
     @SuppressWarnings("LeakingThisInConstructor")
-    public UpdateInternshipFiltersController(Router router, Scanner scanner, EntityStore entityStore, String studentID) throws InvalidStudentIDException {
+    public UpdateInternshipFiltersController(Router router, Scanner scanner, EntityStore entityStore, String studentID) {
         super(router, scanner, entityStore, studentID);
         this.display = new UpdateInternshipFiltersDisplay(this);
-        router.push(this);
     }
 
     /**
@@ -63,21 +63,32 @@ public class UpdateInternshipFiltersController extends StudentController {
     }
 
     /**
-     * Updates the preferred internship level filter based on user input.
+     * Updates the preferred internship level filter based on user input. The standard
+     * levels keep their positions; any other level found in the listings follows them.
      */
     private void updateLevel() {
-        display.printLevelOptions();
-        String choice = display.get_user_input();
-        switch (choice) {
-            case "1" -> studentEntity.set(StudentEntity.StudentField.FilterLevel, StudentEntity.NO_FILTER_VALUE);
-            case "2" -> studentEntity.set(StudentEntity.StudentField.FilterLevel, "Basic");
-            case "3" -> studentEntity.set(StudentEntity.StudentField.FilterLevel, "Intermediate");
-            case "4" -> studentEntity.set(StudentEntity.StudentField.FilterLevel, "Advanced");
-            default -> {
-                System.out.println("No changes made to level filter.");
-                return;
+        List<String> levels = new ArrayList<>(STANDARD_LEVELS);
+        for (String level : StudentFilterService.listLevels(entityStore)) {
+            if (levels.stream().noneMatch(level::equalsIgnoreCase)) {
+                levels.add(level);
             }
         }
+        display.printLevelOptions(levels);
+        String choice = display.get_user_input();
+        int index;
+        try {
+            index = Integer.parseInt(choice.trim());
+        } catch (NumberFormatException ex) {
+            index = -1;
+        }
+        if (index == 1) {
+            studentEntity.set(StudentEntity.StudentField.FilterLevel, StudentEntity.NO_FILTER_VALUE);
+        } else if (index >= 2 && index <= levels.size() + 1) {
+            studentEntity.set(StudentEntity.StudentField.FilterLevel, levels.get(index - 2));
+        } else {
+            System.out.println("No changes made to level filter.");
+            return;
+        }
         System.out.println("Level filter updated to: " + studentEntity.get(StudentEntity.StudentField.FilterLevel));
     }
 
@@ -87,32 +98,37 @@ public class UpdateInternshipFiltersController extends StudentController {
     private void updateCompany() {
         List<String> companies = StudentFilterService.listCompanies(entityStore);
         display.printCompanyOptions(companies);
-        String choice = display.get_user_input();
-        String newValue;
-        if ("0".equals(choice)) {
-            newValue = StudentEntity.NO_FILTER_VALUE;
-        } else {
-            try {
-                int index = Integer.parseInt(choice);
-                if (index >= 1 && index <= companies.size()) {
-                    newValue = companies.get(index - 1);
-                } else {
-                    System.out.println("Invalid selection. No changes made to company filter.");
-                    return;
-                }
-            } catch (NumberFormatException ex) {
-                newValue = choice.trim();
-                if (newValue.isEmpty()) {
-                    newValue = StudentEntity.NO_FILTER_VALUE;
-                } else if (newValue.equalsIgnoreCase(StudentEntity.NO_FILTER_VALUE)) {
-                    newValue = StudentEntity.NO_FILTER_VALUE;
-                }
-            }
+        String newValue = resolveSelection(display.get_user_input(), companies);
+        if (newValue == null) {
+            System.out.println("Invalid selection. No changes made to company filter.");
+            return;
         }
         studentEntity.set(StudentEntity.StudentField.FilterCompany, newValue);
         System.out.println("Company filter updated to: " + studentEntity.get(StudentEntity.StudentField.FilterCompany));
     }
 
+    /**
+     * Resolves a menu answer that is either a list position, {@code 0} for none, or a
+     * free-text value.
+     *
+     * @param choice  raw user input
+     * @param options values listed in the menu
+     * @return selected value, {@link StudentEntity#NO_FILTER_VALUE} for none, or
+     *         {@code null} when the number is out of range
+     */
+    private String resolveSelection(String choice, List<String> options) {
+        String trimmed = choice.trim();
+        if (trimmed.isEmpty() || "0".equals(trimmed) || trimmed.equalsIgnoreCase(StudentEntity.NO_FILTER_VALUE)) {
+            return StudentEntity.NO_FILTER_VALUE;
+        }
+        try {
+            int index = Integer.parseInt(trimmed);
+            return index >= 1 && index <= options.size() ? options.get(index - 1) : null;
+        } catch (NumberFormatException ex) {
+            return trimmed;
+        }
+    }
+
     /**
      * Updates the status filter reflecting internship approval state.
      */
@@ -137,11 +153,12 @@ public class UpdateInternshipFiltersController extends StudentController {
      * Updates the preferred major filter stored on the student record.
      */
     private void updateMajor() {
-        display.promptForMajor();
-        String input = display.get_user_input().trim();
-        String newValue = input.isEmpty() ? StudentEntity.NO_FILTER_VALUE : input;
-        if (!input.isEmpty() && input.equalsIgnoreCase(StudentEntity.NO_FILTER_VALUE)) {
-            newValue = StudentEntity.NO_FILTER_VALUE;
+        List<String> majors = StudentFilterService.listMajors(entityStore);
+        display.promptForMajor(majors);
+        String newValue = resolveSelection(display.get_user_input(), majors);
+        if (newValue == null) {
+            System.out.println("Invalid selection. No changes made to major filter.");
+            return;
         }
         studentEntity.set(StudentEntity.StudentField.FilterMajor, newValue);
         System.out.println("Preferred major filter updated to: " + studentEntity.get(StudentEntity.StudentField.FilterMajor));
@@ -157,6 +174,7 @@ public class UpdateInternshipFiltersController extends StudentController {
             case "1" -> studentEntity.set(StudentEntity.StudentField.FilterClosingSort, StudentEntity.NO_FILTER_VALUE);
             case "2" -> studentEntity.set(StudentEntity.StudentField.FilterClosingSort, StudentFilterService.SORT_SOONEST);
             case "3" -> studentEntity.set(StudentEntity.StudentField.FilterClosingSort, StudentFilterService.SORT_LATEST);
+            case "4" -> studentEntity.set(StudentEntity.StudentField.FilterClosingSort, StudentFilterService.SORT_BEST_MATCH);
             default -> {
                 System.out.println("No changes made to closing date preference.");
                 return;
@@ -213,13 +231,15 @@ class UpdateInternshipFiltersDisplay extends Display {
 
     /**
      * Presents internship level options.
+     *
+     * @param levels selectable levels, numbered from 2
      */
-    public void printLevelOptions() {
+    public void printLevelOptions(List<String> levels) {
         System.out.println("Select level filter:");
         System.out.println("1. None");
-        System.out.println("2. Basic");
-        System.out.println("3. Intermediate");
-        System.out.println("4. Advanced");
+        for (int i = 0; i < levels.size(); i++) {
+            System.out.printf("%d. %s%n", i + 2, levels.get(i));
+        }
         System.out.print("Choice: ");
     }
 
@@ -251,10 +271,17 @@ class UpdateInternshipFiltersDisplay extends Display {
     }
 
     /**
-     * Prompts for a preferred major value.
+     * Lists known majors and prompts for a selection or a typed value.
+     *
+     * @param majors majors referenced by current internships
      */
-    public void promptForMajor() {
-        System.out.print("Enter preferred major (leave blank for none): ");
+    public void promptForMajor(List<String> majors) {
+        System.out.println("Select preferred major (enter number or type a major, leave blank for none):");
+        System.out.println("0. None");
+        for (int i = 0; i < majors.size(); i++) {
+            System.out.printf("%d. %s%n", i + 1, majors.get(i));
+        }
+        System.out.print("Choice: ");
     }
 
     /**
@@ -265,6 +292,7 @@ class UpdateInternshipFiltersDisplay extends Display {
         System.out.println("1. Alphabetical by title (default)");
         System.out.println("2. Soonest closing first");
         System.out.println("3. Latest closing first");
+        System.out.println("4. Best match for my profile");
         System.out.print("Choice: ");
     }
 
@@ -16,18 +16,16 @@ public class ViewApplicationHistoryController extends StudentController {
         PathResolver.resource("internship_opportunities.csv");
 
     /**
-     * Creates the controller and registers it with the router.
+     * Creates the controller.
      *
      * @param router    navigation router controlling screen stack
      * @param scanner   shared scanner for CLI prompts
      * @param entityStore persistence boundary for student data needs
      * @param studentID current authenticated student identifier
-     * @throws InvalidStudentIDException when the ID fails validation
      */
-    public ViewApplicationHistoryController(Router router, Scanner scanner, EntityStore entityStore, String studentID) throws InvalidStudentIDException {
+    public ViewApplicationHistoryController(Router router, Scanner scanner, EntityStore entityStore, String studentID) {
         super(router, scanner, entityStore, studentID);
         this.display = new ViewApplicationHistoryDisplay(this);
-        router.push(this);
     }
 
     @Override
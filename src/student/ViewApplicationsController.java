@@ -19,13 +19,11 @@ public class ViewApplicationsController extends StudentController {
      * @param router    router managing navigation
      * @param scanner   shared console input
      * @param studentID identifier for the logged-in student
-     * @throws InvalidStudentIDException when {@code studentID} is invalid
      */
     @SuppressWarnings("LeakingThisInConstructor")
-    public ViewApplicationsController(Router router, Scanner scanner, EntityStore entityStore, String studentID) throws InvalidStudentIDException {
+    public ViewApplicationsController(Router router, Scanner scanner, EntityStore entityStore, String studentID) {
         super(router, scanner, entityStore, studentID);
         this.display = new ViewApplicationsDisplay(this);
-        router.push(this);
     }
 
     /**
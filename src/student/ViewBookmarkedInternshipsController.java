@@ -16,18 +16,16 @@ public class ViewBookmarkedInternshipsController extends StudentController {
         PathResolver.resource("internship_opportunities.csv");
 
     /**
-     * Creates the controller and attaches it to the router stack.
+     * Creates the controller.
      *
      * @param router    router managing controller transitions
      * @param scanner   shared scanner for CLI input
      * @param entityStore persistence gateway
      * @param studentID current student identifier
-     * @throws InvalidStudentIDException when the student ID fails validation
      */
-    public ViewBookmarkedInternshipsController(Router router, Scanner scanner, EntityStore entityStore, String studentID) throws InvalidStudentIDException {
+    public ViewBookmarkedInternshipsController(Router router, Scanner scanner, EntityStore entityStore, String studentID) {
         super(router, scanner, entityStore, studentID);
         this.display = new ViewBookmarkedInternshipsDisplay(this);
-        router.push(this);
     }
 
     @Override
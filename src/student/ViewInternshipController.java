@@ -3,6 +3,7 @@ package student;
 import common.*;
 import exceptions.*;
 import java.util.*;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Presents internship listings filtered according to the student's saved
@@ -10,9 +11,9 @@ import java.util.*;
  */
 public class ViewInternshipController extends StudentController {
 
+    private static final int BEST_MATCH_LIMIT = 10;
+
     private final ViewInternshipDisplay display;
-    private static final String INTERNSHIP_FILE =
-        PathResolver.resource("internship_opportunities.csv");
     private static final String BOOKMARKS_FILE =
         PathResolver.resource("bookmarked_internships.csv");
 
@@ -22,13 +23,11 @@ public class ViewInternshipController extends StudentController {
      * @param router    router managing navigation
      * @param scanner   shared console input
      * @param studentID identifier for the logged-in student
-     * @throws InvalidStudentIDException when {@code studentID} cannot be resolved
      */
     @SuppressWarnings("LeakingThisInConstructor")
-    public ViewInternshipController(Router router, Scanner scanner, EntityStore entityStore, String studentID) throws InvalidStudentIDException {
+    public ViewInternshipController(Router router, Scanner scanner, EntityStore entityStore, String studentID) {
         super(router, scanner, entityStore, studentID);
         this.display = new ViewInternshipDisplay(this);
-        router.push(this);
     }
 
     /**
@@ -44,22 +43,13 @@ public class ViewInternshipController extends StudentController {
             return;
         }
 
-        List<Entity> internships = entityStore.loadAll(INTERNSHIP_FILE, "Internship");
-        if (internships.isEmpty()) {
-            System.out.println("No internships available at the moment.");
-            router.pop();
-            return;
-        }
-
         StudentFilterService.StudentFilters filters = StudentFilterService.extractFilters(student);
-        List<InternshipEntity> filteredInternships = new ArrayList<>();
-        for (Entity entity : internships) {
-            InternshipEntity internship = (InternshipEntity) entity;
-            if (StudentFilterService.matchesFilters(internship, filters)) {
-                filteredInternships.add(internship);
-            }
+        if (filters.sortByBestMatch()) {
+            showBestMatches(student, filters);
+            return;
         }
 
+        List<InternshipEntity> filteredInternships = StudentFilterService.findInternships(entityStore, filters);
         if (filteredInternships.isEmpty()) {
             display.print_menu(filters);
             System.out.println("No internships match your current filters.");
@@ -69,13 +59,33 @@ public class ViewInternshipController extends StudentController {
             return;
         }
 
-        StudentFilterService.sortInternships(filteredInternships, filters);
         display.print_menu(filters);
         display.print_list(filteredInternships);
         handleBookmarking(filteredInternships);
         router.pop();
     }
 
+    /**
+     * Lists the internships that best fit the student's profile, read from the
+     * cohort ranking maintained by {@link InternshipRankingService}.
+     */
+    private void showBestMatches(StudentEntity student, StudentFilterService.StudentFilters filters) {
+        InternshipRankingService ranking = InternshipRankingService.of(entityStore);
+        List<InternshipEntity> matches = ranking.topMatches(student, filters, BEST_MATCH_LIMIT);
+        display.print_menu(filters);
+        if (matches.isEmpty()) {
+            System.out.println("No open internships match your current filters.");
+            System.out.println("\nPress Enter to return...");
+            display.get_user_input();
+            router.pop();
+            return;
+        }
+        System.out.printf("Top %d matches for your profile:%n", matches.size());
+        display.print_ranked_list(matches, internship -> ranking.score(student, internship));
+        handleBookmarking(matches);
+        router.pop();
+    }
+
     private void handleBookmarking(List<InternshipEntity> internships) {
         while (true) {
             System.out.println("\nEnter internship ID to bookmark/unbookmark (or 'done' to exit): ");
@@ -88,6 +98,9 @@ public class ViewInternshipController extends StudentController {
             if (input.isEmpty() || input.equalsIgnoreCase("done")) {
                 break;
             }
+            if (display.turn_page(input)) {
+                continue;
+            }
             
             InternshipEntity selectedInternship = null;
             for (InternshipEntity internship : internships) {
@@ -155,6 +168,21 @@ public class ViewInternshipController extends StudentController {
  * Display helper for presenting internships and filter summaries.
  */
 class ViewInternshipDisplay extends Display {
+    private static final int PAGE_SIZE = 10;
+    private static final String SEPARATOR = "----------------------------------------" + System.lineSeparator();
+
+    private ToDoubleFunction<InternshipEntity> scorer = internship -> 0.0;
+    private final PagedRenderer<InternshipEntity> listRenderer =
+            new PagedRenderer<>("", SEPARATOR, PAGE_SIZE, (out, number, internship) -> {
+                out.format("%s", SEPARATOR);
+                format_entry(out, internship);
+            });
+    private final PagedRenderer<InternshipEntity> rankedRenderer =
+            new PagedRenderer<>("", SEPARATOR, PAGE_SIZE, (out, rank, internship) -> {
+                out.format("%s#%d (match score %.0f/100)%n", SEPARATOR, rank, scorer.applyAsDouble(internship));
+                format_entry(out, internship);
+            });
+    private PagedRenderer<InternshipEntity> active = listRenderer;
 
     /**
      * Creates a display bound to the internship listing controller.
@@ -193,24 +221,51 @@ class ViewInternshipDisplay extends Display {
     }
 
     /**
-     * Renders the details of each internship in the provided list.
+     * Renders the first page of internships in the provided list.
      *
      * @param internships internships to display
      */
     public void print_list(List<InternshipEntity> internships) {
-        for (InternshipEntity internship : internships) {
-            System.out.println("----------------------------------------");
-            System.out.println("ID: " + safe(internship.get(InternshipEntity.InternshipField.InternshipID)));
-            System.out.println("Title: " + safe(internship.get(InternshipEntity.InternshipField.Title)));
-            System.out.println("Company: " + safe(internship.get(InternshipEntity.InternshipField.CompanyName)));
-            System.out.println("Level: " + safe(internship.get(InternshipEntity.InternshipField.Level)));
-            System.out.println("Preferred Major: " + safe(internship.get(InternshipEntity.InternshipField.PreferredMajor)));
-            System.out.println("Status: " + safe(internship.get(InternshipEntity.InternshipField.Status)));
-            System.out.println("Open Date: " + safe(internship.get(InternshipEntity.InternshipField.OpenDate)));
-            System.out.println("Close Date: " + safe(internship.get(InternshipEntity.InternshipField.CloseDate)));
-            System.out.println("Slots: " + safe(internship.get(InternshipEntity.InternshipField.Slots)));
-        }
-        System.out.println("----------------------------------------");
+        active = listRenderer;
+        active.start(PagedRenderer.fromList(internships));
+    }
+
+    /**
+     * Writes the detail lines of one internship into the page buffer.
+     */
+    private void format_entry(Formatter out, InternshipEntity internship) {
+        out.format("ID: %s%n", safe(internship.get(InternshipEntity.InternshipField.InternshipID)));
+        out.format("Title: %s%n", safe(internship.get(InternshipEntity.InternshipField.Title)));
+        out.format("Company: %s%n", safe(internship.get(InternshipEntity.InternshipField.CompanyName)));
+        out.format("Level: %s%n", safe(internship.get(InternshipEntity.InternshipField.Level)));
+        out.format("Preferred Major: %s%n", safe(internship.get(InternshipEntity.InternshipField.PreferredMajor)));
+        out.format("Status: %s%n", safe(internship.get(InternshipEntity.InternshipField.Status)));
+        out.format("Open Date: %s%n", safe(internship.get(InternshipEntity.InternshipField.OpenDate)));
+        out.format("Close Date: %s%n", safe(internship.get(InternshipEntity.InternshipField.CloseDate)));
+        out.format("Slots: %s%n", safe(internship.get(InternshipEntity.InternshipField.Slots)));
+    }
+
+    /**
+     * Renders ranked internships with their match score.
+     *
+     * @param internships internships in rank order
+     * @param scorer      supplies the match score of each internship
+     */
+    public void print_ranked_list(List<InternshipEntity> internships,
+                                  ToDoubleFunction<InternshipEntity> scorer) {
+        this.scorer = scorer;
+        active = rankedRenderer;
+        active.start(PagedRenderer.fromList(internships));
+    }
+
+    /**
+     * Moves the listing shown last to another page when the input is N or P.
+     *
+     * @param input answer entered by the student
+     * @return {@code true} when the input was a page command
+     */
+    public boolean turn_page(String input) {
+        return active.turnPage(input);
     }
 
     /**
@@ -0,0 +1,68 @@
+package student;
+
+import common.*;
+import exceptions.*;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * Controller that shows a student's notification inbox and marks the shown notifications as read.
+ */
+public class ViewNotificationsController extends StudentController {
+
+    private final ViewNotificationsDisplay display;
+
+    /**
+     * Creates the controller.
+     *
+     * @param router      navigation router controlling screen stack
+     * @param scanner     shared scanner for CLI prompts
+     * @param entityStore persistence boundary for student data needs
+     * @param studentID   current authenticated student identifier
+     */
+    @SuppressWarnings("LeakingThisInConstructor")
+    public ViewNotificationsController(Router router, Scanner scanner, EntityStore entityStore, String studentID) {
+        super(router, scanner, entityStore, studentID);
+        this.display = new ViewNotificationsDisplay(this);
+    }
+
+    @Override
+    public void initialize() {
+        NotificationCenter notifications = NotificationCenter.of(entityStore);
+        List<NotificationEntity> inbox = notifications.inbox(studentID);
+        display.print_list(inbox);
+        notifications.markRead(inbox);
+        System.out.println("\nPress Enter to return...");
+        display.get_user_input();
+        router.pop();
+    }
+}
+
+class ViewNotificationsDisplay extends Display {
+
+    public ViewNotificationsDisplay(Controller owner) {
+        super(owner);
+    }
+
+    @Override
+    public void print_menu() {}
+
+    /**
+     * Renders the inbox, flagging notifications that have not been opened before.
+     *
+     * @param notifications notifications, newest first
+     */
+    public void print_list(List<NotificationEntity> notifications) {
+        System.out.println("=== Notifications ===");
+        if (notifications.isEmpty()) {
+            System.out.println("You have no notifications.");
+            return;
+        }
+        for (int i = 0; i < notifications.size(); i++) {
+            NotificationEntity notification = notifications.get(i);
+            System.out.println((i + 1) + ". " + (notification.isRead() ? "" : "[NEW] ")
+                    + notification.get(NotificationEntity.NotificationField.CreatedAt).replace('T', ' ')
+                    + " | " + notification.get(NotificationEntity.NotificationField.Message));
+        }
+    }
+}
@@ -10,10 +10,6 @@ import java.util.*;
 public class WithdrawalRequestController extends StudentController {
 
     private final WithdrawalDisplay display;
-    private static final String APPLICATION_FILE =
-        PathResolver.resource("internship_applications.csv");
-    private static final String WITHDRAWAL_FILE =
-        PathResolver.resource("pending_withdrawal.csv");
 
     /**
      * Creates a controller that captures withdrawal requests.
@@ -21,13 +17,11 @@ public class WithdrawalRequestController extends StudentController {
      * @param router    router managing navigation
      * @param scanner   shared console input
      * @param studentID identifier for the logged-in student
-     * @throws InvalidStudentIDException when {@code studentID} cannot be resolved
      */
     @SuppressWarnings("LeakingThisInConstructor")
-    public WithdrawalRequestController(Router router, Scanner scanner, EntityStore entityStore, String studentID) throws InvalidStudentIDException {
+    public WithdrawalRequestController(Router router, Scanner scanner, EntityStore entityStore, String studentID) {
         super(router, scanner, entityStore, studentID);
         this.display = new WithdrawalDisplay(this);
-        router.push(this);
     }
 
     /**
@@ -36,14 +30,7 @@ public class WithdrawalRequestController extends StudentController {
      */
     @Override
     public void initialize() {
-        List<Entity> applications = entityStore.loadAll(APPLICATION_FILE, "Application");
-        List<Entity> myApps = new ArrayList<>();
-
-        for (Entity e : applications) {
-            if (e.getArrayValueByIndex(1).equals(userID)) {
-                myApps.add(e);
-            }
-        }
+        List<Entity> myApps = new ArrayList<>(new ApplicationService(entityStore).listForStudent(userID, null));
 
         if (myApps.isEmpty()) {
             System.out.println("No applications to withdraw from.");
@@ -65,15 +52,12 @@ public class WithdrawalRequestController extends StudentController {
             return;
         }
 
-        Entity app = entityStore.findById(APPLICATION_FILE, trimmedId, "Application");
-        if (app == null || !app.getArrayValueByIndex(1).equals(userID)) {
-            System.out.println("Invalid application ID.");
-            router.pop();
-            return;
+        try {
+            new ApplicationService(entityStore).requestWithdrawal(userID, trimmedId);
+            System.out.println("Application withdrawal submitted.");
+        } catch (ServiceException ex) {
+            System.out.println(ex.getMessage());
         }
-
-        entityStore.append(WITHDRAWAL_FILE, app);
-        System.out.println("Application withdrawal submitted.");
         router.pop();
     }
 }